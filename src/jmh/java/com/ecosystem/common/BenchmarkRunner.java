@@ -0,0 +1,43 @@
+package com.ecosystem.common;
+
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point for the JMH benchmark suite.
+ * <p>
+ * Accepts the regular JMH command line (include patterns, {@code -prof gc}, {@code -f}, ...).
+ * Unless a thread count is given explicitly with {@code -t}, every selected benchmark is run
+ * twice: single-threaded and contended with one thread per available processor.
+ * </p>
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Runs the selected benchmarks.
+     *
+     * @param args JMH command line arguments
+     * @throws CommandLineOptionException if the arguments cannot be parsed
+     * @throws RunnerException            if a benchmark run fails
+     */
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+        CommandLineOptions cli = new CommandLineOptions(args);
+        if (cli.getThreads().hasValue()) {
+            new Runner(cli).run();
+            return;
+        }
+        int contended = Math.max(2, Runtime.getRuntime().availableProcessors());
+        for (int threads : new int[] {1, contended}) {
+            Options options = new OptionsBuilder().parent(cli).threads(threads).build();
+            new Runner(options).run();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.ecosystem.common.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link TtlCache} against a synchronized access-ordered {@link LinkedHashMap},
+ * the ad-hoc LRU cache it replaces. The contended run of the benchmark runner measures lock
+ * striping under load.
+ * <p>
+ * Keys follow a skewed distribution over ten times the cache size, so that the mix of hits,
+ * misses and evictions resembles a user lookup cache.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TtlCacheBenchmark {
+
+    private static final int KEYS = 1 << 14;
+
+    @Param({"10000"})
+    private int maximumSize;
+
+    private TtlCache<Integer, Integer> cache;
+    private Map<Integer, Integer> synchronizedLru;
+    private int[] keys;
+
+    /**
+     * Builds and pre-fills both caches.
+     */
+    @Setup
+    public void setUp() {
+        cache = TtlCache.<Integer, Integer>builder().maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofMinutes(5)).build();
+        int capacity = maximumSize;
+        synchronizedLru = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Integer> eldest) {
+                return size() > capacity;
+            }
+        });
+        Random random = new Random(42);
+        keys = new int[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            // Squaring a uniform variate favours small keys: a simple skewed popularity
+            double u = random.nextDouble();
+            keys[i] = (int) (u * u * maximumSize * 10);
+        }
+        for (int key : keys) {
+            cache.put(key, key);
+            synchronizedLru.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public Integer ttlCacheGetOrLoad(Cursor cursor) {
+        return cache.get(keys[cursor.next()], key -> key);
+    }
+
+    @Benchmark
+    public Integer synchronizedLruGetOrLoad(Cursor cursor) {
+        int key = keys[cursor.next()];
+        Integer value = synchronizedLru.get(key);
+        if (value == null) {
+            synchronizedLru.put(key, key);
+            value = key;
+        }
+        return value;
+    }
+
+    @Benchmark
+    public Integer ttlCacheGetIfPresent(Cursor cursor) {
+        return cache.getIfPresent(keys[cursor.next()]);
+    }
+
+    /**
+     * Per-thread position in the key sequence, so threads do not share a counter.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int position = (int) Thread.currentThread().getId() * 7_919;
+
+        int next() {
+            position = (position + 1) & (KEYS - 1);
+            return position;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.ecosystem.common.codec;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.json.EcosystemModule;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Compares the binary wire codec with the {@link EcosystemModule} JSON codecs for an
+ * {@code ApiResponse<List<UserDto>>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BinaryCodecBenchmark {
+
+    private static final BinaryCodec<ApiResponse<List<UserDto>>> CODEC =
+            ApiResponseBinaryCodec.of(ListBinaryCodec.of(UserDtoBinaryCodec.INSTANCE));
+
+    @Param({"1", "100"})
+    private int users;
+
+    @Param({"HEAP", "DIRECT"})
+    private String buffer;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new EcosystemModule());
+    private ObjectReader jsonReader;
+    private ApiResponse<List<UserDto>> response;
+    private ByteBuffer binary;
+    private byte[] json;
+
+    /**
+     * Builds the response and pre-encodes it in both formats.
+     *
+     * @throws IOException if JSON encoding fails
+     */
+    @Setup
+    public void setUp() throws IOException {
+        Instant now = Instant.parse("2024-01-15T10:30:00.123Z");
+        List<UserDto> list = LongStream.range(0, users).mapToObj(id -> new UserDto(id, "user" + id,
+                "user" + id + "@example.com", "User Number " + id, now, now.plusMillis(id))).toList();
+        response = new ApiResponse<>(true, "Success", list, now);
+        ByteBuffer heap = BinaryFrames.encode(response, CODEC);
+        binary = "DIRECT".equals(buffer) ? ByteBuffer.allocateDirect(heap.remaining()).put(heap).flip() : heap;
+        json = mapper.writeValueAsBytes(response);
+        jsonReader = mapper.readerFor(new TypeReference<ApiResponse<List<UserDto>>>() { });
+    }
+
+    @Benchmark
+    public ByteBuffer encodeBinary() {
+        return BinaryFrames.encode(response, CODEC);
+    }
+
+    @Benchmark
+    public ApiResponse<List<UserDto>> decodeBinary() {
+        return BinaryFrames.read(binary.duplicate(), CODEC);
+    }
+
+    @Benchmark
+    public byte[] encodeJson() throws IOException {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<UserDto>> decodeJson() throws IOException {
+        return jsonReader.readValue(json);
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecosystem.common.collection;
+
+import com.ecosystem.common.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares lookups by id in {@link LongObjectMap} and {@link ConcurrentLongObjectMap} with
+ * {@code HashMap<Long, UserDto>} and {@code ConcurrentHashMap<Long, UserDto>}, and the cost of
+ * building each map from primitive ids and a list of users. Run the build benchmarks with
+ * {@code -prof gc}: as the maps are presized, {@code gc.alloc.rate.norm} is the footprint of one
+ * map, including the {@code Long} keys that the boxed maps allocate.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LongObjectMapBenchmark {
+
+    @Param({"1000", "1000000"})
+    private int size;
+
+    private List<UserDto> users;
+    private long[] ids;
+    private LongObjectMap<UserDto> longObjectMap;
+    private ConcurrentLongObjectMap<UserDto> concurrentLongObjectMap;
+    private Map<Long, UserDto> hashMap;
+    private Map<Long, UserDto> concurrentHashMap;
+
+    /**
+     * Creates the users with random distinct ids, so that no map gains from sequential keys, and
+     * fills every map.
+     */
+    @Setup
+    public void setUp() {
+        Instant now = Instant.parse("2024-01-15T10:30:00Z");
+        users = ThreadLocalRandom.current().longs(size, 1, 1L << 40).distinct().limit(size)
+                .mapToObj(id -> new UserDto(id, "user" + id, "user" + id + "@example.com", null, now, now))
+                .collect(Collectors.toList());
+        ids = users.stream().mapToLong(UserDto::id).toArray();
+        longObjectMap = buildLongObjectMap();
+        concurrentLongObjectMap = buildConcurrentLongObjectMap();
+        hashMap = buildHashMap();
+        concurrentHashMap = new ConcurrentHashMap<>(hashMap);
+    }
+
+    @Benchmark
+    public UserDto longObjectMapGet() {
+        return longObjectMap.get(randomId());
+    }
+
+    @Benchmark
+    public UserDto concurrentLongObjectMapGet() {
+        return concurrentLongObjectMap.get(randomId());
+    }
+
+    @Benchmark
+    public UserDto hashMapGet() {
+        return hashMap.get(randomId());
+    }
+
+    @Benchmark
+    public UserDto concurrentHashMapGet() {
+        return concurrentHashMap.get(randomId());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public LongObjectMap<UserDto> buildLongObjectMap() {
+        LongObjectMap<UserDto> map = new LongObjectMap<>(users.size());
+        for (int i = 0; i < ids.length; i++) {
+            map.put(ids[i], users.get(i));
+        }
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public ConcurrentLongObjectMap<UserDto> buildConcurrentLongObjectMap() {
+        ConcurrentLongObjectMap<UserDto> map = new ConcurrentLongObjectMap<>(users.size());
+        for (int i = 0; i < ids.length; i++) {
+            map.put(ids[i], users.get(i));
+        }
+        return map;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    public Map<Long, UserDto> buildHashMap() {
+        Map<Long, UserDto> map = HashMap.newHashMap(users.size());
+        for (int i = 0; i < ids.length; i++) {
+            map.put(ids[i], users.get(i));
+        }
+        return map;
+    }
+
+    // Ids are looked up as callers hold them, as primitives parsed from a path or a column
+    private long randomId() {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+}
@@ -0,0 +1,70 @@
+package com.ecosystem.common.concurrent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Compares calling several blocking services one after another with a {@link FanOut} over
+ * virtual threads. Each simulated call blocks for 200 microseconds, as a remote call would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FanOutBenchmark {
+
+    private static final long CALL_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    @Param({"4", "32"})
+    private int calls;
+
+    private FanOut fanOut;
+    private List<Callable<Integer>> tasks;
+
+    /**
+     * Builds the simulated calls.
+     */
+    @Setup
+    public void setUp() {
+        fanOut = FanOut.builder().policy(FanOutPolicy.PARTIAL).build();
+        tasks = new ArrayList<>();
+        for (int i = 0; i < calls; i++) {
+            int value = i;
+            tasks.add(() -> {
+                LockSupport.parkNanos(CALL_NANOS);
+                return value;
+            });
+        }
+    }
+
+    @Benchmark
+    public int sequential() throws Exception {
+        int sum = 0;
+        for (Callable<Integer> task : tasks) {
+            sum += task.call();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int fanOut() {
+        return fanOut.invokeAll(tasks).values().size();
+    }
+}
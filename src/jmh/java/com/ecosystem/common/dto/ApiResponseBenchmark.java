@@ -0,0 +1,50 @@
+package com.ecosystem.common.dto;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the {@link ApiResponse} factory methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseBenchmark {
+
+    @Param({"16", "4096"})
+    private int payloadLength;
+
+    private String payload;
+
+    /**
+     * Builds the payload for the selected length.
+     */
+    @Setup
+    public void setUp() {
+        payload = "x".repeat(payloadLength);
+    }
+
+    @Benchmark
+    public ApiResponse<String> ok() {
+        return ApiResponse.ok(payload);
+    }
+
+    @Benchmark
+    public ApiResponse<String> error() {
+        return ApiResponse.error("User not found");
+    }
+}
@@ -0,0 +1,63 @@
+package com.ecosystem.common.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for recording errors in {@link ErrorMetrics}, with and without a value histogram.
+ * The contended run of the benchmark runner checks that recording stays flat under many threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorMetricsBenchmark {
+
+    private final BaseException error = NotFoundException.lightweight("User 42 not found");
+
+    private ErrorMetrics counts;
+    private ErrorMetrics histograms;
+
+    /**
+     * Creates the registries and registers the error code, as in a warmed-up service.
+     */
+    @Setup
+    public void setUp() {
+        counts = new ErrorMetrics();
+        histograms = new ErrorMetrics(true);
+        counts.record(error);
+        histograms.record(error, 0);
+    }
+
+    @Benchmark
+    public void recordCount() {
+        counts.record(error);
+    }
+
+    @Benchmark
+    public void recordWithValue() {
+        histograms.record(error, 1_250_000L);
+    }
+
+    @Benchmark
+    public BaseException constructWithMetricsInstalled() {
+        BaseException.setErrorMetrics(counts);
+        try {
+            return NotFoundException.lightweight("User 42 not found");
+        } finally {
+            BaseException.setErrorMetrics(null);
+        }
+    }
+}
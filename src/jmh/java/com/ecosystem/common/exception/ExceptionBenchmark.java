@@ -0,0 +1,72 @@
+package com.ecosystem.common.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Benchmarks for constructing and throwing the {@link BaseException} subclasses.
+ * <p>
+ * Exceptions are created at a configurable call-stack depth, since the cost of
+ * stack-trace capture grows with the number of frames.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionBenchmark {
+
+    @Param({"0", "64"})
+    private int stackDepth;
+
+    @Benchmark
+    public BaseException notFound() {
+        return atDepth(stackDepth, () -> new NotFoundException("User 42 not found"));
+    }
+
+    @Benchmark
+    public BaseException conflict() {
+        return atDepth(stackDepth, () -> new ConflictException("User already exists"));
+    }
+
+    @Benchmark
+    public BaseException validation() {
+        return atDepth(stackDepth, () -> new ValidationException("Field 'email' is required"));
+    }
+
+    @Benchmark
+    public BaseException notFoundLightweight() {
+        return atDepth(stackDepth, () -> NotFoundException.lightweight("User 42 not found"));
+    }
+
+    @Benchmark
+    public BaseException notFoundShared() {
+        return atDepth(stackDepth, NotFoundException::shared);
+    }
+
+    @Benchmark
+    public int throwAndCatch() {
+        try {
+            throw atDepth(stackDepth, () -> new NotFoundException("User 42 not found"));
+        } catch (BaseException ex) {
+            return ex.getHttpStatus();
+        }
+    }
+
+    static BaseException atDepth(int depth, Supplier<BaseException> factory) {
+        return depth == 0 ? factory.get() : atDepth(depth - 1, factory);
+    }
+}
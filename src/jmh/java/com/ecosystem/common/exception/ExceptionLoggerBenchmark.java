@@ -0,0 +1,59 @@
+package com.ecosystem.common.exception;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.helpers.NOPLogger;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the cost of {@link ExceptionLogger#log(BaseException)} on the calling thread
+ * during an error storm. Logging itself happens on the draining thread and is not measured;
+ * once the queue is full, the calls measure the drop path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionLoggerBenchmark {
+
+    @Param({"1.0", "0.01"})
+    private double sampleRate;
+
+    private final BaseException error = NotFoundException.lightweight("User 42 not found");
+
+    private ExceptionLogger errors;
+
+    /**
+     * Starts an exception logger writing to a no-op SLF4J logger.
+     */
+    @Setup
+    public void setUp() {
+        errors = ExceptionLogger.builder(NOPLogger.NOP_LOGGER).sampleRate(sampleRate).start();
+    }
+
+    /**
+     * Stops the draining thread.
+     */
+    @TearDown
+    public void tearDown() {
+        errors.close();
+    }
+
+    @Benchmark
+    public boolean log() {
+        return errors.log(error);
+    }
+}
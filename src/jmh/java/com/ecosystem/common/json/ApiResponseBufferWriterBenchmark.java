@@ -0,0 +1,78 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Compares encoding an {@code ApiResponse<List<UserDto>>} into a direct socket-style buffer with
+ * {@link ApiResponseBufferWriter} against {@code writeValueAsBytes} followed by a copy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseBufferWriterBenchmark {
+
+    @Param({"1", "100"})
+    private int users;
+
+    private ObjectWriter writer;
+    private ApiResponseBufferWriter bufferWriter;
+    private ApiResponse<List<UserDto>> response;
+
+    /**
+     * Configures the writers and builds the response.
+     */
+    @Setup
+    public void setUp() {
+        ObjectMapper mapper = new ObjectMapper().registerModule(new EcosystemModule());
+        writer = mapper.writer();
+        bufferWriter = new ApiResponseBufferWriter(mapper);
+        Instant now = Instant.parse("2024-01-15T10:30:00.123Z");
+        List<UserDto> list = LongStream.range(0, users).mapToObj(id -> new UserDto(id, "user" + id,
+                "user" + id + "@example.com", "User Number " + id, now, now.plusMillis(id))).toList();
+        response = new ApiResponse<>(true, "Success", list, now);
+    }
+
+    @Benchmark
+    public int bytesThenCopy(Buffers buffers) throws IOException {
+        buffers.direct.clear();
+        return buffers.direct.put(writer.writeValueAsBytes(response)).position();
+    }
+
+    @Benchmark
+    public int directToBuffer(Buffers buffers) throws IOException {
+        buffers.direct.clear();
+        return bufferWriter.write(response, buffers.direct).position();
+    }
+
+    /**
+     * Per-thread direct buffer, sized like a socket write buffer.
+     */
+    @State(Scope.Thread)
+    public static class Buffers {
+        final ByteBuffer direct = ByteBuffer.allocateDirect(64 * 1024);
+    }
+}
@@ -0,0 +1,65 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * Compares streaming an {@code ApiResponse<Stream<UserDto>>} with materializing the list and
+ * serializing the whole response through databind.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiResponseStreamWriterBenchmark {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:30:00.123Z");
+
+    @Param({"1000", "100000"})
+    private int users;
+
+    private final ObjectMapper mapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    private final ApiResponseStreamWriter writer = new ApiResponseStreamWriter(mapper);
+
+    @Benchmark
+    public void streaming() throws IOException {
+        writer.writeStream(new ApiResponse<>(true, "Success", users(), NOW), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void materialized() throws IOException {
+        List<UserDto> list = users().collect(Collectors.toList());
+        mapper.writeValue(OutputStream.nullOutputStream(), new ApiResponse<>(true, "Success", list, NOW));
+    }
+
+    private Stream<UserDto> users() {
+        return LongStream.range(0, users).mapToObj(id -> new UserDto(id, "user" + id, "user" + id + "@example.com",
+                "User " + id, NOW, NOW));
+    }
+}
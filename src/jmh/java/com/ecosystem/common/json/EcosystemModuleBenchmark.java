@@ -0,0 +1,99 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.dto.UserDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Compares the {@link EcosystemModule} codecs with stock databind record handling
+ * (plus {@code JavaTimeModule}) for {@link UserDto} and {@code ApiResponse<List<UserDto>>}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EcosystemModuleBenchmark {
+
+    private static final TypeReference<ApiResponse<List<UserDto>>> RESPONSE_TYPE = new TypeReference<>() { };
+
+    @Param({"DATABIND", "MODULE"})
+    private String codec;
+
+    @Param({"1", "100"})
+    private int users;
+
+    private ObjectWriter writer;
+    private ObjectReader userReader;
+    private ObjectReader responseReader;
+    private UserDto user;
+    private ApiResponse<List<UserDto>> response;
+    private byte[] userJson;
+    private byte[] responseJson;
+
+    /**
+     * Configures the mapper for the selected codec and pre-encodes the inputs.
+     *
+     * @throws IOException if the inputs cannot be encoded
+     */
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper mapper = "MODULE".equals(codec)
+                ? new ObjectMapper().registerModule(new EcosystemModule())
+                : new ObjectMapper().registerModule(new JavaTimeModule())
+                        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        Instant now = Instant.parse("2024-01-15T10:30:00.123Z");
+        List<UserDto> list = LongStream.range(0, users).mapToObj(id -> new UserDto(id, "user" + id,
+                "user" + id + "@example.com", "User Number " + id, now, now.plusMillis(id))).toList();
+        writer = mapper.writer();
+        userReader = mapper.readerFor(UserDto.class);
+        responseReader = mapper.readerFor(RESPONSE_TYPE);
+        user = list.get(0);
+        response = new ApiResponse<>(true, "Success", list, now);
+        userJson = writer.writeValueAsBytes(user);
+        responseJson = writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] writeUser() throws IOException {
+        return writer.writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public UserDto readUser() throws IOException {
+        return userReader.readValue(userJson);
+    }
+
+    @Benchmark
+    public byte[] writeResponse() throws IOException {
+        return writer.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public ApiResponse<List<UserDto>> readResponse() throws IOException {
+        return responseReader.readValue(responseJson);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.util.TickingClock;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares writing an error response through {@link ErrorResponseCache} with building an
+ * {@link ApiResponse#error(String)} and serializing it with an {@link EcosystemModule} mapper.
+ * Both sides write into a reused buffer, so only the cost of producing the body is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorResponseCacheBenchmark {
+
+    private static final String MESSAGE = "User with id 42 was not found";
+
+    private TickingClock clock;
+    private ObjectWriter writer;
+    private ErrorResponseCache cache;
+
+    /**
+     * Creates the mapper and the cache, both timestamped by a ticking clock.
+     */
+    @Setup
+    public void setUp() {
+        clock = TickingClock.start(Duration.ofMillis(1));
+        writer = new ObjectMapper().registerModule(new EcosystemModule()).writer();
+        cache = new ErrorResponseCache(clock, true, ErrorResponseCache.DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * Stops the ticking clock.
+     */
+    @TearDown
+    public void tearDown() {
+        clock.close();
+    }
+
+    @Benchmark
+    public int mapperToStream(Buffers buffers) throws IOException {
+        buffers.stream.reset();
+        writer.writeValue(buffers.stream, ApiResponse.error(MESSAGE, clock));
+        return buffers.stream.size();
+    }
+
+    @Benchmark
+    public int cachedToStream(Buffers buffers) throws IOException {
+        buffers.stream.reset();
+        cache.write(MESSAGE, buffers.stream);
+        return buffers.stream.size();
+    }
+
+    @Benchmark
+    public int cachedToBuffer(Buffers buffers) {
+        buffers.buffer.clear();
+        return cache.write(MESSAGE, buffers.buffer);
+    }
+
+    /**
+     * Per-thread output buffers.
+     */
+    @State(Scope.Thread)
+    public static class Buffers {
+        final ByteArrayOutputStream stream = new ByteArrayOutputStream(256);
+        final ByteBuffer buffer = ByteBuffer.allocate(256);
+    }
+}
@@ -0,0 +1,96 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares {@link UserNdjsonImporter} on one and on all processors with reading the same file
+ * line by line through a {@link BufferedReader}, each decoding 200,000 records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserNdjsonImporterBenchmark {
+
+    private static final int RECORDS = 200_000;
+
+    @Param({"1", "0"})
+    private int parallelism;
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new EcosystemModule());
+    private Path file;
+    private UserNdjsonImporter importer;
+    private ObjectReader reader;
+
+    /**
+     * Writes the input file; a parallelism of {@code 0} stands for all available processors.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("users", ".ndjson");
+        Instant now = Instant.parse("2024-01-15T10:30:00Z");
+        try (BufferedWriter out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (long id = 1; id <= RECORDS; id++) {
+                out.write(mapper.writeValueAsString(new UserDto(id, "user" + id, "user" + id + "@example.com",
+                        "User Number " + id, now, now.plusSeconds(id))));
+                out.write('\n');
+            }
+        }
+        int threads = parallelism == 0 ? Runtime.getRuntime().availableProcessors() : parallelism;
+        importer = UserNdjsonImporter.builder(mapper).parallelism(threads).build();
+        reader = mapper.readerFor(UserDto.class);
+    }
+
+    /**
+     * Deletes the input file.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long importer() throws IOException {
+        LongAdder ids = new LongAdder();
+        importer.importFile(file, batch -> batch.forEach(user -> ids.add(user.id())), e -> { });
+        return ids.sum();
+    }
+
+    @Benchmark
+    public long bufferedReader() throws IOException {
+        long ids = 0;
+        try (BufferedReader in = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                UserDto user = reader.readValue(line);
+                ids += user.id();
+            }
+        }
+        return ids;
+    }
+}
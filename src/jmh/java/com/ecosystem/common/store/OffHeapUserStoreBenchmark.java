@@ -0,0 +1,97 @@
+package com.ecosystem.common.store;
+
+import com.ecosystem.common.dto.UserDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares lookups in a file-backed {@link OffHeapUserStore} holding 1,000,000 users with a
+ * {@link ConcurrentHashMap} of the same {@link UserDto}s, and measures reopening the store.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OffHeapUserStoreBenchmark {
+
+    private static final int USERS = 1_000_000;
+
+    private Path file;
+    private OffHeapUserStore store;
+    private ConcurrentHashMap<Long, UserDto> map;
+
+    /**
+     * Writes the store file and fills the map.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("users", ".store");
+        Files.delete(file);
+        store = OffHeapUserStore.open(file);
+        map = new ConcurrentHashMap<>();
+        Instant now = Instant.parse("2024-01-15T10:30:00Z");
+        for (long id = 1; id <= USERS; id++) {
+            UserDto user = new UserDto(id, "user" + id, "user" + id + "@example.com", "User Number " + id,
+                    now, now.plusSeconds(id));
+            store.put(user);
+            map.put(id, user);
+        }
+        store.flush();
+    }
+
+    /**
+     * Closes and deletes the store file.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        store.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public UserDto storeGet() {
+        return store.get(randomId());
+    }
+
+    @Benchmark
+    public String storeEmail() {
+        return store.email(randomId());
+    }
+
+    @Benchmark
+    public UserDto mapGet() {
+        return map.get(randomId());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int reopen() throws IOException {
+        try (OffHeapUserStore reopened = OffHeapUserStore.open(file)) {
+            return reopened.size();
+        }
+    }
+
+    private static long randomId() {
+        return 1 + ThreadLocalRandom.current().nextInt(USERS);
+    }
+}
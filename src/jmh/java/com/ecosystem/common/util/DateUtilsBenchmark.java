@@ -0,0 +1,116 @@
+package com.ecosystem.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link DateUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateUtilsBenchmark {
+
+    /** Fraction of second carried by the instant: none, milliseconds or full nanoseconds. */
+    @Param({"SECONDS", "MILLIS", "NANOS"})
+    private String precision;
+
+    private Instant instant;
+    private String iso;
+    private byte[] isoUtf8;
+    private Instant future;
+
+    /**
+     * Builds the instant and its ISO-8601 text for the selected precision.
+     */
+    @Setup
+    public void setUp() {
+        int nanos = switch (precision) {
+            case "MILLIS" -> 123_000_000;
+            case "NANOS" -> 123_456_789;
+            default -> 0;
+        };
+        instant = Instant.ofEpochSecond(1_705_314_600L, nanos);
+        iso = instant.toString();
+        isoUtf8 = iso.getBytes(StandardCharsets.UTF_8);
+        future = Instant.now().plusSeconds(3600);
+    }
+
+    @Benchmark
+    public String formatIso() {
+        return DateUtils.formatIso(instant);
+    }
+
+    @Benchmark
+    public String formatIsoJdk() {
+        return DateTimeFormatter.ISO_INSTANT.format(instant);
+    }
+
+    @Benchmark
+    public StringBuilder formatIsoToBuilder(Buffers buffers) {
+        buffers.builder.setLength(0);
+        return DateUtils.formatIso(instant, buffers.builder);
+    }
+
+    @Benchmark
+    public int formatIsoUtf8(Buffers buffers) {
+        return DateUtils.formatIsoUtf8(instant, buffers.utf8, 0);
+    }
+
+    @Benchmark
+    public Instant parseIso() {
+        return DateUtils.parseIso(iso);
+    }
+
+    @Benchmark
+    public Instant parseIsoJdk() {
+        return Instant.parse(iso);
+    }
+
+    @Benchmark
+    public Instant parseIsoUtf8() {
+        return DateUtils.parseIsoUtf8(isoUtf8, 0, isoUtf8.length);
+    }
+
+    @Benchmark
+    public long parseIsoToEpochMillis() {
+        return DateUtils.parseIsoToEpochMillis(iso);
+    }
+
+    @Benchmark
+    public boolean isExpired() {
+        return DateUtils.isExpired(future);
+    }
+
+    @Benchmark
+    public boolean isExpiredSystemClock() {
+        return DateUtils.isExpired(future, Clock.systemUTC());
+    }
+
+    /**
+     * Per-thread output buffers, so contended runs do not share mutable state.
+     */
+    @State(Scope.Thread)
+    public static class Buffers {
+        final StringBuilder builder = new StringBuilder(32);
+        final byte[] utf8 = new byte[32];
+    }
+}
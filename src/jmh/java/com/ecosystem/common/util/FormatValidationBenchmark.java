@@ -0,0 +1,91 @@
+package com.ecosystem.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Compares {@link StringUtils#isValidEmail} and {@link StringUtils#isValidUsername} with the
+ * {@code java.util.regex} patterns services used before. The {@code HOSTILE} input makes the
+ * email pattern backtrack: its nested quantifiers retry many ways to split a long run of letters
+ * into labels before failing on the trailing {@code '!'}, while the automata read each character
+ * once.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FormatValidationBenchmark {
+
+    private static final Pattern EMAIL_PATTERN =
+            Pattern.compile("^([a-zA-Z0-9_.+-])+@(([a-zA-Z0-9-])+\\.)+([a-zA-Z0-9]{2,4})+$");
+    private static final Pattern USERNAME_PATTERN = Pattern.compile("^[A-Za-z0-9][A-Za-z0-9._-]{2,31}$");
+
+    @Param({"VALID", "INVALID", "HOSTILE"})
+    private String input;
+
+    private String email;
+    private byte[] emailUtf8;
+    private String username;
+
+    /**
+     * Builds the inputs for the selected kind.
+     */
+    @Setup
+    public void setUp() {
+        switch (input) {
+            case "VALID" -> {
+                email = "first.last+tag@mail.example-host.org";
+                username = "first.last_99";
+            }
+            case "INVALID" -> {
+                email = "first.last+tag@mail.example-host.org.";
+                username = "first last";
+            }
+            default -> {
+                email = "user@a." + "a".repeat(200) + "!";
+                username = "a".repeat(31) + "!";
+            }
+        }
+        emailUtf8 = email.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return StringUtils.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean isValidEmailUtf8() {
+        return StringUtils.isValidEmail(emailUtf8, 0, emailUtf8.length);
+    }
+
+    @Benchmark
+    public boolean isValidEmailRegex() {
+        return EMAIL_PATTERN.matcher(email).matches();
+    }
+
+    @Benchmark
+    public boolean isValidUsername() {
+        return StringUtils.isValidUsername(username);
+    }
+
+    @Benchmark
+    public boolean isValidUsernameRegex() {
+        return USERNAME_PATTERN.matcher(username).matches();
+    }
+}
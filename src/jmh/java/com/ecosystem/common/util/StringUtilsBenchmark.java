@@ -0,0 +1,166 @@
+package com.ecosystem.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for {@link StringUtils}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilsBenchmark {
+
+    private static final String ASCII_ALPHABET = "the quick brown fox jumps over the lazy dog ";
+    private static final String NON_ASCII_ALPHABET = "Ärger über Straße ÉCOLE Ŝtono Ωmega ";
+
+    @Param({"ASCII", "NON_ASCII"})
+    private String charset;
+
+    @Param({"16", "4096"})
+    private int length;
+
+    private String text;
+    private String blank;
+    private byte[] blankUtf8;
+    private ByteBuffer blankDirect;
+    private String[] fields;
+    private String capitalized;
+
+    /**
+     * Builds the input strings for the selected charset and length.
+     */
+    @Setup
+    public void setUp() {
+        text = repeat("ASCII".equals(charset) ? ASCII_ALPHABET : NON_ASCII_ALPHABET, length);
+        blank = " ".repeat(length - 1) + ("ASCII".equals(charset) ? "\t" : " ");
+        blankUtf8 = blank.getBytes(StandardCharsets.UTF_8);
+        blankDirect = ByteBuffer.allocateDirect(blankUtf8.length).put(blankUtf8).flip();
+        fields = new String[16];
+        Arrays.fill(fields, text.substring(0, Math.min(text.length(), 8)));
+        capitalized = StringUtils.capitalize(text);
+    }
+
+    @Benchmark
+    public boolean isBlankText() {
+        return StringUtils.isBlank(text);
+    }
+
+    @Benchmark
+    public boolean isBlankWhitespace() {
+        return StringUtils.isBlank(blank);
+    }
+
+    @Benchmark
+    public boolean isAnyBlankFields() {
+        return StringUtils.isAnyBlank(fields);
+    }
+
+    @Benchmark
+    public boolean isAnyBlankFieldsPerElement() {
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean isBlankUtf8() {
+        return StringUtils.isBlankUtf8(blankUtf8, 0, blankUtf8.length);
+    }
+
+    @Benchmark
+    public boolean isBlankUtf8Direct() {
+        return StringUtils.isBlankUtf8(blankDirect);
+    }
+
+    @Benchmark
+    public boolean isBlankUtf8Decoded() {
+        return new String(blankUtf8, StandardCharsets.UTF_8).isBlank();
+    }
+
+    @Benchmark
+    public String truncate() {
+        return StringUtils.truncate(text, length / 2);
+    }
+
+    @Benchmark
+    public String truncateToUtf8Bytes() {
+        return StringUtils.truncateToUtf8Bytes(text, length);
+    }
+
+    @Benchmark
+    public int truncateToUtf8BytesInto(Buffers buffers) {
+        buffers.utf8.clear();
+        return StringUtils.truncateToUtf8Bytes(text, length, buffers.utf8);
+    }
+
+    @Benchmark
+    public byte[] truncateToUtf8BytesEncoded() {
+        byte[] encoded = text.getBytes(StandardCharsets.UTF_8);
+        return encoded.length <= length ? encoded : Arrays.copyOf(encoded, length);
+    }
+
+    @Benchmark
+    public String capitalize() {
+        return StringUtils.capitalize(text);
+    }
+
+    @Benchmark
+    public String capitalizeAlreadyCapitalized() {
+        return StringUtils.capitalize(capitalized);
+    }
+
+    @Benchmark
+    public StringBuilder capitalizeInto(Buffers buffers) {
+        buffers.builder.setLength(0);
+        return StringUtils.capitalize(text, buffers.builder);
+    }
+
+    @Benchmark
+    public StringBuilder truncateInto(Buffers buffers) {
+        buffers.builder.setLength(0);
+        return StringUtils.truncate(text, length / 2, buffers.builder);
+    }
+
+    @Benchmark
+    public String capitalizeConcat() {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1).toLowerCase();
+    }
+
+    /**
+     * Per-thread reusable output buffers.
+     */
+    @State(Scope.Thread)
+    public static class Buffers {
+        final StringBuilder builder = new StringBuilder(8_192);
+        final ByteBuffer utf8 = ByteBuffer.allocate(16_384);
+    }
+
+    static String repeat(String alphabet, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(alphabet, 0, Math.min(alphabet.length(), length - sb.length()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,69 @@
+package com.ecosystem.common.validation;
+
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.exception.ValidationException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link UserDtoValidator} on a batch of 100 valid DTOs, which should not allocate
+ * (check with {@code -prof gc}), and on a batch whose every tenth DTO is invalid.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserDtoValidatorBenchmark {
+
+    private static final int BATCH_SIZE = 100;
+
+    private List<UserDto> valid;
+    private List<UserDto> mixed;
+
+    /**
+     * Builds the batches.
+     */
+    @Setup
+    public void setUp() {
+        Instant created = Instant.parse("2024-01-15T10:30:00Z");
+        valid = new ArrayList<>(BATCH_SIZE);
+        mixed = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            UserDto dto = new UserDto((long) i + 1, "user." + i, "user" + i + "@example.com",
+                    "User Number " + i, created, created.plusSeconds(i));
+            valid.add(dto);
+            mixed.add(i % 10 == 0 ? new UserDto(dto.id(), dto.username(), "user" + i, dto.fullName(),
+                    dto.createdAt(), dto.updatedAt()) : dto);
+        }
+    }
+
+    @Benchmark
+    public void validateValidBatch() {
+        UserDtoValidator.validateAll(valid);
+    }
+
+    @Benchmark
+    public int validateMixedBatch() {
+        try {
+            UserDtoValidator.validateAll(mixed);
+            return 0;
+        } catch (ValidationException e) {
+            return e.getFieldErrors().size();
+        }
+    }
+}
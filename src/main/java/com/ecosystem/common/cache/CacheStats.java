@@ -0,0 +1,25 @@
+package com.ecosystem.common.cache;
+
+/**
+ * Point-in-time counters of a {@link TtlCache}.
+ *
+ * @param hitCount         lookups that found a live entry
+ * @param missCount        lookups that found no entry or an expired one
+ * @param loadCount        values obtained from a loader, counting each batch key once
+ * @param loadFailureCount loader invocations that threw
+ * @param evictionCount    entries removed to respect the size bound
+ * @param expirationCount  entries removed because their time-to-live had passed
+ */
+public record CacheStats(long hitCount, long missCount, long loadCount, long loadFailureCount,
+                         long evictionCount, long expirationCount) {
+
+    /**
+     * Returns the fraction of lookups that were hits, or {@code 0} before the first lookup.
+     *
+     * @return the hit rate, between {@code 0} and {@code 1}
+     */
+    public double hitRate() {
+        long total = hitCount + missCount;
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecosystem.common.cache;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of in-progress loads of a {@link TtlCache}, so that concurrent misses for a key
+ * share one load instead of each calling the loader.
+ */
+final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Registers {@code flight} as the load of {@code key}, unless another load is in progress.
+     *
+     * @return {@code null} if the caller now owns the load, otherwise the load to wait for
+     */
+    CompletableFuture<V> claim(K key, CompletableFuture<V> flight) {
+        return inFlight.putIfAbsent(key, flight);
+    }
+
+    /**
+     * Unregisters the load of {@code key} once {@code flight} has been completed.
+     */
+    void release(K key, CompletableFuture<V> flight) {
+        inFlight.remove(key, flight);
+    }
+
+    /**
+     * Waits for {@code flight}, rethrowing the loader's own exception rather than a
+     * {@link CompletionException}.
+     */
+    static <V> V join(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
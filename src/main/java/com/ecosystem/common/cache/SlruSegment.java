@@ -0,0 +1,172 @@
+package com.ecosystem.common.cache;
+
+import com.ecosystem.common.util.DateUtils;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One lock stripe of a {@link TtlCache}, bounded by a segmented LRU (SLRU) policy.
+ * <p>
+ * New entries enter the probationary segment; a hit there promotes the entry to the protected
+ * segment, which holds up to 80% of the capacity and demotes its least recently used entry back
+ * to probation when full. Evictions take the least recently used probationary entry first, so
+ * a burst of one-off keys cannot flush entries that have been read more than once.
+ * </p>
+ * <p>
+ * Every operation runs under the segment's own lock.
+ * </p>
+ */
+final class SlruSegment<K, V> {
+
+    /**
+     * Marker returned by {@link #get} when the entry existed but had expired.
+     */
+    static final Entry<Object> EXPIRED = new Entry<>(null, Long.MIN_VALUE);
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final int capacity;
+    private final int protectedCapacity;
+    private final LinkedHashMap<K, Entry<V>> probation = new LinkedHashMap<>(16, 0.75f, true);
+    private final LinkedHashMap<K, Entry<V>> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+
+    SlruSegment(int capacity) {
+        this.capacity = capacity;
+        this.protectedCapacity = capacity * 4 / 5;
+    }
+
+    /**
+     * Returns the live entry for {@code key}, or {@code null}. An expired entry is removed
+     * and reported as {@link #EXPIRED}.
+     */
+    Entry<V> get(K key, long nowMillis) {
+        lock.lock();
+        try {
+            return getLocked(key, nowMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Inserts or replaces the entry for {@code key}, returning the number of evicted entries.
+     */
+    int put(K key, Entry<V> entry) {
+        lock.lock();
+        try {
+            return putLocked(key, entry);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void remove(K key) {
+        lock.lock();
+        try {
+            if (protectedEntries.remove(key) == null) {
+                probation.remove(key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void clear() {
+        lock.lock();
+        try {
+            protectedEntries.clear();
+            probation.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return protectedEntries.size() + probation.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes every expired entry, returning how many were removed.
+     */
+    int removeExpired(long nowMillis) {
+        lock.lock();
+        try {
+            int before = protectedEntries.size() + probation.size();
+            protectedEntries.values().removeIf(entry -> entry.isExpired(nowMillis));
+            probation.values().removeIf(entry -> entry.isExpired(nowMillis));
+            return before - protectedEntries.size() - probation.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry<V> getLocked(K key, long nowMillis) {
+        Entry<V> entry = protectedEntries.get(key);
+        if (entry != null) {
+            if (entry.isExpired(nowMillis)) {
+                protectedEntries.remove(key);
+                return expired();
+            }
+            return entry;
+        }
+        entry = probation.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(nowMillis)) {
+            return expired();
+        }
+        promote(key, entry);
+        return entry;
+    }
+
+    private int putLocked(K key, Entry<V> entry) {
+        if (protectedEntries.containsKey(key)) {
+            protectedEntries.put(key, entry);
+            return 0;
+        }
+        probation.put(key, entry);
+        int evicted = 0;
+        while (protectedEntries.size() + probation.size() > capacity) {
+            Map<K, Entry<V>> victims = probation.isEmpty() ? protectedEntries : probation;
+            Iterator<K> eldest = victims.keySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evicted++;
+        }
+        return evicted;
+    }
+
+    private void promote(K key, Entry<V> entry) {
+        protectedEntries.put(key, entry);
+        if (protectedEntries.size() > protectedCapacity) {
+            Iterator<Map.Entry<K, Entry<V>>> eldest = protectedEntries.entrySet().iterator();
+            Map.Entry<K, Entry<V>> demoted = eldest.next();
+            eldest.remove();
+            probation.put(demoted.getKey(), demoted.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Entry<V> expired() {
+        return (Entry<V>) EXPIRED;
+    }
+
+    /**
+     * A cached value and its expiry deadline in epoch milliseconds.
+     */
+    record Entry<V>(V value, long expiresAtMillis) {
+
+        boolean isExpired(long nowMillis) {
+            return DateUtils.isExpired(expiresAtMillis, nowMillis);
+        }
+    }
+}
@@ -0,0 +1,349 @@
+package com.ecosystem.common.cache;
+
+import com.ecosystem.common.util.DateUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded, concurrent in-memory cache with per-entry time-to-live.
+ * <p>
+ * Keys are spread over lock stripes, each an independent segmented LRU (see {@link SlruSegment}),
+ * so threads working on different stripes never contend. Expiry is checked against the clock's
+ * {@link Clock#millis()} on access, with {@link DateUtils#isExpired(long, long)} semantics; with
+ * the default library clock this is a volatile read rather than a system call.
+ * </p>
+ * <p>
+ * Loads are single-flight: concurrent misses for the same key run the loader once and share its
+ * result, and {@link #getAll(Collection, Function)} loads all missing keys in one batch call.
+ * {@code null} keys and values are not supported; a loader returning {@code null} caches nothing.
+ * </p>
+ * <pre>{@code
+ * TtlCache<Long, UserDto> users = TtlCache.<Long, UserDto>builder()
+ *         .maximumSize(10_000)
+ *         .expireAfterWrite(Duration.ofMinutes(5))
+ *         .build();
+ * UserDto user = users.get(id, repository::findById);
+ * }</pre>
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class TtlCache<K, V> {
+
+    private final SlruSegment<K, V>[] segments;
+    private final int segmentShift;
+    private final Clock clock;
+    private final long defaultTtlMillis;
+    private final SingleFlight<K, V> inFlight = new SingleFlight<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    TtlCache(TtlCacheBuilder<K, V> builder) {
+        int stripes = builder.stripes();
+        this.segments = newSegments(stripes);
+        for (int i = 0; i < stripes; i++) {
+            // Spread the remainder so that the stripe capacities add up to maximumSize
+            int capacity = builder.maximumSize() / stripes + (i < builder.maximumSize() % stripes ? 1 : 0);
+            segments[i] = new SlruSegment<>(capacity);
+        }
+        this.segmentShift = Integer.SIZE - Integer.numberOfTrailingZeros(stripes);
+        this.clock = builder.clock();
+        this.defaultTtlMillis = builder.ttlMillis();
+    }
+
+    /**
+     * Creates a builder for a cache.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return a new builder
+     */
+    public static <K, V> TtlCacheBuilder<K, V> builder() {
+        return new TtlCacheBuilder<>();
+    }
+
+    /**
+     * Returns the live value for {@code key}, or {@code null} if it is absent or expired.
+     *
+     * @param key the key; must not be {@code null}
+     * @return the cached value, or {@code null}
+     */
+    public V getIfPresent(K key) {
+        SlruSegment<K, V> segment = segment(key);
+        SlruSegment.Entry<V> entry = segment.get(key, clock.millis());
+        if (entry == null || entry == SlruSegment.EXPIRED) {
+            misses.increment();
+            if (entry != null) {
+                expirations.increment();
+            }
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * Returns the value for {@code key}, loading and caching it with {@code loader} on a miss.
+     * Concurrent misses for the same key wait for a single load.
+     *
+     * @param key    the key; must not be {@code null}
+     * @param loader computes the value, or returns {@code null} if there is none
+     * @return the cached or loaded value, or {@code null}
+     * @throws RuntimeException any exception thrown by the loader, in every waiting thread
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = getIfPresent(key);
+        if (value != null) {
+            return value;
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.claim(key, flight);
+        if (existing != null) {
+            return SingleFlight.join(existing);
+        }
+        try {
+            // Another thread may have loaded and released the key between the miss and the claim
+            value = peek(key);
+            if (value == null) {
+                value = loader.apply(key);
+                loads.increment();
+                if (value != null) {
+                    put(key, value);
+                }
+            }
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            loadFailures.increment();
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.release(key, flight);
+        }
+    }
+
+    /**
+     * Returns the values for {@code keys}, loading every missing key in a single call to
+     * {@code batchLoader}. Keys already being loaded by other threads are awaited, not reloaded.
+     *
+     * @param keys        the keys; must not be or contain {@code null}
+     * @param batchLoader receives the missing keys and returns the values it found
+     * @return the values found, in the iteration order of {@code keys}; absent keys are omitted
+     * @throws NullPointerException if {@code keys} is or contains {@code null}
+     * @throws RuntimeException     any exception thrown by the batch loader
+     */
+    public Map<K, V> getAll(Collection<? extends K> keys,
+                            Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> batchLoader) {
+        requireKeys(keys);
+        Map<K, V> hitValues = new HashMap<>();
+        Map<K, CompletableFuture<V>> owned = new LinkedHashMap<>();
+        Map<K, CompletableFuture<V>> pending = new HashMap<>();
+        try {
+            for (K key : keys) {
+                if (hitValues.containsKey(key) || pending.containsKey(key)) {
+                    continue;
+                }
+                V value = getIfPresent(key);
+                if (value != null) {
+                    hitValues.put(key, value);
+                    continue;
+                }
+                CompletableFuture<V> flight = new CompletableFuture<>();
+                CompletableFuture<V> existing = inFlight.claim(key, flight);
+                if (existing != null) {
+                    pending.put(key, existing);
+                    continue;
+                }
+                value = peek(key);
+                if (value != null) {
+                    flight.complete(value);
+                    inFlight.release(key, flight);
+                    hitValues.put(key, value);
+                    continue;
+                }
+                owned.put(key, flight);
+                pending.put(key, flight);
+            }
+        } catch (RuntimeException | Error e) {
+            // Never leave a claimed key pending, or every later load of it would wait forever
+            owned.forEach((key, flight) -> {
+                flight.completeExceptionally(e);
+                inFlight.release(key, flight);
+            });
+            throw e;
+        }
+        if (!owned.isEmpty()) {
+            loadBatch(owned, batchLoader);
+        }
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = hitValues.containsKey(key) ? hitValues.get(key) : SingleFlight.join(pending.get(key));
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Caches {@code value} under {@code key} with the default time-to-live.
+     *
+     * @param key   the key; must not be {@code null}
+     * @param value the value; must not be {@code null}
+     */
+    public void put(K key, V value) {
+        putUntil(key, value, saturatedAdd(clock.millis(), defaultTtlMillis));
+    }
+
+    /**
+     * Caches {@code value} under {@code key} for {@code ttl}.
+     *
+     * @param key   the key; must not be {@code null}
+     * @param value the value; must not be {@code null}
+     * @param ttl   the time-to-live of this entry; must not be negative
+     * @throws IllegalArgumentException if {@code ttl} is negative
+     */
+    public void put(K key, V value, Duration ttl) {
+        if (ttl == null) {
+            throw new NullPointerException("ttl must not be null");
+        }
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+        putUntil(key, value, saturatedAdd(clock.millis(), TtlCacheBuilder.toMillis(ttl)));
+    }
+
+    /**
+     * Removes the entry for {@code key}, if present.
+     *
+     * @param key the key; must not be {@code null}
+     */
+    public void invalidate(K key) {
+        segment(key).remove(key);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public void invalidateAll() {
+        for (SlruSegment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Removes every expired entry now rather than on its next access.
+     */
+    public void cleanUp() {
+        long now = clock.millis();
+        for (SlruSegment<K, V> segment : segments) {
+            expirations.add(segment.removeExpired(now));
+        }
+    }
+
+    /**
+     * Returns the number of entries, including expired entries not yet removed.
+     *
+     * @return the entry count
+     */
+    public int size() {
+        int size = 0;
+        for (SlruSegment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the cache counters.
+     *
+     * @return the current statistics
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loads.sum(), loadFailures.sum(),
+                evictions.sum(), expirations.sum());
+    }
+
+    private void loadBatch(Map<K, CompletableFuture<V>> owned,
+                           Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> batchLoader) {
+        try {
+            Map<? extends K, ? extends V> loaded = batchLoader.apply(new LinkedHashSet<>(owned.keySet()));
+            loads.add(owned.size());
+            owned.forEach((key, flight) -> {
+                V value = loaded == null ? null : loaded.get(key);
+                if (value != null) {
+                    put(key, value);
+                }
+                flight.complete(value);
+            });
+        } catch (RuntimeException | Error e) {
+            loadFailures.increment();
+            owned.values().forEach(flight -> flight.completeExceptionally(e));
+            throw e;
+        } finally {
+            owned.forEach(inFlight::release);
+        }
+    }
+
+    // Reads a live value without counting a hit or a miss, which the caller has already counted
+    private V peek(K key) {
+        SlruSegment.Entry<V> entry = segment(key).get(key, clock.millis());
+        if (entry == SlruSegment.EXPIRED) {
+            expirations.increment();
+            return null;
+        }
+        return entry == null ? null : entry.value();
+    }
+
+    // Checked up front so that no key is claimed for loading before the call is rejected
+    private static void requireKeys(Collection<?> keys) {
+        if (keys == null) {
+            throw new NullPointerException("keys must not be null");
+        }
+        for (Object key : keys) {
+            if (key == null) {
+                throw new NullPointerException("keys must not contain null");
+            }
+        }
+    }
+
+    private void putUntil(K key, V value, long expiresAtMillis) {
+        if (value == null) {
+            throw new NullPointerException("value must not be null");
+        }
+        evictions.add(segment(key).put(key, new SlruSegment.Entry<>(value, expiresAtMillis)));
+    }
+
+    // Uses the high bits of a mixed hash, so stripes do not bias the buckets of their own maps
+    private SlruSegment<K, V> segment(K key) {
+        if (key == null) {
+            throw new NullPointerException("key must not be null");
+        }
+        return segments.length == 1 ? segments[0] : segments[(key.hashCode() * 0x9E3779B9) >>> segmentShift];
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <K, V> SlruSegment<K, V>[] newSegments(int stripes) {
+        return new SlruSegment[stripes];
+    }
+
+    // The time-to-live is never negative, so overflow can only wrap below nowMillis
+    private static long saturatedAdd(long nowMillis, long ttlMillis) {
+        long sum = nowMillis + ttlMillis;
+        return sum < nowMillis ? Long.MAX_VALUE : sum;
+    }
+}
@@ -0,0 +1,136 @@
+package com.ecosystem.common.cache;
+
+import com.ecosystem.common.util.DateUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Builder for {@link TtlCache}, obtained from {@link TtlCache#builder()}.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public final class TtlCacheBuilder<K, V> {
+
+    /**
+     * Default number of lock stripes.
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+    // Stripes are never made smaller than this, so small caches keep a meaningful LRU order
+    private static final int MIN_STRIPE_CAPACITY = 8;
+
+    private int maximumSize;
+    private long ttlMillis = Long.MAX_VALUE;
+    private Clock clock;
+    private int concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
+
+    TtlCacheBuilder() {
+    }
+
+    /**
+     * Sets the maximum number of entries. Required.
+     *
+     * @param maximumSize the size bound; must be positive
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maximumSize} is not positive
+     */
+    public TtlCacheBuilder<K, V> maximumSize(int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("maximumSize must be positive");
+        }
+        this.maximumSize = maximumSize;
+        return this;
+    }
+
+    /**
+     * Sets the default time-to-live of entries, counted from when they are written.
+     * By default entries do not expire.
+     *
+     * @param ttl the time-to-live; must not be negative
+     * @return this builder
+     * @throws NullPointerException     if {@code ttl} is {@code null}
+     * @throws IllegalArgumentException if {@code ttl} is negative
+     */
+    public TtlCacheBuilder<K, V> expireAfterWrite(Duration ttl) {
+        if (ttl == null) {
+            throw new NullPointerException("ttl must not be null");
+        }
+        if (ttl.isNegative()) {
+            throw new IllegalArgumentException("ttl must not be negative");
+        }
+        this.ttlMillis = toMillis(ttl);
+        return this;
+    }
+
+    /**
+     * Sets the clock used for expiry. Defaults to the library clock,
+     * {@link DateUtils#clock()}, as configured when the cache is built.
+     *
+     * @param clock the clock; must not be {@code null}
+     * @return this builder
+     * @throws NullPointerException if {@code clock} is {@code null}
+     */
+    public TtlCacheBuilder<K, V> clock(Clock clock) {
+        if (clock == null) {
+            throw new NullPointerException("clock must not be null");
+        }
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * Sets the number of lock stripes, rounded down to a power of two. Small caches use fewer
+     * stripes so that each holds at least eight entries.
+     *
+     * @param concurrencyLevel the expected number of concurrently writing threads; must be positive
+     * @return this builder
+     * @throws IllegalArgumentException if {@code concurrencyLevel} is not positive
+     */
+    public TtlCacheBuilder<K, V> concurrencyLevel(int concurrencyLevel) {
+        if (concurrencyLevel < 1) {
+            throw new IllegalArgumentException("concurrencyLevel must be positive");
+        }
+        this.concurrencyLevel = concurrencyLevel;
+        return this;
+    }
+
+    /**
+     * Builds the cache.
+     *
+     * @return a new, empty cache
+     * @throws IllegalStateException if no maximum size was set
+     */
+    public TtlCache<K, V> build() {
+        if (maximumSize == 0) {
+            throw new IllegalStateException("maximumSize must be set");
+        }
+        return new TtlCache<>(this);
+    }
+
+    int maximumSize() {
+        return maximumSize;
+    }
+
+    long ttlMillis() {
+        return ttlMillis;
+    }
+
+    Clock clock() {
+        return clock != null ? clock : DateUtils.clock();
+    }
+
+    int stripes() {
+        int bySize = Integer.highestOneBit(Math.max(1, maximumSize / MIN_STRIPE_CAPACITY));
+        return Math.min(Integer.highestOneBit(concurrencyLevel), bySize);
+    }
+
+    static long toMillis(Duration duration) {
+        try {
+            return duration.toMillis();
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+}
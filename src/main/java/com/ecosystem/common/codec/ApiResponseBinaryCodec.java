@@ -0,0 +1,83 @@
+package com.ecosystem.common.codec;
+
+import com.ecosystem.common.dto.ApiResponse;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Binary codec for {@link ApiResponse}, delegating {@code data} to a codec for its type.
+ * <p>
+ * Layout: a flags byte ({@code success}, presence of {@code timestamp} and {@code data}), the
+ * length-prefixed UTF-8 {@code message}, the timestamp as varint epoch seconds and nanoseconds,
+ * then the data.
+ * </p>
+ *
+ * @param <T> the type of the response data
+ */
+public final class ApiResponseBinaryCodec<T> implements BinaryCodec<ApiResponse<T>> {
+
+    private static final int SUCCESS = 1;
+    private static final int HAS_TIMESTAMP = 1 << 1;
+    private static final int HAS_DATA = 1 << 2;
+
+    private final BinaryCodec<T> dataCodec;
+
+    private ApiResponseBinaryCodec(BinaryCodec<T> dataCodec) {
+        this.dataCodec = dataCodec;
+    }
+
+    /**
+     * Creates a response codec encoding {@code data} with {@code dataCodec}.
+     *
+     * @param <T>       the type of the response data
+     * @param dataCodec the codec for the data; must not be {@code null}
+     * @return a response codec
+     * @throws NullPointerException if {@code dataCodec} is {@code null}
+     */
+    public static <T> ApiResponseBinaryCodec<T> of(BinaryCodec<T> dataCodec) {
+        if (dataCodec == null) {
+            throw new NullPointerException("dataCodec must not be null");
+        }
+        return new ApiResponseBinaryCodec<>(dataCodec);
+    }
+
+    @Override
+    public int encodedSize(ApiResponse<T> response) {
+        int size = 1 + Wire.stringSize(response.message());
+        if (response.timestamp() != null) {
+            size += Wire.instantSize(response.timestamp());
+        }
+        if (response.data() != null) {
+            size += dataCodec.encodedSize(response.data());
+        }
+        return size;
+    }
+
+    @Override
+    public void write(ApiResponse<T> response, ByteBuffer dst) {
+        int flags = (response.success() ? SUCCESS : 0)
+                | (response.timestamp() != null ? HAS_TIMESTAMP : 0)
+                | (response.data() != null ? HAS_DATA : 0);
+        dst.put((byte) flags);
+        Wire.writeString(dst, response.message());
+        if (response.timestamp() != null) {
+            Wire.writeInstant(dst, response.timestamp());
+        }
+        if (response.data() != null) {
+            dataCodec.write(response.data(), dst);
+        }
+    }
+
+    @Override
+    public ApiResponse<T> read(ByteBuffer src) {
+        int flags = src.get();
+        if ((flags & ~(SUCCESS | HAS_TIMESTAMP | HAS_DATA)) != 0) {
+            throw new IllegalArgumentException("Unknown ApiResponse flags: " + flags);
+        }
+        String message = Wire.readString(src);
+        Instant timestamp = (flags & HAS_TIMESTAMP) != 0 ? Wire.readInstant(src) : null;
+        T data = (flags & HAS_DATA) != 0 ? dataCodec.read(src) : null;
+        return new ApiResponse<>((flags & SUCCESS) != 0, message, data, timestamp);
+    }
+}
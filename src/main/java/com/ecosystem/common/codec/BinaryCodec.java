@@ -0,0 +1,44 @@
+package com.ecosystem.common.codec;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes and decodes values of type {@code T} in the compact binary wire format used for
+ * service-to-service calls.
+ * <p>
+ * Codecs work on the body of a value only; {@link BinaryFrames} adds the versioned header.
+ * Writing and reading advance the buffer position by exactly {@link #encodedSize(Object)} bytes.
+ * Implementations are stateless and thread-safe.
+ * </p>
+ *
+ * @param <T> the type of the encoded values
+ */
+public interface BinaryCodec<T> {
+
+    /**
+     * Returns the number of bytes {@link #write(Object, ByteBuffer)} produces for {@code value}.
+     *
+     * @param value the value to measure
+     * @return the encoded size in bytes
+     */
+    int encodedSize(T value);
+
+    /**
+     * Writes {@code value} at the position of {@code dst}.
+     *
+     * @param value the value to encode
+     * @param dst   the destination buffer, with at least {@link #encodedSize(Object)} bytes remaining
+     * @throws java.nio.BufferOverflowException if {@code dst} has too few bytes remaining
+     */
+    void write(T value, ByteBuffer dst);
+
+    /**
+     * Reads a value at the position of {@code src}.
+     *
+     * @param src the source buffer, heap or direct
+     * @return the decoded value
+     * @throws java.nio.BufferUnderflowException if {@code src} ends before the value is complete
+     * @throws IllegalArgumentException          if the bytes do not form a valid value
+     */
+    T read(ByteBuffer src);
+}
@@ -0,0 +1,192 @@
+package com.ecosystem.common.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads and writes framed binary messages: a versioned header followed by a codec-encoded body.
+ * <p>
+ * Frame layout: the magic byte {@code 0xEC}, the format version, the varint body length, then
+ * the body. The explicit length lets stream readers consume exactly one frame and lets buffer
+ * readers reject truncated or over-long bodies. Reading from a {@link ByteBuffer} decodes in
+ * place, from heap and direct buffers alike, without copying the frame.
+ * </p>
+ * <p>
+ * All methods are static. This class cannot be instantiated.
+ * </p>
+ */
+public final class BinaryFrames {
+
+    /**
+     * The first byte of every frame.
+     */
+    public static final byte MAGIC = (byte) 0xEC;
+
+    /**
+     * The format version written by this library.
+     */
+    public static final byte VERSION = 1;
+
+    private static final int MAX_VARINT_BYTES = 5;
+
+    private BinaryFrames() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the size in bytes of the frame holding {@code value}.
+     *
+     * @param <T>   the type of the value
+     * @param value the value to measure
+     * @param codec the codec for the value
+     * @return the frame size, header included
+     */
+    public static <T> int frameSize(T value, BinaryCodec<T> codec) {
+        int bodySize = codec.encodedSize(value);
+        return 2 + Wire.varLongSize(bodySize) + bodySize;
+    }
+
+    /**
+     * Writes {@code value} as a frame at the position of {@code dst}.
+     *
+     * @param <T>   the type of the value
+     * @param value the value to write
+     * @param codec the codec for the value
+     * @param dst   the destination buffer, with at least {@link #frameSize} bytes remaining
+     * @throws java.nio.BufferOverflowException if {@code dst} has too few bytes remaining
+     */
+    public static <T> void write(T value, BinaryCodec<T> codec, ByteBuffer dst) {
+        int bodySize = codec.encodedSize(value);
+        dst.put(MAGIC).put(VERSION);
+        Wire.writeVarLong(dst, bodySize);
+        int start = dst.position();
+        codec.write(value, dst);
+        if (dst.position() - start != bodySize) {
+            throw new IllegalStateException("Codec wrote " + (dst.position() - start) + " bytes, expected " + bodySize);
+        }
+    }
+
+    /**
+     * Encodes {@code value} as a frame into a new heap buffer, ready for reading.
+     *
+     * @param <T>   the type of the value
+     * @param value the value to encode
+     * @param codec the codec for the value
+     * @return a flipped buffer holding exactly one frame
+     */
+    public static <T> ByteBuffer encode(T value, BinaryCodec<T> codec) {
+        ByteBuffer buffer = ByteBuffer.allocate(frameSize(value, codec));
+        write(value, codec, buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * Reads one frame at the position of {@code src} and advances past it.
+     *
+     * @param <T>   the type of the value
+     * @param src   the source buffer, heap or direct
+     * @param codec the codec for the value
+     * @return the decoded value
+     * @throws java.nio.BufferUnderflowException if {@code src} ends before the frame is complete
+     * @throws IllegalArgumentException          if the header is invalid or the body is malformed
+     */
+    public static <T> T read(ByteBuffer src, BinaryCodec<T> codec) {
+        checkHeader(src.get(), src.get());
+        int bodySize = Wire.readVarInt(src);
+        if (bodySize > src.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        ByteBuffer body = src.slice(src.position(), bodySize);
+        T value = codec.read(body);
+        if (body.hasRemaining()) {
+            throw new IllegalArgumentException(body.remaining() + " trailing bytes in frame body");
+        }
+        src.position(src.position() + bodySize);
+        return value;
+    }
+
+    /**
+     * Writes {@code value} as a frame to {@code out}.
+     *
+     * @param <T>   the type of the value
+     * @param value the value to write
+     * @param codec the codec for the value
+     * @param out   the target stream, which is neither flushed nor closed
+     * @throws IOException if writing to {@code out} fails
+     */
+    public static <T> void write(T value, BinaryCodec<T> codec, OutputStream out) throws IOException {
+        ByteBuffer frame = encode(value, codec);
+        out.write(frame.array(), 0, frame.limit());
+    }
+
+    /**
+     * Reads one frame from {@code in}.
+     *
+     * @param <T>   the type of the value
+     * @param in    the source stream
+     * @param codec the codec for the value
+     * @return the decoded value, or {@code null} if the stream ended before a new frame
+     * @throws EOFException              if the stream ends inside a frame
+     * @throws StreamCorruptedException  if the header is invalid
+     * @throws IOException               if reading from {@code in} fails
+     * @throws IllegalArgumentException  if the body is malformed
+     */
+    public static <T> T read(InputStream in, BinaryCodec<T> codec) throws IOException {
+        int magic = in.read();
+        if (magic < 0) {
+            return null;
+        }
+        int version = readByte(in);
+        if ((byte) magic != MAGIC || (byte) version != VERSION) {
+            throw new StreamCorruptedException("Unsupported frame header " + magic + "/" + version);
+        }
+        int bodySize = readVarInt(in);
+        byte[] body = in.readNBytes(bodySize);
+        if (body.length < bodySize) {
+            throw new EOFException("Frame body truncated after " + body.length + " of " + bodySize + " bytes");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        T value = codec.read(buffer);
+        if (buffer.hasRemaining()) {
+            throw new IllegalArgumentException(buffer.remaining() + " trailing bytes in frame body");
+        }
+        return value;
+    }
+
+    private static void checkHeader(byte magic, byte version) {
+        if (magic != MAGIC) {
+            throw new IllegalArgumentException("Not a binary frame, magic byte is " + magic);
+        }
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported binary frame version " + version);
+        }
+    }
+
+    private static int readByte(InputStream in) throws IOException {
+        int b = in.read();
+        if (b < 0) {
+            throw new EOFException("Frame header truncated");
+        }
+        return b;
+    }
+
+    private static int readVarInt(InputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < MAX_VARINT_BYTES * 7; shift += 7) {
+            int b = readByte(in);
+            value |= (b & 0x7F) << shift;
+            if (b < 0x80) {
+                if (value < 0) {
+                    throw new StreamCorruptedException("Frame body size out of range");
+                }
+                return value;
+            }
+        }
+        throw new StreamCorruptedException("Malformed frame body size");
+    }
+}
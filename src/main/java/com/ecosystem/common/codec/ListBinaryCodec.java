@@ -0,0 +1,66 @@
+package com.ecosystem.common.codec;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Binary codec for lists, encoded as a varint element count followed by the elements.
+ * Elements must not be {@code null}.
+ *
+ * @param <T> the type of the list elements
+ */
+public final class ListBinaryCodec<T> implements BinaryCodec<List<T>> {
+
+    private final BinaryCodec<T> elementCodec;
+
+    private ListBinaryCodec(BinaryCodec<T> elementCodec) {
+        this.elementCodec = elementCodec;
+    }
+
+    /**
+     * Creates a list codec encoding each element with {@code elementCodec}.
+     *
+     * @param <T>          the type of the list elements
+     * @param elementCodec the codec for the elements; must not be {@code null}
+     * @return a list codec
+     * @throws NullPointerException if {@code elementCodec} is {@code null}
+     */
+    public static <T> ListBinaryCodec<T> of(BinaryCodec<T> elementCodec) {
+        if (elementCodec == null) {
+            throw new NullPointerException("elementCodec must not be null");
+        }
+        return new ListBinaryCodec<>(elementCodec);
+    }
+
+    @Override
+    public int encodedSize(List<T> values) {
+        int size = Wire.varLongSize(values.size());
+        for (T value : values) {
+            size += elementCodec.encodedSize(value);
+        }
+        return size;
+    }
+
+    @Override
+    public void write(List<T> values, ByteBuffer dst) {
+        Wire.writeVarLong(dst, values.size());
+        for (T value : values) {
+            elementCodec.write(value, dst);
+        }
+    }
+
+    @Override
+    public List<T> read(ByteBuffer src) {
+        int count = Wire.readVarInt(src);
+        // Every element takes at least one byte, which bounds the allocation for corrupt input
+        if (count > src.remaining()) {
+            throw new IllegalArgumentException("List count " + count + " exceeds remaining bytes");
+        }
+        List<T> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            values.add(elementCodec.read(src));
+        }
+        return values;
+    }
+}
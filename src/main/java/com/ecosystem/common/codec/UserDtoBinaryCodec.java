@@ -0,0 +1,80 @@
+package com.ecosystem.common.codec;
+
+import com.ecosystem.common.dto.UserDto;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+/**
+ * Binary codec for {@link UserDto}.
+ * <p>
+ * Layout: a presence byte for the nullable {@code id}, {@code createdAt} and {@code updatedAt},
+ * the zig-zag varint {@code id}, the three length-prefixed UTF-8 strings, then each timestamp as
+ * varint epoch seconds and nanoseconds.
+ * </p>
+ */
+public final class UserDtoBinaryCodec implements BinaryCodec<UserDto> {
+
+    /**
+     * The shared codec instance.
+     */
+    public static final UserDtoBinaryCodec INSTANCE = new UserDtoBinaryCodec();
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_CREATED_AT = 1 << 1;
+    private static final int HAS_UPDATED_AT = 1 << 2;
+
+    private UserDtoBinaryCodec() {
+    }
+
+    @Override
+    public int encodedSize(UserDto user) {
+        int size = 1 + Wire.stringSize(user.username()) + Wire.stringSize(user.email())
+                + Wire.stringSize(user.fullName());
+        if (user.id() != null) {
+            size += Wire.varLongSize(Wire.zigZag(user.id()));
+        }
+        if (user.createdAt() != null) {
+            size += Wire.instantSize(user.createdAt());
+        }
+        if (user.updatedAt() != null) {
+            size += Wire.instantSize(user.updatedAt());
+        }
+        return size;
+    }
+
+    @Override
+    public void write(UserDto user, ByteBuffer dst) {
+        int flags = (user.id() != null ? HAS_ID : 0)
+                | (user.createdAt() != null ? HAS_CREATED_AT : 0)
+                | (user.updatedAt() != null ? HAS_UPDATED_AT : 0);
+        dst.put((byte) flags);
+        if (user.id() != null) {
+            Wire.writeVarLong(dst, Wire.zigZag(user.id()));
+        }
+        Wire.writeString(dst, user.username());
+        Wire.writeString(dst, user.email());
+        Wire.writeString(dst, user.fullName());
+        if (user.createdAt() != null) {
+            Wire.writeInstant(dst, user.createdAt());
+        }
+        if (user.updatedAt() != null) {
+            Wire.writeInstant(dst, user.updatedAt());
+        }
+    }
+
+    @Override
+    public UserDto read(ByteBuffer src) {
+        int flags = src.get();
+        if ((flags & ~(HAS_ID | HAS_CREATED_AT | HAS_UPDATED_AT)) != 0) {
+            throw new IllegalArgumentException("Unknown UserDto flags: " + flags);
+        }
+        Long id = (flags & HAS_ID) != 0 ? Wire.unZigZag(Wire.readVarLong(src)) : null;
+        String username = Wire.readString(src);
+        String email = Wire.readString(src);
+        String fullName = Wire.readString(src);
+        Instant createdAt = (flags & HAS_CREATED_AT) != 0 ? Wire.readInstant(src) : null;
+        Instant updatedAt = (flags & HAS_UPDATED_AT) != 0 ? Wire.readInstant(src) : null;
+        return new UserDto(id, username, email, fullName, createdAt, updatedAt);
+    }
+}
@@ -0,0 +1,147 @@
+package com.ecosystem.common.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Primitive encodings of the binary wire format: LEB128 varints, zig-zag signed varints,
+ * length-prefixed UTF-8 strings and epoch-second/nanosecond instants.
+ */
+final class Wire {
+
+    private Wire() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static int varLongSize(long value) {
+        return value == 0 ? 1 : (64 - Long.numberOfLeadingZeros(value) + 6) / 7;
+    }
+
+    static void writeVarLong(ByteBuffer dst, long value) {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            dst.put((byte) ((remaining & 0x7F) | 0x80));
+            remaining >>>= 7;
+        }
+        dst.put((byte) remaining);
+    }
+
+    static long readVarLong(ByteBuffer src) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = src.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    static int readVarInt(ByteBuffer src) {
+        long value = readVarLong(src);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Varint out of int range: " + value);
+        }
+        return (int) value;
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // A null string is encoded as length 0, any other string as UTF-8 byte length + 1
+    static int stringSize(String value) {
+        if (value == null) {
+            return 1;
+        }
+        int bytes = utf8Length(value);
+        return varLongSize(bytes + 1L) + bytes;
+    }
+
+    static void writeString(ByteBuffer dst, String value) {
+        if (value == null) {
+            dst.put((byte) 0);
+            return;
+        }
+        writeVarLong(dst, utf8Length(value) + 1L);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                dst.put((byte) c);
+            } else if (c < 0x800) {
+                dst.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int cp = Character.toCodePoint(c, value.charAt(++i));
+                dst.put((byte) (0xF0 | cp >> 18)).put((byte) (0x80 | cp >> 12 & 0x3F))
+                        .put((byte) (0x80 | cp >> 6 & 0x3F)).put((byte) (0x80 | cp & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                dst.put((byte) '?');
+            } else {
+                dst.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F)).put((byte) (0x80 | c & 0x3F));
+            }
+        }
+    }
+
+    // Heap buffers are decoded in place; direct buffers are copied once into a transient array
+    static String readString(ByteBuffer src) {
+        int header = readVarInt(src);
+        if (header == 0) {
+            return null;
+        }
+        int length = header - 1;
+        if (length > src.remaining()) {
+            throw new IllegalArgumentException("String length " + length + " exceeds remaining bytes");
+        }
+        String value;
+        if (src.hasArray()) {
+            value = new String(src.array(), src.arrayOffset() + src.position(), length, StandardCharsets.UTF_8);
+        } else {
+            byte[] bytes = new byte[length];
+            src.get(src.position(), bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        src.position(src.position() + length);
+        return value;
+    }
+
+    // Unpaired surrogates count as one byte, matching the '?' String.getBytes(UTF_8) substitutes
+    static int utf8Length(String value) {
+        int length = value.length();
+        int bytes = length;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                if (c < 0x800) {
+                    bytes += 1;
+                } else if (Character.isHighSurrogate(c) && i + 1 < length
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    bytes += 2;
+                    i++;
+                } else if (!Character.isSurrogate(c)) {
+                    bytes += 2;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    static int instantSize(Instant value) {
+        return varLongSize(zigZag(value.getEpochSecond())) + varLongSize(value.getNano());
+    }
+
+    static void writeInstant(ByteBuffer dst, Instant value) {
+        writeVarLong(dst, zigZag(value.getEpochSecond()));
+        writeVarLong(dst, value.getNano());
+    }
+
+    static Instant readInstant(ByteBuffer src) {
+        return Instant.ofEpochSecond(unZigZag(readVarLong(src)), readVarInt(src));
+    }
+}
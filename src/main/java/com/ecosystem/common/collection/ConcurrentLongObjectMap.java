@@ -0,0 +1,306 @@
+package com.ecosystem.common.collection;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Thread-safe hash map from primitive {@code long} keys to non-null values, with the layout of
+ * {@link LongObjectMap}.
+ * <p>
+ * Keys are spread over a fixed number of stripes, each an independent table guarded by its own
+ * {@link StampedLock}. Writers lock only their stripe, so writers of different stripes never
+ * contend. Readers take no lock at all in the common case: they probe the stripe under an
+ * optimistic stamp and only retry under the read lock if a writer changed the stripe meanwhile.
+ * </p>
+ * <p>
+ * {@link #size()} and {@link #forEach(ObjLongConsumer)} see each stripe at one point in time,
+ * but not all stripes at the same one.
+ * </p>
+ *
+ * @param <V> the value type
+ */
+public final class ConcurrentLongObjectMap<V> {
+
+    private static final int MAX_STRIPES = 1 << 16;
+
+    private final Stripe<V>[] stripes;
+    private final int stripeShift;
+
+    /**
+     * Creates an empty map with four stripes per available processor.
+     */
+    public ConcurrentLongObjectMap() {
+        this(0, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} entries without resizing, with four
+     * stripes per available processor.
+     *
+     * @param expectedSize the number of entries to size the map for
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too large
+     */
+    public ConcurrentLongObjectMap(int expectedSize) {
+        this(expectedSize, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} entries without resizing, with at
+     * least {@code stripes} independently locked stripes (rounded up to a power of two).
+     *
+     * @param expectedSize the number of entries to size the map for
+     * @param stripes      the minimum number of stripes
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too large, or
+     *                                  {@code stripes} is not between 1 and {@code 2^16}
+     */
+    public ConcurrentLongObjectMap(int expectedSize, int stripes) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative");
+        }
+        if (stripes < 1 || stripes > MAX_STRIPES) {
+            throw new IllegalArgumentException("stripes must be between 1 and " + MAX_STRIPES);
+        }
+        int count = Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+        this.stripes = newStripes(count);
+        this.stripeShift = 32 - Integer.numberOfTrailingZeros(count);
+        int capacity = LongTable.capacityFor((expectedSize + count - 1) / count);
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe<>(capacity);
+        }
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, usually without locking.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if there is none
+     */
+    public V get(long key) {
+        Stripe<V> stripe = stripe(key);
+        long stamp = stripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            V value = stripe.table.get(key);
+            if (stripe.lock.validate(stamp)) {
+                return value;
+            }
+        }
+        stamp = stripe.lock.readLock();
+        try {
+            return stripe.table.get(key);
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or {@code defaultValue} if there is none.
+     *
+     * @param key          the key
+     * @param defaultValue the value to return for a missing key
+     * @return the value or {@code defaultValue}
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        V value = get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Returns whether {@code key} is mapped.
+     *
+     * @param key the key
+     * @return {@code true} if the map contains {@code key}
+     */
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value, or {@code null} if there was none
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value must not be null");
+        }
+        Stripe<V> stripe = stripe(key);
+        long stamp = stripe.lock.writeLock();
+        try {
+            return stripe.put(key, value);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Atomically maps {@code key} to {@code value} unless it is already mapped.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the existing value, or {@code null} if {@code value} was added
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public V putIfAbsent(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value must not be null");
+        }
+        Stripe<V> stripe = stripe(key);
+        long stamp = stripe.lock.writeLock();
+        try {
+            V existing = stripe.table.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            stripe.put(key, value);
+            return null;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, first mapping it to the result of
+     * {@code mappingFunction} if there is none. The function runs at most once per missing key,
+     * under the lock of the key's stripe. Nothing is mapped if it returns {@code null}.
+     *
+     * @param key             the key
+     * @param mappingFunction computes the value of a missing key; must be short and must not
+     *                        access this map
+     * @return the existing or computed value, or {@code null} if the function returned {@code null}
+     * @throws NullPointerException if {@code mappingFunction} is {@code null}
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        if (mappingFunction == null) {
+            throw new NullPointerException("mappingFunction must not be null");
+        }
+        V existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        Stripe<V> stripe = stripe(key);
+        long stamp = stripe.lock.writeLock();
+        try {
+            existing = stripe.table.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            V value = mappingFunction.apply(key);
+            if (value != null) {
+                stripe.put(key, value);
+            }
+            return value;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the mapping of {@code key}.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if there was none
+     */
+    public V remove(long key) {
+        Stripe<V> stripe = stripe(key);
+        long stamp = stripe.lock.writeLock();
+        try {
+            V removed = stripe.table.remove(key);
+            stripe.size = stripe.table.size();
+            return removed;
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of entries, summed over the stripes without locking.
+     *
+     * @return the map size
+     */
+    public int size() {
+        int size = 0;
+        for (Stripe<V> stripe : stripes) {
+            size += stripe.size;
+        }
+        return size;
+    }
+
+    /**
+     * Returns whether the map has no entries.
+     *
+     * @return {@code true} if the map is empty
+     */
+    public boolean isEmpty() {
+        for (Stripe<V> stripe : stripes) {
+            if (stripe.size != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Passes every entry to {@code action} as {@code (value, key)}, in no particular order. Each
+     * stripe is copied under its read lock and visited after the lock is released, so
+     * {@code action} may modify the map.
+     *
+     * @param action receives each entry
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    public void forEach(ObjLongConsumer<? super V> action) {
+        if (action == null) {
+            throw new NullPointerException("action must not be null");
+        }
+        for (Stripe<V> stripe : stripes) {
+            LongTable<V> copy;
+            long stamp = stripe.lock.readLock();
+            try {
+                copy = stripe.table.resize(stripe.table.capacity());
+            } finally {
+                stripe.lock.unlockRead(stamp);
+            }
+            copy.forEach(action);
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <V> Stripe<V>[] newStripes(int count) {
+        return new Stripe[count];
+    }
+
+    // The top bits of the low half of the hash pick the stripe; the table inside it probes from
+    // the high half
+    private Stripe<V> stripe(long key) {
+        return stripes[(int) ((LongTable.hash(key) & 0xFFFF_FFFFL) >>> stripeShift)];
+    }
+
+    // One independently locked table; the table field is only written under the write lock
+    private static final class Stripe<V> {
+        private final StampedLock lock = new StampedLock();
+        private LongTable<V> table;
+        private volatile int size;
+
+        Stripe(int capacity) {
+            this.table = new LongTable<>(capacity);
+        }
+
+        // Caller holds the write lock
+        V put(long key, V value) {
+            V previous = table.put(key, value);
+            if (previous == null) {
+                if (table.isOverloaded()) {
+                    if (table.capacity() == LongTable.MAX_CAPACITY) {
+                        throw new IllegalStateException("ConcurrentLongObjectMap stripe is full");
+                    }
+                    table = table.resize(table.capacity() * 2);
+                }
+                size = table.size();
+            }
+            return previous;
+        }
+    }
+}
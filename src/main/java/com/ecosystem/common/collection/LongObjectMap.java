@@ -0,0 +1,217 @@
+package com.ecosystem.common.collection;
+
+import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Hash map from primitive {@code long} keys to non-null values, for lookups by id without boxing.
+ * <p>
+ * A {@code HashMap<Long, V>} holds a {@code Long} and a node per entry and follows two pointers
+ * per lookup. This map keeps keys in a {@code long[]} and values in a parallel array, probing
+ * linearly from a Fibonacci hash of the key, so a lookup touches two arrays and allocates
+ * nothing. Removal moves later entries back instead of leaving tombstones, so heavy churn never
+ * slows lookups down. The tables are kept at most three quarters full and double when that load
+ * is passed.
+ * </p>
+ * <pre>{@code
+ * LongObjectMap<UserDto> users = new LongObjectMap<>(dtos.size());
+ * dtos.forEach(user -> users.put(user.id(), user));
+ * UserDto user = users.get(42L);
+ * }</pre>
+ * <p>
+ * Instances are not thread-safe; see {@link ConcurrentLongObjectMap} for shared use.
+ * </p>
+ *
+ * @param <V> the value type
+ */
+public final class LongObjectMap<V> {
+
+    private LongTable<V> table;
+
+    /**
+     * Creates an empty map.
+     */
+    public LongObjectMap() {
+        this(0);
+    }
+
+    /**
+     * Creates an empty map that holds {@code expectedSize} entries without resizing.
+     *
+     * @param expectedSize the number of entries to size the map for
+     * @throws IllegalArgumentException if {@code expectedSize} is negative or too large
+     */
+    public LongObjectMap(int expectedSize) {
+        if (expectedSize < 0) {
+            throw new IllegalArgumentException("expectedSize must not be negative");
+        }
+        this.table = new LongTable<>(LongTable.capacityFor(expectedSize));
+    }
+
+    /**
+     * Returns the value mapped to {@code key}.
+     *
+     * @param key the key
+     * @return the value, or {@code null} if there is none
+     */
+    public V get(long key) {
+        return table.get(key);
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, or {@code defaultValue} if there is none.
+     *
+     * @param key          the key
+     * @param defaultValue the value to return for a missing key
+     * @return the value or {@code defaultValue}
+     */
+    public V getOrDefault(long key, V defaultValue) {
+        V value = table.get(key);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Returns whether {@code key} is mapped.
+     *
+     * @param key the key
+     * @return {@code true} if the map contains {@code key}
+     */
+    public boolean containsKey(long key) {
+        return table.get(key) != null;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}, replacing any previous value.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the previous value, or {@code null} if there was none
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value must not be null");
+        }
+        V previous = table.put(key, value);
+        if (previous == null && table.isOverloaded()) {
+            grow();
+        }
+        return previous;
+    }
+
+    /**
+     * Maps {@code key} to {@code value} unless it is already mapped.
+     *
+     * @param key   the key
+     * @param value the value
+     * @return the existing value, or {@code null} if {@code value} was added
+     * @throws NullPointerException if {@code value} is {@code null}
+     */
+    public V putIfAbsent(long key, V value) {
+        if (value == null) {
+            throw new NullPointerException("value must not be null");
+        }
+        V existing = table.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return null;
+    }
+
+    /**
+     * Returns the value mapped to {@code key}, first mapping it to the result of
+     * {@code mappingFunction} if there is none. Nothing is mapped if the function returns
+     * {@code null}.
+     *
+     * @param key             the key
+     * @param mappingFunction computes the value of a missing key; must not modify this map
+     * @return the existing or computed value, or {@code null} if the function returned {@code null}
+     * @throws NullPointerException if {@code mappingFunction} is {@code null}
+     */
+    public V computeIfAbsent(long key, LongFunction<? extends V> mappingFunction) {
+        if (mappingFunction == null) {
+            throw new NullPointerException("mappingFunction must not be null");
+        }
+        V existing = table.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        V value = mappingFunction.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Removes the mapping of {@code key}.
+     *
+     * @param key the key
+     * @return the removed value, or {@code null} if there was none
+     */
+    public V remove(long key) {
+        return table.remove(key);
+    }
+
+    /**
+     * Returns the number of entries.
+     *
+     * @return the map size
+     */
+    public int size() {
+        return table.size();
+    }
+
+    /**
+     * Returns whether the map has no entries.
+     *
+     * @return {@code true} if the map is empty
+     */
+    public boolean isEmpty() {
+        return table.size() == 0;
+    }
+
+    /**
+     * Removes all entries, keeping the current capacity.
+     */
+    public void clear() {
+        table = new LongTable<>(table.capacity());
+    }
+
+    /**
+     * Passes every entry to {@code action} as {@code (value, key)}, in no particular order,
+     * without boxing the keys.
+     *
+     * @param action receives each entry; must not modify this map
+     * @throws NullPointerException if {@code action} is {@code null}
+     */
+    public void forEach(ObjLongConsumer<? super V> action) {
+        if (action == null) {
+            throw new NullPointerException("action must not be null");
+        }
+        table.forEach(action);
+    }
+
+    /**
+     * Returns the entries in the form {@code {key=value, ...}}, in no particular order.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        table.forEach((value, key) -> {
+            if (sb.length() > 1) {
+                sb.append(", ");
+            }
+            sb.append(key).append('=').append(value);
+        });
+        return sb.append('}').toString();
+    }
+
+    private void grow() {
+        if (table.capacity() == LongTable.MAX_CAPACITY) {
+            throw new IllegalStateException("LongObjectMap is full");
+        }
+        table = table.resize(table.capacity() * 2);
+    }
+}
@@ -0,0 +1,164 @@
+package com.ecosystem.common.collection;
+
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Fixed-capacity linear-probing table behind {@link LongObjectMap} and the stripes of
+ * {@link ConcurrentLongObjectMap}. A slot is empty when its value is {@code null}, so every
+ * {@code long} is a valid key and no value may be {@code null}.
+ * <p>
+ * Removal shifts the following entries of the probe run back into the freed slot instead of
+ * leaving a tombstone, so lookups never walk over deleted entries and the table never has to be
+ * rebuilt to reclaim them. Keys and values live in one object so that a reader always sees
+ * arrays of the same generation; a full table is replaced by a larger one, never grown in place.
+ * </p>
+ */
+final class LongTable<V> {
+
+    static final int MIN_CAPACITY = 8;
+    static final int MAX_CAPACITY = 1 << 30;
+
+    private final long[] keys;
+    private final Object[] values;
+    private final int mask;
+    private int size;
+
+    LongTable(int capacity) {
+        this.keys = new long[capacity];
+        this.values = new Object[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Returns the smallest power-of-two capacity that holds {@code expectedSize} entries without
+     * exceeding the maximum load of three quarters.
+     */
+    static int capacityFor(int expectedSize) {
+        long needed = Math.max(MIN_CAPACITY, expectedSize + (expectedSize + 2) / 3);
+        if (needed > MAX_CAPACITY) {
+            throw new IllegalArgumentException("expectedSize is too large: " + expectedSize);
+        }
+        return Integer.highestOneBit((int) needed - 1) << 1;
+    }
+
+    // Fibonacci hashing spreads sequential ids; the high half of the product picks the slot
+    static long hash(long key) {
+        return key * 0x9E37_79B9_7F4A_7C15L;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Returns whether the load is past three quarters, so that the table should be replaced by
+     * a larger one before the next insertion.
+     */
+    boolean isOverloaded() {
+        return size * 4L > keys.length * 3L;
+    }
+
+    /**
+     * Returns the value of {@code key}, or {@code null}. The probe is bounded by the capacity, so
+     * it ends even on a table that another thread is changing.
+     */
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        int i = slot(key);
+        for (int probes = 0; probes <= mask; probes++) {
+            Object value = values[i];
+            if (value == null) {
+                return null;
+            }
+            if (keys[i] == key) {
+                return (V) value;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Maps {@code key} to {@code value}; the table must not be overloaded.
+     *
+     * @return the previous value, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        int i = slot(key);
+        for (Object current = values[i]; current != null; current = values[i]) {
+            if (keys[i] == key) {
+                values[i] = value;
+                return (V) current;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+        return null;
+    }
+
+    /**
+     * Removes {@code key}, moving later entries of its probe run back so that no gap breaks it.
+     *
+     * @return the removed value, or {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int i = slot(key);
+        for (Object current = values[i]; current != null; current = values[i]) {
+            if (keys[i] == key) {
+                shiftBack(i);
+                size--;
+                return (V) current;
+            }
+            i = (i + 1) & mask;
+        }
+        return null;
+    }
+
+    // An entry at j may fill the hole unless its home slot lies cyclically in (hole, j]
+    private void shiftBack(int hole) {
+        values[hole] = null;
+        for (int j = (hole + 1) & mask; values[j] != null; j = (j + 1) & mask) {
+            int home = slot(keys[j]);
+            if (((j - home) & mask) >= ((j - hole) & mask)) {
+                keys[hole] = keys[j];
+                values[hole] = values[j];
+                values[j] = null;
+                hole = j;
+            }
+        }
+    }
+
+    /**
+     * Returns a table of {@code capacity} holding the entries of this one.
+     */
+    LongTable<V> resize(int capacity) {
+        LongTable<V> resized = new LongTable<>(capacity);
+        forEach((value, key) -> resized.put(key, value));
+        return resized;
+    }
+
+    /**
+     * Passes every entry to {@code action} as {@code (value, key)}.
+     */
+    @SuppressWarnings("unchecked")
+    void forEach(ObjLongConsumer<? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null) {
+                action.accept((V) value, keys[i]);
+            }
+        }
+    }
+
+    private int slot(long key) {
+        return (int) (hash(key) >>> 32) & mask;
+    }
+}
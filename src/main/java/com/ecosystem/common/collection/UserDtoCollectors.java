@@ -0,0 +1,99 @@
+package com.ecosystem.common.collection;
+
+import com.ecosystem.common.dto.UserDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collector;
+
+/**
+ * {@link Collector}s that index {@link UserDto} streams by {@code id} into primitive-keyed maps,
+ * without boxing an id or allocating a map node per user.
+ * <pre>{@code
+ * LongObjectMap<UserDto> byId = users.stream().collect(UserDtoCollectors.toMapById());
+ * }</pre>
+ * <p>
+ * Every collector rejects users whose {@code id} is {@code null} with an
+ * {@link IllegalArgumentException}.
+ * </p>
+ */
+public final class UserDtoCollectors {
+
+    private UserDtoCollectors() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns a collector grouping users by id, keeping the users of each id in encounter order.
+     *
+     * @return the grouping collector
+     */
+    public static Collector<UserDto, ?, LongObjectMap<List<UserDto>>> groupingById() {
+        return Collector.of(LongObjectMap::new,
+                (map, user) -> map.computeIfAbsent(id(user), id -> new ArrayList<>()).add(user),
+                (left, right) -> {
+                    right.forEach((users, id) -> left.computeIfAbsent(id, k -> new ArrayList<>()).addAll(users));
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a collector mapping each id to its user, like
+     * {@link java.util.stream.Collectors#toMap(java.util.function.Function, java.util.function.Function)}.
+     *
+     * @return the collector
+     * @throws IllegalStateException when collecting, if two users share an id
+     */
+    public static Collector<UserDto, ?, LongObjectMap<UserDto>> toMapById() {
+        return Collector.of(LongObjectMap::new, UserDtoCollectors::putUnique,
+                (left, right) -> {
+                    right.forEach((user, id) -> putUnique(left, user));
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Returns a concurrent collector mapping each id to its user: a parallel stream fills one
+     * {@link ConcurrentLongObjectMap} from all its threads instead of merging a map per thread.
+     *
+     * @return the concurrent collector
+     * @throws IllegalStateException when collecting, if two users share an id
+     */
+    public static Collector<UserDto, ?, ConcurrentLongObjectMap<UserDto>> toConcurrentMapById() {
+        return Collector.of(ConcurrentLongObjectMap::new,
+                (map, user) -> {
+                    if (map.putIfAbsent(id(user), user) != null) {
+                        throw duplicate(user.id());
+                    }
+                },
+                (left, right) -> {
+                    right.forEach((user, id) -> {
+                        if (left.putIfAbsent(id, user) != null) {
+                            throw duplicate(id);
+                        }
+                    });
+                    return left;
+                },
+                Collector.Characteristics.CONCURRENT, Collector.Characteristics.UNORDERED,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    private static void putUnique(LongObjectMap<UserDto> map, UserDto user) {
+        if (map.putIfAbsent(id(user), user) != null) {
+            throw duplicate(user.id());
+        }
+    }
+
+    private static long id(UserDto user) {
+        if (user.id() == null) {
+            throw new IllegalArgumentException("user id must not be null");
+        }
+        return user.id();
+    }
+
+    private static IllegalStateException duplicate(long id) {
+        return new IllegalStateException("Duplicate user id " + id);
+    }
+}
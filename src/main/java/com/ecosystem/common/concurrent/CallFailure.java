@@ -0,0 +1,96 @@
+package com.ecosystem.common.concurrent;
+
+import com.ecosystem.common.exception.BaseException;
+
+import java.util.Objects;
+
+/**
+ * Why one call of a {@link FanOut} produced no value.
+ * <p>
+ * The message may reach clients through {@link FanOutResult}, so it never carries the text of
+ * an unexpected exception; that exception is kept as the {@code cause}, for logging only, and
+ * is left out of {@link #equals(Object)} and {@link #hashCode()}.
+ * </p>
+ *
+ * @param errorCode  the machine-readable error code
+ * @param httpStatus the HTTP status associated with the failure
+ * @param message    a human-readable description, safe to show to clients
+ * @param cause      the exception thrown by the call, or {@code null} if it threw none
+ */
+public record CallFailure(String errorCode, int httpStatus, String message, Throwable cause) {
+
+    /**
+     * Error code of calls that threw something other than a {@link BaseException}.
+     */
+    public static final String INTERNAL_ERROR = "INTERNAL_ERROR";
+
+    /**
+     * Error code of calls still running when the deadline passed.
+     */
+    public static final String DEADLINE_EXCEEDED = "DEADLINE_EXCEEDED";
+
+    /**
+     * Error code of calls cancelled because the calling thread was interrupted.
+     */
+    public static final String CANCELLED = "CANCELLED";
+
+    private static final String INTERNAL_ERROR_MESSAGE = "Internal error";
+
+    /**
+     * Creates a failure without a cause.
+     *
+     * @param errorCode  the machine-readable error code
+     * @param httpStatus the HTTP status associated with the failure
+     * @param message    a human-readable description, safe to show to clients
+     */
+    public CallFailure(String errorCode, int httpStatus, String message) {
+        this(errorCode, httpStatus, message, null);
+    }
+
+    /**
+     * Describes a call that threw {@code failure}: a {@link BaseException} keeps its error code,
+     * HTTP status and message, anything else becomes {@value #INTERNAL_ERROR} with status 500 and
+     * the fixed message "Internal error", so internal details are not passed on to clients.
+     * Either way {@code failure} is kept as the cause.
+     *
+     * @param failure the exception thrown by the call; must not be {@code null}
+     * @return the failure
+     * @throws NullPointerException if {@code failure} is {@code null}
+     */
+    public static CallFailure of(Throwable failure) {
+        if (failure == null) {
+            throw new NullPointerException("failure must not be null");
+        }
+        if (failure instanceof BaseException base) {
+            return new CallFailure(base.getErrorCode(), base.getHttpStatus(), base.getMessage(), failure);
+        }
+        return new CallFailure(INTERNAL_ERROR, 500, INTERNAL_ERROR_MESSAGE, failure);
+    }
+
+    static CallFailure deadlineExceeded() {
+        return new CallFailure(DEADLINE_EXCEEDED, 504, "Call did not complete before the deadline");
+    }
+
+    static CallFailure cancelled() {
+        return new CallFailure(CANCELLED, 503, "Call was cancelled");
+    }
+
+    /**
+     * Compares the error code, HTTP status and message; the cause is ignored.
+     *
+     * @param other the object to compare with
+     * @return {@code true} if {@code other} describes the same failure
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof CallFailure that
+                && httpStatus == that.httpStatus
+                && Objects.equals(errorCode, that.errorCode)
+                && Objects.equals(message, that.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(errorCode, httpStatus, message);
+    }
+}
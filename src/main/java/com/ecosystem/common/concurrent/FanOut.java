@@ -0,0 +1,261 @@
+package com.ecosystem.common.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a set of independent calls in parallel, one virtual thread per call, and collects their
+ * outcomes into a {@link FanOutResult}.
+ * <p>
+ * Each invocation is scoped like a structured-concurrency task scope: the calls are forked when
+ * it starts, and by the time it returns every call has either completed or been cancelled by
+ * interruption, whether because the deadline passed, a call failed under
+ * {@link FanOutPolicy#FAIL_FAST}, or the calling thread was interrupted. Since virtual threads
+ * are cheap, there is no pool to size. Calls that ignore interruption keep running after the
+ * invocation returns, but their results are discarded.
+ * </p>
+ * <pre>{@code
+ * FanOut fanOut = FanOut.builder().deadline(Duration.ofMillis(300)).policy(FanOutPolicy.PARTIAL).build();
+ * ApiResponse<List<UserDto>> users = fanOut.invokeAll(List.of(
+ *         () -> eu.findUser(id), () -> us.findUser(id))).toListResponse();
+ * }</pre>
+ * <p>
+ * Instances are immutable and thread-safe.
+ * </p>
+ */
+public final class FanOut {
+
+    private static final ThreadFactory THREAD_FACTORY = Thread.ofVirtual().name("fan-out-", 0).factory();
+
+    private final long deadlineNanos;
+    private final FanOutPolicy policy;
+
+    private FanOut(Builder builder) {
+        this.deadlineNanos = builder.deadlineNanos;
+        this.policy = builder.policy;
+    }
+
+    /**
+     * Creates a builder for a fan-out without a deadline and with the
+     * {@link FanOutPolicy#FAIL_FAST} policy.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs {@code calls} in parallel, keying each outcome by the index of its call.
+     *
+     * @param calls the calls to run; must not be {@code null} or contain {@code null}
+     * @param <T>   the value type
+     * @return the values and failures, in call order
+     * @throws NullPointerException if {@code calls} is or contains {@code null}
+     */
+    public <T> FanOutResult<Integer, T> invokeAll(List<? extends Callable<? extends T>> calls) {
+        if (calls == null) {
+            throw new NullPointerException("calls must not be null");
+        }
+        Map<Integer, Callable<? extends T>> keyed = new LinkedHashMap<>();
+        for (int i = 0; i < calls.size(); i++) {
+            keyed.put(i, calls.get(i));
+        }
+        return invokeAll(keyed);
+    }
+
+    /**
+     * Runs {@code calls} in parallel, keying each outcome like its call.
+     *
+     * @param calls the calls to run by key; must not be {@code null} or contain {@code null} calls
+     * @param <K>   the key type
+     * @param <T>   the value type
+     * @return the values and failures, in the iteration order of {@code calls}
+     * @throws NullPointerException if {@code calls} is or contains {@code null}
+     */
+    public <K, T> FanOutResult<K, T> invokeAll(Map<K, ? extends Callable<? extends T>> calls) {
+        if (calls == null) {
+            throw new NullPointerException("calls must not be null");
+        }
+        long deadline = System.nanoTime() + deadlineNanos;
+        BlockingQueue<Task<K, T>> completed = new LinkedBlockingQueue<>();
+        List<Task<K, T>> tasks = fork(calls, completed);
+        Outcomes<K, T> outcomes = new Outcomes<>(tasks);
+        try {
+            join(tasks.size(), completed, deadline, outcomes);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            outcomes.cancelRemaining(CallFailure.cancelled());
+        }
+        return outcomes.toResult();
+    }
+
+    private static <K, T> List<Task<K, T>> fork(Map<K, ? extends Callable<? extends T>> calls,
+                                                BlockingQueue<Task<K, T>> completed) {
+        List<Task<K, T>> tasks = new ArrayList<>(calls.size());
+        calls.forEach((key, call) -> {
+            if (call == null) {
+                throw new NullPointerException("calls must not contain null");
+            }
+            tasks.add(new Task<>(key, call, completed));
+        });
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(THREAD_FACTORY);
+        tasks.forEach(executor::execute);
+        // Not closed: close() would wait for calls that ignore their cancellation
+        executor.shutdown();
+        return tasks;
+    }
+
+    private <K, T> void join(int count, BlockingQueue<Task<K, T>> completed, long deadline,
+                             Outcomes<K, T> outcomes) throws InterruptedException {
+        for (int remaining = count; remaining > 0; remaining--) {
+            Task<K, T> task = completed.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (task == null) {
+                outcomes.cancelRemaining(CallFailure.deadlineExceeded());
+                return;
+            }
+            if (!outcomes.complete(task) && policy == FanOutPolicy.FAIL_FAST) {
+                outcomes.cancelRemaining(null);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Builder for {@link FanOut}.
+     */
+    public static final class Builder {
+
+        private long deadlineNanos = Long.MAX_VALUE;
+        private FanOutPolicy policy = FanOutPolicy.FAIL_FAST;
+
+        private Builder() {
+        }
+
+        /**
+         * Sets how long an invocation waits for its calls; by default it waits indefinitely.
+         * Calls still running at the deadline are cancelled and reported as
+         * {@value CallFailure#DEADLINE_EXCEEDED}.
+         *
+         * @param deadline the maximum duration of an invocation; must be positive
+         * @return this builder
+         * @throws IllegalArgumentException if {@code deadline} is not positive
+         */
+        public Builder deadline(Duration deadline) {
+            if (deadline == null) {
+                throw new NullPointerException("deadline must not be null");
+            }
+            if (deadline.isNegative() || deadline.isZero()) {
+                throw new IllegalArgumentException("deadline must be positive");
+            }
+            this.deadlineNanos = deadline.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0
+                    ? Long.MAX_VALUE : deadline.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets what happens when a call fails; defaults to {@link FanOutPolicy#FAIL_FAST}.
+         *
+         * @param policy the failure policy
+         * @return this builder
+         */
+        public Builder policy(FanOutPolicy policy) {
+            if (policy == null) {
+                throw new NullPointerException("policy must not be null");
+            }
+            this.policy = policy;
+            return this;
+        }
+
+        /**
+         * Creates the fan-out.
+         *
+         * @return a new fan-out
+         */
+        public FanOut build() {
+            return new FanOut(this);
+        }
+    }
+
+    // A call that reports itself to the completion queue once its outcome is set
+    private static final class Task<K, T> extends FutureTask<T> {
+        private final K key;
+        private final BlockingQueue<Task<K, T>> completed;
+
+        @SuppressWarnings("unchecked")
+        Task(K key, Callable<? extends T> call, BlockingQueue<Task<K, T>> completed) {
+            super((Callable<T>) call);
+            this.key = key;
+            this.completed = completed;
+        }
+
+        @Override
+        protected void done() {
+            completed.add(this);
+        }
+    }
+
+    // Outcomes collected so far; only touched by the invoking thread
+    private static final class Outcomes<K, T> {
+        private final List<Task<K, T>> tasks;
+        private final Map<K, T> values = new LinkedHashMap<>();
+        private final Map<K, CallFailure> failures = new LinkedHashMap<>();
+
+        Outcomes(List<Task<K, T>> tasks) {
+            this.tasks = tasks;
+        }
+
+        // Returns whether the task succeeded
+        boolean complete(Task<K, T> task) {
+            try {
+                values.put(task.key, task.get());
+                return true;
+            } catch (ExecutionException e) {
+                failures.put(task.key, CallFailure.of(e.getCause()));
+            } catch (InterruptedException e) {
+                // Not reached: the task is done, so get() does not wait
+                Thread.currentThread().interrupt();
+                failures.put(task.key, CallFailure.cancelled());
+            }
+            return false;
+        }
+
+        // Cancels the unfinished tasks, recording them as failed unless failure is null
+        void cancelRemaining(CallFailure failure) {
+            for (Task<K, T> task : tasks) {
+                if (!values.containsKey(task.key) && !failures.containsKey(task.key)) {
+                    task.cancel(true);
+                    if (failure != null) {
+                        failures.put(task.key, failure);
+                    }
+                }
+            }
+        }
+
+        // Keeps the order of the calls rather than the order of completion
+        FanOutResult<K, T> toResult() {
+            Map<K, T> orderedValues = new LinkedHashMap<>();
+            Map<K, CallFailure> orderedFailures = new LinkedHashMap<>();
+            for (Task<K, T> task : tasks) {
+                if (values.containsKey(task.key)) {
+                    orderedValues.put(task.key, values.get(task.key));
+                } else if (failures.containsKey(task.key)) {
+                    orderedFailures.put(task.key, failures.get(task.key));
+                }
+            }
+            return new FanOutResult<>(orderedValues, orderedFailures);
+        }
+    }
+}
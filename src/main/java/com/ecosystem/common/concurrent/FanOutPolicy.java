@@ -0,0 +1,18 @@
+package com.ecosystem.common.concurrent;
+
+/**
+ * What a {@link FanOut} does when one of its calls fails.
+ */
+public enum FanOutPolicy {
+
+    /**
+     * Cancel the remaining calls on the first failure and report only that failure.
+     */
+    FAIL_FAST,
+
+    /**
+     * Let every call run until it completes or the deadline passes, and report the successful
+     * values alongside the failures.
+     */
+    PARTIAL
+}
@@ -0,0 +1,131 @@
+package com.ecosystem.common.concurrent;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.util.DateUtils;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The outcome of a {@link FanOut}: the value of every call that succeeded and the failure of
+ * every call that did not, each keyed like the calls and in their order.
+ *
+ * @param values   the values of the successful calls; unmodifiable
+ * @param failures the failures of the unsuccessful calls; unmodifiable
+ * @param <K>      the call key type
+ * @param <T>      the value type
+ */
+public record FanOutResult<K, T>(Map<K, T> values, Map<K, CallFailure> failures) {
+
+    /**
+     * Creates a result, copying the maps into unmodifiable maps that keep their iteration order.
+     *
+     * @throws NullPointerException if a map is {@code null}
+     */
+    public FanOutResult {
+        if (values == null) {
+            throw new NullPointerException("values must not be null");
+        }
+        if (failures == null) {
+            throw new NullPointerException("failures must not be null");
+        }
+        values = Collections.unmodifiableMap(new LinkedHashMap<>(values));
+        failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    /**
+     * Returns whether every call succeeded.
+     *
+     * @return {@code true} if there are no failures
+     */
+    public boolean isSuccess() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Returns the HTTP status summarizing the result: 200 if every call succeeded, otherwise the
+     * highest status among the failures, so that server errors outrank client errors.
+     *
+     * @return the HTTP status
+     */
+    public int httpStatus() {
+        if (failures.isEmpty()) {
+            return 200;
+        }
+        int status = Integer.MIN_VALUE;
+        for (CallFailure failure : failures.values()) {
+            status = Math.max(status, failure.httpStatus());
+        }
+        return status;
+    }
+
+    /**
+     * Combines the values into a response timestamped by the library clock.
+     *
+     * @return the response; see {@link #toListResponse(Clock)}
+     */
+    public ApiResponse<List<T>> toListResponse() {
+        return toListResponse(DateUtils.clock());
+    }
+
+    /**
+     * Combines the values, in call order, into a response timestamped by {@code clock}. The
+     * response is successful only if every call succeeded; otherwise its message summarizes the
+     * failures and its data holds the values that were obtained.
+     *
+     * @param clock the clock providing the timestamp; must not be {@code null}
+     * @return the response
+     */
+    public ApiResponse<List<T>> toListResponse(Clock clock) {
+        return toResponse(Collections.unmodifiableList(new ArrayList<>(values.values())), clock);
+    }
+
+    /**
+     * Combines the values into a keyed response timestamped by the library clock.
+     *
+     * @return the response; see {@link #toMapResponse(Clock)}
+     */
+    public ApiResponse<Map<K, T>> toMapResponse() {
+        return toMapResponse(DateUtils.clock());
+    }
+
+    /**
+     * Combines the values into a keyed response timestamped by {@code clock}, with the same
+     * success and message rules as {@link #toListResponse(Clock)}.
+     *
+     * @param clock the clock providing the timestamp; must not be {@code null}
+     * @return the response
+     */
+    public ApiResponse<Map<K, T>> toMapResponse(Clock clock) {
+        return toResponse(values, clock);
+    }
+
+    private <D> ApiResponse<D> toResponse(D data, Clock clock) {
+        if (clock == null) {
+            throw new NullPointerException("clock must not be null");
+        }
+        if (isSuccess()) {
+            return ApiResponse.ok(data, clock);
+        }
+        return new ApiResponse<>(false, failureMessage(), data, clock.instant());
+    }
+
+    // "User 7 not found" for one failure, "2 of 5 calls failed (NOT_FOUND: 1, ...)" for several
+    private String failureMessage() {
+        if (failures.size() == 1) {
+            return failures.values().iterator().next().message();
+        }
+        Map<String, Integer> counts = new TreeMap<>();
+        failures.values().forEach(failure -> counts.merge(failure.errorCode(), 1, Integer::sum));
+        StringBuilder message = new StringBuilder().append(failures.size()).append(" of ")
+                .append(failures.size() + values.size()).append(" calls failed (");
+        counts.forEach((code, count) -> message.append(code).append(": ").append(count).append(", "));
+        message.setLength(message.length() - 2);
+        return message.append(')').toString();
+    }
+}
@@ -1,5 +1,8 @@
 package com.ecosystem.common.dto;
 
+import com.ecosystem.common.util.DateUtils;
+
+import java.time.Clock;
 import java.time.Instant;
 
 /**
@@ -14,24 +17,58 @@ import java.time.Instant;
 public record ApiResponse<T>(boolean success, String message, T data, Instant timestamp) {
 
     /**
-     * Creates a successful response with the given data.
+     * Creates a successful response with the given data, timestamped by the library clock
+     * ({@link DateUtils#clock()}).
      *
      * @param <T> the type of the response data
      * @param data the response payload
      * @return a successful {@link ApiResponse}
      */
     public static <T> ApiResponse<T> ok(T data) {
-        return new ApiResponse<>(true, "Success", data, Instant.now());
+        return ok(data, DateUtils.clock());
+    }
+
+    /**
+     * Creates a successful response with the given data, timestamped by {@code clock}.
+     *
+     * @param <T> the type of the response data
+     * @param data the response payload
+     * @param clock the clock providing the timestamp; must not be {@code null}
+     * @return a successful {@link ApiResponse}
+     * @throws NullPointerException if {@code clock} is {@code null}
+     */
+    public static <T> ApiResponse<T> ok(T data, Clock clock) {
+        if (clock == null) {
+            throw new NullPointerException("clock must not be null");
+        }
+        return new ApiResponse<>(true, "Success", data, clock.instant());
     }
 
     /**
-     * Creates an error response with the given message.
+     * Creates an error response with the given message, timestamped by the library clock
+     * ({@link DateUtils#clock()}).
      *
      * @param <T> the type of the response data
      * @param message the error message
      * @return an error {@link ApiResponse}
      */
     public static <T> ApiResponse<T> error(String message) {
-        return new ApiResponse<>(false, message, null, Instant.now());
+        return error(message, DateUtils.clock());
+    }
+
+    /**
+     * Creates an error response with the given message, timestamped by {@code clock}.
+     *
+     * @param <T> the type of the response data
+     * @param message the error message
+     * @param clock the clock providing the timestamp; must not be {@code null}
+     * @return an error {@link ApiResponse}
+     * @throws NullPointerException if {@code clock} is {@code null}
+     */
+    public static <T> ApiResponse<T> error(String message, Clock clock) {
+        if (clock == null) {
+            throw new NullPointerException("clock must not be null");
+        }
+        return new ApiResponse<>(false, message, null, clock.instant());
     }
 }
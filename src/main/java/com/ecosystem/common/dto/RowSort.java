@@ -0,0 +1,76 @@
+package com.ecosystem.common.dto;
+
+/**
+ * Stable merge sort of row indexes for {@link UserBatch}.
+ * <p>
+ * Sorts an {@code int[]} permutation with a primitive comparator, so ordering a batch neither
+ * boxes indexes into {@code Integer}s nor materializes rows.
+ * </p>
+ */
+final class RowSort {
+
+    // Below this size insertion sort beats further splitting
+    private static final int INSERTION_THRESHOLD = 16;
+
+    private RowSort() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Compares two rows by index.
+     */
+    @FunctionalInterface
+    interface RowComparator {
+        int compare(int rowA, int rowB);
+    }
+
+    /**
+     * Returns the indexes {@code 0..size-1} ordered by {@code comparator}; equal rows keep row order.
+     */
+    static int[] sort(int size, RowComparator comparator) {
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = i;
+        }
+        if (size > 1) {
+            mergeSort(rows, rows.clone(), 0, size, comparator);
+        }
+        return rows;
+    }
+
+    // Sorts dst[from, to) using src as scratch; both hold the same values on entry
+    private static void mergeSort(int[] dst, int[] src, int from, int to, RowComparator comparator) {
+        if (to - from <= INSERTION_THRESHOLD) {
+            insertionSort(dst, from, to, comparator);
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(src, dst, from, mid, comparator);
+        mergeSort(src, dst, mid, to, comparator);
+        if (comparator.compare(src[mid - 1], src[mid]) <= 0) {
+            System.arraycopy(src, from, dst, from, to - from);
+            return;
+        }
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && comparator.compare(src[left], src[right]) <= 0)) {
+                dst[i] = src[left++];
+            } else {
+                dst[i] = src[right++];
+            }
+        }
+    }
+
+    private static void insertionSort(int[] rows, int from, int to, RowComparator comparator) {
+        for (int i = from + 1; i < to; i++) {
+            int row = rows[i];
+            int j = i - 1;
+            while (j >= from && comparator.compare(rows[j], row) > 0) {
+                rows[j + 1] = rows[j];
+                j--;
+            }
+            rows[j + 1] = row;
+        }
+    }
+}
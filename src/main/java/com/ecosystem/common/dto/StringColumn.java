@@ -0,0 +1,84 @@
+package com.ecosystem.common.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dictionary-encoded string column of a {@link UserBatch}.
+ * <p>
+ * Each distinct value is stored once as UTF-8 bytes in a shared array, delimited by an offsets
+ * array; rows hold an {@code int} code into that dictionary, or {@code -1} for {@code null}.
+ * No {@code String} objects are retained: values are decoded on access.
+ * </p>
+ */
+final class StringColumn {
+
+    private static final int NULL_CODE = -1;
+
+    private final byte[] data;
+    private final int[] offsets;
+    private final int[] codes;
+
+    private StringColumn(byte[] data, int[] offsets, int[] codes) {
+        this.data = data;
+        this.offsets = offsets;
+        this.codes = codes;
+    }
+
+    String get(int row) {
+        int code = codes[row];
+        if (code == NULL_CODE) {
+            return null;
+        }
+        return new String(data, offsets[code], offsets[code + 1] - offsets[code], StandardCharsets.UTF_8);
+    }
+
+    int distinctValues() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Accumulates values row by row, deduplicating them on the fly.
+     */
+    static final class Builder {
+        private final Map<String, Integer> dictionary = new HashMap<>();
+        private byte[] data = new byte[256];
+        private int dataLength;
+        private int[] offsets = new int[16];
+        private int[] codes;
+        private int rows;
+
+        Builder(int expectedRows) {
+            codes = new int[Math.max(expectedRows, 16)];
+        }
+
+        void add(String value) {
+            if (rows == codes.length) {
+                codes = Arrays.copyOf(codes, rows * 2);
+            }
+            codes[rows++] = value == null ? NULL_CODE : dictionary.computeIfAbsent(value, this::append);
+        }
+
+        StringColumn build() {
+            return new StringColumn(Arrays.copyOf(data, dataLength), Arrays.copyOf(offsets, dictionary.size() + 1),
+                    Arrays.copyOf(codes, rows));
+        }
+
+        private int append(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (dataLength + bytes.length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, dataLength + bytes.length));
+            }
+            System.arraycopy(bytes, 0, data, dataLength, bytes.length);
+            dataLength += bytes.length;
+            int code = dictionary.size();
+            if (code + 2 > offsets.length) {
+                offsets = Arrays.copyOf(offsets, offsets.length * 2);
+            }
+            offsets[code + 1] = dataLength;
+            return code;
+        }
+    }
+}
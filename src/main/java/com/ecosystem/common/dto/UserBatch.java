@@ -0,0 +1,301 @@
+package com.ecosystem.common.dto;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.function.IntPredicate;
+import java.util.stream.Collector;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Immutable, columnar (struct-of-arrays) container for large numbers of {@link UserDto} records.
+ * <p>
+ * Ids are kept in a {@code long[]}, timestamps as {@code long[]} epoch seconds plus {@code int[]}
+ * nanoseconds, and the string fields in dictionary-encoded UTF-8 columns. This avoids the object
+ * headers, boxed {@code Long}s, {@code Instant}s and duplicate {@code String}s of a
+ * {@code List<UserDto>}, and keeps id and timestamp scans over contiguous primitive arrays.
+ * </p>
+ * <p>
+ * Rows are addressed by index. {@link #get(int)} materializes a {@link UserDto} on demand;
+ * the primitive accessors read a single column without materializing anything.
+ * </p>
+ */
+public final class UserBatch implements Iterable<UserDto> {
+
+    private static final int NULL_NANOS = -1;
+
+    private final int size;
+    private final long[] ids;
+    private final BitSet nullIds;
+    private final StringColumn usernames;
+    private final StringColumn emails;
+    private final StringColumn fullNames;
+    private final long[] createdSeconds;
+    private final int[] createdNanos;
+    private final long[] updatedSeconds;
+    private final int[] updatedNanos;
+
+    private UserBatch(Builder builder) {
+        this.size = builder.size;
+        this.ids = Arrays.copyOf(builder.ids, size);
+        this.nullIds = (BitSet) builder.nullIds.clone();
+        this.usernames = builder.usernames.build();
+        this.emails = builder.emails.build();
+        this.fullNames = builder.fullNames.build();
+        this.createdSeconds = Arrays.copyOf(builder.createdSeconds, size);
+        this.createdNanos = Arrays.copyOf(builder.createdNanos, size);
+        this.updatedSeconds = Arrays.copyOf(builder.updatedSeconds, size);
+        this.updatedNanos = Arrays.copyOf(builder.updatedNanos, size);
+    }
+
+    /**
+     * Creates an empty builder.
+     *
+     * @return a new builder
+     */
+    public static Builder builder() {
+        return new Builder(16);
+    }
+
+    /**
+     * Creates an empty builder sized for {@code expectedSize} rows.
+     *
+     * @param expectedSize the expected number of rows
+     * @return a new builder
+     */
+    public static Builder builder(int expectedSize) {
+        return new Builder(expectedSize);
+    }
+
+    /**
+     * Returns a {@link Collector} accumulating a stream of {@link UserDto}s into a batch.
+     *
+     * @return a batch collector
+     */
+    public static Collector<UserDto, ?, UserBatch> collector() {
+        return Collector.of(UserBatch::builder, Builder::add, Builder::addAll, Builder::build);
+    }
+
+    /**
+     * Returns the number of rows.
+     *
+     * @return the row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Materializes the {@link UserDto} at {@code row}.
+     *
+     * @param row the row index
+     * @return a new {@link UserDto} with the row's values
+     * @throws IndexOutOfBoundsException if {@code row} is out of range
+     */
+    public UserDto get(int row) {
+        checkRow(row);
+        return new UserDto(hasId(row) ? ids[row] : null, usernames.get(row), emails.get(row),
+                fullNames.get(row), createdAt(row), updatedAt(row));
+    }
+
+    /**
+     * Returns whether the row has a non-null id.
+     *
+     * @param row the row index
+     * @return {@code true} if the id is present
+     */
+    public boolean hasId(int row) {
+        checkRow(row);
+        return !nullIds.get(row);
+    }
+
+    /**
+     * Returns the id at {@code row}, or {@code 0} when it is {@code null} (see {@link #hasId(int)}).
+     *
+     * @param row the row index
+     * @return the id as a primitive
+     */
+    public long id(int row) {
+        checkRow(row);
+        return ids[row];
+    }
+
+    /**
+     * Returns the creation time at {@code row}.
+     *
+     * @param row the row index
+     * @return the creation time, or {@code null}
+     */
+    public Instant createdAt(int row) {
+        checkRow(row);
+        return createdNanos[row] == NULL_NANOS ? null : Instant.ofEpochSecond(createdSeconds[row], createdNanos[row]);
+    }
+
+    /**
+     * Returns the last update time at {@code row}.
+     *
+     * @param row the row index
+     * @return the last update time, or {@code null}
+     */
+    public Instant updatedAt(int row) {
+        checkRow(row);
+        return updatedNanos[row] == NULL_NANOS ? null : Instant.ofEpochSecond(updatedSeconds[row], updatedNanos[row]);
+    }
+
+    /**
+     * Returns the indexes of the rows matching {@code predicate}, in row order.
+     * Typically used with the primitive accessors, e.g. {@code batch.filterRows(r -> batch.id(r) > 100)}.
+     *
+     * @param predicate the row predicate
+     * @return the matching row indexes
+     */
+    public int[] filterRows(IntPredicate predicate) {
+        return IntStream.range(0, size).filter(predicate).toArray();
+    }
+
+    /**
+     * Returns the row indexes ordered by ascending id, rows without id last.
+     *
+     * @return a permutation of the row indexes
+     */
+    public int[] rowsSortedById() {
+        return RowSort.sort(size, (a, b) -> nullIds.get(a) || nullIds.get(b)
+                ? Boolean.compare(nullIds.get(a), nullIds.get(b))
+                : Long.compare(ids[a], ids[b]));
+    }
+
+    /**
+     * Returns the row indexes ordered by ascending last update time, rows without one last.
+     *
+     * @return a permutation of the row indexes
+     */
+    public int[] rowsSortedByUpdatedAt() {
+        return RowSort.sort(size, (a, b) -> {
+            boolean nullA = updatedNanos[a] == NULL_NANOS;
+            boolean nullB = updatedNanos[b] == NULL_NANOS;
+            if (nullA || nullB) {
+                return Boolean.compare(nullA, nullB);
+            }
+            int bySecond = Long.compare(updatedSeconds[a], updatedSeconds[b]);
+            return bySecond != 0 ? bySecond : Integer.compare(updatedNanos[a], updatedNanos[b]);
+        });
+    }
+
+    /**
+     * Returns a sequential stream materializing one {@link UserDto} per row, lazily.
+     *
+     * @return a stream over the rows
+     */
+    public Stream<UserDto> stream() {
+        return IntStream.range(0, size).mapToObj(this::get);
+    }
+
+    @Override
+    public Iterator<UserDto> iterator() {
+        return stream().iterator();
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of range for batch of " + size);
+        }
+    }
+
+    /**
+     * Accumulates {@link UserDto}s into a {@link UserBatch}. Not thread-safe.
+     */
+    public static final class Builder {
+        private int size;
+        private long[] ids;
+        private final BitSet nullIds = new BitSet();
+        private final StringColumn.Builder usernames;
+        private final StringColumn.Builder emails;
+        private final StringColumn.Builder fullNames;
+        private long[] createdSeconds;
+        private int[] createdNanos;
+        private long[] updatedSeconds;
+        private int[] updatedNanos;
+
+        private Builder(int expectedSize) {
+            int capacity = Math.max(expectedSize, 16);
+            ids = new long[capacity];
+            createdSeconds = new long[capacity];
+            createdNanos = new int[capacity];
+            updatedSeconds = new long[capacity];
+            updatedNanos = new int[capacity];
+            usernames = new StringColumn.Builder(capacity);
+            emails = new StringColumn.Builder(capacity);
+            fullNames = new StringColumn.Builder(capacity);
+        }
+
+        /**
+         * Appends one row.
+         *
+         * @param user the user to append; must not be {@code null}
+         * @return this builder
+         */
+        public Builder add(UserDto user) {
+            if (size == ids.length) {
+                grow();
+            }
+            if (user.id() == null) {
+                nullIds.set(size);
+            } else {
+                ids[size] = user.id();
+            }
+            usernames.add(user.username());
+            emails.add(user.email());
+            fullNames.add(user.fullName());
+            setInstant(createdSeconds, createdNanos, user.createdAt());
+            setInstant(updatedSeconds, updatedNanos, user.updatedAt());
+            size++;
+            return this;
+        }
+
+        /**
+         * Appends every user of {@code users}, in encounter order.
+         *
+         * @param users the users to append
+         * @return this builder
+         */
+        public Builder addAll(Stream<UserDto> users) {
+            users.forEachOrdered(this::add);
+            return this;
+        }
+
+        /**
+         * Builds an immutable batch of the rows appended so far.
+         *
+         * @return a new batch
+         */
+        public UserBatch build() {
+            return new UserBatch(this);
+        }
+
+        // Collector combiner: rows of the other builder go after this builder's rows
+        private Builder addAll(Builder other) {
+            other.build().forEach(this::add);
+            return this;
+        }
+
+        private void setInstant(long[] seconds, int[] nanos, Instant instant) {
+            if (instant == null) {
+                nanos[size] = NULL_NANOS;
+            } else {
+                seconds[size] = instant.getEpochSecond();
+                nanos[size] = instant.getNano();
+            }
+        }
+
+        private void grow() {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            createdSeconds = Arrays.copyOf(createdSeconds, capacity);
+            createdNanos = Arrays.copyOf(createdNanos, capacity);
+            updatedSeconds = Arrays.copyOf(updatedSeconds, capacity);
+            updatedNanos = Arrays.copyOf(updatedNanos, capacity);
+        }
+    }
+}
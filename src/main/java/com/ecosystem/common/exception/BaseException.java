@@ -9,6 +9,14 @@ package com.ecosystem.common.exception;
  */
 public abstract class BaseException extends RuntimeException {
 
+    /**
+     * System property that forces stack traces on lightweight exceptions, for debugging.
+     */
+    public static final String STACK_TRACES_PROPERTY = "ecosystem.exceptions.stackTraces";
+
+    private static volatile boolean stackTracesForced = Boolean.getBoolean(STACK_TRACES_PROPERTY);
+    private static volatile ErrorMetrics errorMetrics;
+
     private final String errorCode;
     private final int httpStatus;
 
@@ -23,6 +31,7 @@ public abstract class BaseException extends RuntimeException {
         super(message);
         this.errorCode = errorCode;
         this.httpStatus = httpStatus;
+        recordConstruction();
     }
 
     /**
@@ -37,6 +46,69 @@ public abstract class BaseException extends RuntimeException {
         super(message, cause);
         this.errorCode = errorCode;
         this.httpStatus = httpStatus;
+        recordConstruction();
+    }
+
+    /**
+     * Constructs a new lightweight {@code BaseException} with a message, error code, and HTTP status.
+     * <p>
+     * A lightweight exception neither captures a stack trace nor records suppressed exceptions,
+     * and its cause cannot be set later. This makes it cheap enough for high-rate control flow
+     * and safe to preallocate and share. Stack traces are still captured while
+     * {@link #isStackTracesForced()} is {@code true}.
+     * </p>
+     *
+     * @param message     a human-readable description of the error
+     * @param errorCode   a machine-readable error code
+     * @param httpStatus  the HTTP status code associated with this exception
+     * @param lightweight whether to skip stack-trace capture and suppression
+     */
+    protected BaseException(String message, String errorCode, int httpStatus, boolean lightweight) {
+        super(message, null, !lightweight || stackTracesForced, !lightweight || stackTracesForced);
+        this.errorCode = errorCode;
+        this.httpStatus = httpStatus;
+        recordConstruction();
+    }
+
+    /**
+     * Returns whether lightweight exceptions are forced to capture stack traces.
+     * <p>
+     * Defaults to the value of the {@value #STACK_TRACES_PROPERTY} system property.
+     * </p>
+     *
+     * @return {@code true} if stack traces are captured for lightweight exceptions
+     */
+    public static boolean isStackTracesForced() {
+        return stackTracesForced;
+    }
+
+    /**
+     * Forces lightweight exceptions created from now on to capture stack traces, or restores
+     * the lightweight behavior.
+     *
+     * @param forced {@code true} to capture stack traces for every exception
+     */
+    public static void setStackTracesForced(boolean forced) {
+        stackTracesForced = forced;
+    }
+
+    /**
+     * Returns the registry that counts every {@code BaseException} on construction, if any.
+     *
+     * @return the installed registry, or {@code null}
+     */
+    public static ErrorMetrics getErrorMetrics() {
+        return errorMetrics;
+    }
+
+    /**
+     * Installs a registry that counts every {@code BaseException} constructed from now on,
+     * or removes it.
+     *
+     * @param metrics the registry, or {@code null} to stop counting on construction
+     */
+    public static void setErrorMetrics(ErrorMetrics metrics) {
+        errorMetrics = metrics;
     }
 
     /**
@@ -56,4 +128,12 @@ public abstract class BaseException extends RuntimeException {
     public int getHttpStatus() {
         return httpStatus;
     }
+
+    // Only reads the fields set by this class, so subclass state is not observed half-built
+    private void recordConstruction() {
+        ErrorMetrics metrics = errorMetrics;
+        if (metrics != null) {
+            metrics.recordCode(errorCode, httpStatus);
+        }
+    }
 }
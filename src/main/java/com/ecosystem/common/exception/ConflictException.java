@@ -7,6 +7,7 @@ public class ConflictException extends BaseException {
 
     private static final String ERROR_CODE = "CONFLICT";
     private static final int HTTP_STATUS = 409;
+    private static final String DEFAULT_MESSAGE = "Resource conflict";
 
     /**
      * Constructs a new {@code ConflictException} with the given message.
@@ -26,4 +27,47 @@ public class ConflictException extends BaseException {
     public ConflictException(String message, Throwable cause) {
         super(message, cause, ERROR_CODE, HTTP_STATUS);
     }
+
+    /**
+     * Constructs a new {@code ConflictException}, optionally in lightweight mode.
+     *
+     * @param message     a human-readable description of the conflict
+     * @param lightweight whether to skip stack-trace capture and suppression
+     * @see BaseException#BaseException(String, String, int, boolean)
+     */
+    protected ConflictException(String message, boolean lightweight) {
+        super(message, ERROR_CODE, HTTP_STATUS, lightweight);
+    }
+
+    /**
+     * Creates a lightweight {@code ConflictException} that does not capture a stack trace.
+     * <p>
+     * Suitable for high-rate error paths and for preallocation in {@code static final} fields.
+     * </p>
+     *
+     * @param message a human-readable description of the conflict
+     * @return a new lightweight exception
+     */
+    public static ConflictException lightweight(String message) {
+        return new ConflictException(message, true);
+    }
+
+    /**
+     * Returns a shared, preallocated {@code ConflictException} with the message
+     * "Resource conflict".
+     * <p>
+     * While {@link BaseException#isStackTracesForced()} is {@code true}, a fresh exception with a
+     * stack trace is returned instead, so debugging sessions see where it was raised.
+     * </p>
+     *
+     * @return the shared exception instance
+     */
+    public static ConflictException shared() {
+        return isStackTracesForced() ? new ConflictException(DEFAULT_MESSAGE) : SharedHolder.INSTANCE;
+    }
+
+    // Initialized lazily from shared(), which only reaches it while traces are not forced
+    private static final class SharedHolder {
+        private static final ConflictException INSTANCE = new ConflictException(DEFAULT_MESSAGE, true);
+    }
 }
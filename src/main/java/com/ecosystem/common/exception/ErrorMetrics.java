@@ -0,0 +1,184 @@
+package com.ecosystem.common.exception;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Registry of error counts per {@link BaseException#getErrorCode() error code} and
+ * {@link BaseException#getHttpStatus() HTTP status}, with an optional value histogram per error
+ * code for latencies or payload sizes.
+ * <p>
+ * Counters are {@link LongAdder} cells, so recording from many threads does not contend; once
+ * an error code has been seen with its usual status, recording it is a map lookup and one
+ * increment, without allocation. Errors are recorded explicitly with {@link #record(BaseException)}, or on
+ * construction of every {@link BaseException} once the registry is installed with
+ * {@link BaseException#setErrorMetrics(ErrorMetrics)}. Shared preallocated exceptions are
+ * constructed once, so they are only counted when recorded explicitly.
+ * </p>
+ * <pre>{@code
+ * ErrorMetrics metrics = new ErrorMetrics(true);
+ * BaseException.setErrorMetrics(metrics);
+ * ErrorMetricsReporter reporter = ErrorMetricsReporter.start(metrics, Duration.ofMinutes(1));
+ * }</pre>
+ */
+public final class ErrorMetrics {
+
+    /**
+     * Error code under which errors without an error code are counted.
+     */
+    public static final String UNKNOWN_ERROR_CODE = "UNKNOWN";
+
+    private static final int STATUS_LIMIT = 1000;
+
+    private final boolean histograms;
+    private final ConcurrentHashMap<String, Cell> cells = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a registry that counts errors without recording values.
+     */
+    public ErrorMetrics() {
+        this(false);
+    }
+
+    /**
+     * Creates a registry, optionally keeping a fixed-memory value histogram per error code.
+     * Each histogram takes about 4 KB per stripe, with up to 16 stripes depending on the
+     * number of processors.
+     *
+     * @param histograms whether values passed to {@link #record(BaseException, long)} are kept
+     */
+    public ErrorMetrics(boolean histograms) {
+        this.histograms = histograms;
+    }
+
+    /**
+     * Counts {@code exception} under its error code and HTTP status.
+     *
+     * @param exception the exception to count
+     * @throws NullPointerException if {@code exception} is {@code null}
+     */
+    public void record(BaseException exception) {
+        if (exception == null) {
+            throw new NullPointerException("exception must not be null");
+        }
+        recordCode(exception.getErrorCode(), exception.getHttpStatus());
+    }
+
+    /**
+     * Counts {@code exception} and records {@code value}, such as the latency in nanoseconds of
+     * the failed request or the size of its payload, in the histogram of its error code.
+     *
+     * @param exception the exception to count
+     * @param value     the value to record; negative values are recorded as zero
+     * @throws NullPointerException if {@code exception} is {@code null}
+     */
+    public void record(BaseException exception, long value) {
+        if (exception == null) {
+            throw new NullPointerException("exception must not be null");
+        }
+        recordCode(exception.getErrorCode(), exception.getHttpStatus(), value);
+    }
+
+    /**
+     * Counts an error by its error code and HTTP status, without an exception instance.
+     * Statuses outside {@code 0-999} are counted as {@code 0}.
+     *
+     * @param errorCode  the error code, or {@code null} for {@value #UNKNOWN_ERROR_CODE}
+     * @param httpStatus the HTTP status
+     */
+    public void recordCode(String errorCode, int httpStatus) {
+        cell(errorCode, httpStatus).count(httpStatus).increment();
+    }
+
+    /**
+     * Counts an error by its error code and HTTP status, and records {@code value} in the
+     * histogram of the error code when histograms are enabled.
+     *
+     * @param errorCode  the error code, or {@code null} for {@value #UNKNOWN_ERROR_CODE}
+     * @param httpStatus the HTTP status
+     * @param value      the value to record; negative values are recorded as zero
+     */
+    public void recordCode(String errorCode, int httpStatus, long value) {
+        Cell cell = cell(errorCode, httpStatus);
+        cell.count(httpStatus).increment();
+        if (cell.histogram != null) {
+            cell.histogram.record(value);
+        }
+    }
+
+    /**
+     * Returns the number of errors recorded so far.
+     *
+     * @return the total error count
+     */
+    public long total() {
+        long total = 0;
+        for (Cell cell : cells.values()) {
+            total += cell.count.sum();
+            for (LongAdder count : cell.otherStatuses.values()) {
+                total += count.sum();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Returns a copy of the current counters and histograms.
+     *
+     * @return the snapshot
+     */
+    public ErrorMetricsSnapshot snapshot() {
+        Map<String, Long> byCode = new HashMap<>();
+        Map<Integer, Long> byStatus = new HashMap<>();
+        Map<String, HistogramSnapshot> byCodeHistograms = new HashMap<>();
+        cells.forEach((code, cell) -> {
+            long count = cell.count.sum();
+            byStatus.merge(cell.status, count, Long::sum);
+            for (Map.Entry<Integer, LongAdder> other : cell.otherStatuses.entrySet()) {
+                long otherCount = other.getValue().sum();
+                byStatus.merge(other.getKey(), otherCount, Long::sum);
+                count += otherCount;
+            }
+            byCode.put(code, count);
+            if (cell.histogram != null) {
+                HistogramSnapshot histogram = cell.histogram.snapshot();
+                if (histogram.count() > 0) {
+                    byCodeHistograms.put(code, histogram);
+                }
+            }
+        });
+        long total = byCode.values().stream().mapToLong(Long::longValue).sum();
+        return new ErrorMetricsSnapshot(total, byCode, byStatus, byCodeHistograms);
+    }
+
+    private Cell cell(String errorCode, int httpStatus) {
+        String code = errorCode == null ? UNKNOWN_ERROR_CODE : errorCode;
+        Cell cell = cells.get(code);
+        return cell != null ? cell : cells.computeIfAbsent(code, key -> new Cell(validStatus(httpStatus), histograms));
+    }
+
+    private static int validStatus(int httpStatus) {
+        return httpStatus >= 0 && httpStatus < STATUS_LIMIT ? httpStatus : 0;
+    }
+
+    // Counters of one error code; an error code nearly always comes with the same status, which
+    // is counted directly, so the common path is a single increment
+    private static final class Cell {
+        private final int status;
+        private final LongAdder count = new LongAdder();
+        private final ConcurrentHashMap<Integer, LongAdder> otherStatuses = new ConcurrentHashMap<>();
+        private final LogLinearHistogram histogram;
+
+        Cell(int status, boolean histogram) {
+            this.status = status;
+            this.histogram = histogram ? new LogLinearHistogram() : null;
+        }
+
+        LongAdder count(int httpStatus) {
+            int valid = validStatus(httpStatus);
+            return valid == status ? count : otherStatuses.computeIfAbsent(valid, key -> new LongAdder());
+        }
+    }
+}
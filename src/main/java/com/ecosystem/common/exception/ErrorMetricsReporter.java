@@ -0,0 +1,119 @@
+package com.ecosystem.common.exception;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs the counters of an {@link ErrorMetrics} registry through SLF4J at a fixed period.
+ * <p>
+ * Each report is a single {@code INFO} line with the cumulative counts per error code and HTTP
+ * status and, where recorded, a histogram summary per error code. Periods without new errors
+ * are not reported. Reports run on one daemon thread, so the recording threads never format or
+ * log anything.
+ * </p>
+ */
+public final class ErrorMetricsReporter implements AutoCloseable {
+
+    private static final Logger DEFAULT_LOGGER = LoggerFactory.getLogger(ErrorMetricsReporter.class);
+
+    private final ErrorMetrics metrics;
+    private final Logger logger;
+    private final ScheduledExecutorService executor;
+    private long lastReportedTotal;
+
+    private ErrorMetricsReporter(ErrorMetrics metrics, Logger logger, long periodMillis) {
+        this.metrics = metrics;
+        this.logger = logger;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "error-metrics-reporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleAtFixedRate(this::report, periodMillis, periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Starts reporting {@code metrics} every {@code period} to the logger of this class.
+     *
+     * @param metrics the registry to report
+     * @param period  the reporting interval; must be at least one millisecond
+     * @return a running reporter
+     * @throws NullPointerException     if an argument is {@code null}
+     * @throws IllegalArgumentException if {@code period} is shorter than one millisecond
+     */
+    public static ErrorMetricsReporter start(ErrorMetrics metrics, Duration period) {
+        return start(metrics, period, DEFAULT_LOGGER);
+    }
+
+    /**
+     * Starts reporting {@code metrics} every {@code period} to {@code logger}.
+     *
+     * @param metrics the registry to report
+     * @param period  the reporting interval; must be at least one millisecond
+     * @param logger  the logger receiving the reports
+     * @return a running reporter
+     * @throws NullPointerException     if an argument is {@code null}
+     * @throws IllegalArgumentException if {@code period} is shorter than one millisecond
+     */
+    public static ErrorMetricsReporter start(ErrorMetrics metrics, Duration period, Logger logger) {
+        if (metrics == null) {
+            throw new NullPointerException("metrics must not be null");
+        }
+        if (period == null) {
+            throw new NullPointerException("period must not be null");
+        }
+        if (logger == null) {
+            throw new NullPointerException("logger must not be null");
+        }
+        if (period.toMillis() < 1) {
+            throw new IllegalArgumentException("period must be at least one millisecond");
+        }
+        return new ErrorMetricsReporter(metrics, logger, period.toMillis());
+    }
+
+    /**
+     * Formats the current counters as one report line.
+     *
+     * @param snapshot the counters to format
+     * @return the report line
+     */
+    public static String format(ErrorMetricsSnapshot snapshot) {
+        if (snapshot == null) {
+            throw new NullPointerException("snapshot must not be null");
+        }
+        StringBuilder line = new StringBuilder("errors total=").append(snapshot.total())
+                .append(" byErrorCode=").append(snapshot.countsByErrorCode())
+                .append(" byHttpStatus=").append(snapshot.countsByHttpStatus());
+        snapshot.histogramsByErrorCode().forEach((code, histogram) ->
+                line.append(' ').append(code).append("=[").append(histogram).append(']'));
+        return line.toString();
+    }
+
+    /**
+     * Stops reporting. A report in progress is allowed to finish.
+     */
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    // Runs on the reporter thread only
+    private void report() {
+        try {
+            if (!logger.isInfoEnabled() || metrics.total() == lastReportedTotal) {
+                return;
+            }
+            ErrorMetricsSnapshot snapshot = metrics.snapshot();
+            lastReportedTotal = snapshot.total();
+            logger.info(format(snapshot));
+        } catch (RuntimeException e) {
+            // A failing report must not cancel the schedule
+            logger.warn("Error metrics report failed", e);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.ecosystem.common.exception;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Point-in-time copy of the counters of an {@link ErrorMetrics} registry.
+ * <p>
+ * The maps are sorted by key and unmodifiable. Errors recorded while the snapshot was taken
+ * may be reflected in some counters but not yet in others.
+ * </p>
+ *
+ * @param total                the number of errors recorded
+ * @param countsByErrorCode    the error count per error code
+ * @param countsByHttpStatus   the error count per HTTP status
+ * @param histogramsByErrorCode the recorded value histogram per error code, for codes with values
+ */
+public record ErrorMetricsSnapshot(long total,
+                                   Map<String, Long> countsByErrorCode,
+                                   Map<Integer, Long> countsByHttpStatus,
+                                   Map<String, HistogramSnapshot> histogramsByErrorCode) {
+
+    /**
+     * Creates a snapshot, copying the maps into sorted unmodifiable maps.
+     */
+    public ErrorMetricsSnapshot {
+        countsByErrorCode = Collections.unmodifiableMap(new TreeMap<>(countsByErrorCode));
+        countsByHttpStatus = Collections.unmodifiableMap(new TreeMap<>(countsByHttpStatus));
+        histogramsByErrorCode = Collections.unmodifiableMap(new TreeMap<>(histogramsByErrorCode));
+    }
+
+    /**
+     * Returns the number of errors recorded with {@code errorCode}.
+     *
+     * @param errorCode the error code
+     * @return the count, or {@code 0} if none was recorded
+     */
+    public long count(String errorCode) {
+        return countsByErrorCode.getOrDefault(errorCode, 0L);
+    }
+
+    /**
+     * Returns the number of errors recorded with {@code httpStatus}.
+     *
+     * @param httpStatus the HTTP status
+     * @return the count, or {@code 0} if none was recorded
+     */
+    public long count(int httpStatus) {
+        return countsByHttpStatus.getOrDefault(httpStatus, 0L);
+    }
+}
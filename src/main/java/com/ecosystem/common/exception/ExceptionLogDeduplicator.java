@@ -0,0 +1,133 @@
+package com.ecosystem.common.exception;
+
+import org.slf4j.Logger;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Drain-side state of an {@link ExceptionLogger}: decides which exceptions are written and
+ * summarizes the ones that are not.
+ * <p>
+ * Exceptions are grouped by error code and message template, the message with every run of
+ * digits replaced by {@code #}, so that {@code "User 42 not found"} and {@code "User 43 not found"}
+ * are similar. The first exception of a group is logged and opens a window; similar exceptions
+ * within the window are only counted, and a single summary line reports them when the window
+ * closes. Only the draining thread calls into this class.
+ * </p>
+ */
+final class ExceptionLogDeduplicator {
+
+    private final Logger logger;
+    private final long windowMillis;
+    private final double sampleRate;
+    private final Map<String, Window> windows = new HashMap<>();
+
+    ExceptionLogDeduplicator(Logger logger, long windowMillis, double sampleRate) {
+        this.logger = logger;
+        this.windowMillis = windowMillis;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Logs {@code exception}, raised at {@code timeMillis}, unless a similar one opened a window
+     * that is still open at that time.
+     */
+    void accept(BaseException exception, long timeMillis) {
+        String key = exception.getErrorCode() + '|' + template(exception.getMessage());
+        Window window = windows.get(key);
+        if (window != null && timeMillis - window.startMillis < windowMillis) {
+            window.suppressed++;
+            return;
+        }
+        if (window != null) {
+            summarize(window);
+        }
+        windows.put(key, new Window(exception, timeMillis));
+        log(exception, "{} [{}]: {}", exception.getErrorCode(), exception.getHttpStatus(),
+                exception.getMessage(), exception);
+    }
+
+    /**
+     * Closes the windows that ended before {@code nowMillis}, summarizing their suppressed exceptions.
+     */
+    void closeWindows(long nowMillis) {
+        Iterator<Window> iterator = windows.values().iterator();
+        while (iterator.hasNext()) {
+            Window window = iterator.next();
+            if (nowMillis - window.startMillis >= windowMillis) {
+                summarize(window);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Summarizes and closes every open window.
+     */
+    void closeAll() {
+        windows.values().forEach(this::summarize);
+        windows.clear();
+    }
+
+    /**
+     * Reports exceptions that could not be queued.
+     */
+    void reportDropped(long dropped) {
+        logger.warn("Dropped {} exception log events because the log queue was full", dropped);
+    }
+
+    private void summarize(Window window) {
+        if (window.suppressed == 0) {
+            return;
+        }
+        BaseException first = window.first;
+        String sampling = sampleRate < 1.0 ? " (sample rate " + sampleRate + ")" : "";
+        log(first, "{} [{}]: suppressed {} similar in {} ms{}: {}", first.getErrorCode(),
+                first.getHttpStatus(), window.suppressed, windowMillis, sampling, first.getMessage());
+    }
+
+    // Server errors are logged as errors, client errors as warnings
+    private void log(BaseException exception, String format, Object... arguments) {
+        if (exception.getHttpStatus() >= 500) {
+            logger.error(format, arguments);
+        } else {
+            logger.warn(format, arguments);
+        }
+    }
+
+    static String template(String message) {
+        if (message == null) {
+            return "";
+        }
+        StringBuilder template = null;
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            boolean digit = isDigit(c);
+            if (digit && template == null) {
+                template = new StringBuilder(message.length()).append(message, 0, i);
+            }
+            if (template != null && !(digit && i > 0 && isDigit(message.charAt(i - 1)))) {
+                template.append(digit ? '#' : c);
+            }
+        }
+        return template == null ? message : template.toString();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    // An open deduplication window of one group
+    private static final class Window {
+        private final BaseException first;
+        private final long startMillis;
+        private long suppressed;
+
+        Window(BaseException first, long startMillis) {
+            this.first = first;
+            this.startMillis = startMillis;
+        }
+    }
+}
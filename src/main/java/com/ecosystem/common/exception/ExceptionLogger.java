@@ -0,0 +1,231 @@
+package com.ecosystem.common.exception;
+
+import com.ecosystem.common.util.DateUtils;
+import org.slf4j.Logger;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Logs {@link BaseException}s through SLF4J without letting error storms flood the log or
+ * stall the threads that raise them.
+ * <p>
+ * {@link #log(BaseException)} never blocks: it samples the exception, then offers it to a
+ * bounded lock-free queue and returns, dropping it if the queue is full. A single daemon thread
+ * drains the queue and deduplicates: the first exception per error code and message template
+ * within a window is logged, the similar ones that follow are counted and reported as one
+ * {@code "suppressed N similar"} line when the window closes. Exceptions with an HTTP status of
+ * 500 or above are logged at {@code ERROR}, others at {@code WARN}.
+ * </p>
+ * <pre>{@code
+ * ExceptionLogger errors = ExceptionLogger.builder(LoggerFactory.getLogger(UserService.class))
+ *         .window(Duration.ofSeconds(10))
+ *         .start();
+ * errors.log(new NotFoundException("User 42 not found"));
+ * }</pre>
+ */
+public final class ExceptionLogger implements AutoCloseable {
+
+    private static final long DRAIN_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final Clock clock;
+    private final double sampleRate;
+    private final BoundedMpscQueue<Event> queue;
+    private final ExceptionLogDeduplicator deduplicator;
+    private final LongAdder dropped = new LongAdder();
+    private final Thread drainer;
+    private volatile boolean running = true;
+    private long reportedDropped;
+
+    private ExceptionLogger(Builder builder) {
+        this.clock = builder.clock;
+        this.sampleRate = builder.sampleRate;
+        this.queue = new BoundedMpscQueue<>(builder.queueCapacity);
+        this.deduplicator = new ExceptionLogDeduplicator(builder.logger, builder.windowMillis, sampleRate);
+        this.drainer = new Thread(this::drainLoop, "exception-logger");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    /**
+     * Creates a builder for an exception logger writing to {@code logger}.
+     *
+     * @param logger the logger receiving the exceptions
+     * @return a new builder
+     * @throws NullPointerException if {@code logger} is {@code null}
+     */
+    public static Builder builder(Logger logger) {
+        if (logger == null) {
+            throw new NullPointerException("logger must not be null");
+        }
+        return new Builder(logger);
+    }
+
+    /**
+     * Queues {@code exception} for logging, unless it is sampled out or the queue is full.
+     * Never blocks.
+     *
+     * @param exception the exception to log
+     * @return {@code true} if the exception was queued
+     * @throws NullPointerException if {@code exception} is {@code null}
+     */
+    public boolean log(BaseException exception) {
+        if (exception == null) {
+            throw new NullPointerException("exception must not be null");
+        }
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        if (!running || !queue.offer(new Event(exception, clock.millis()))) {
+            dropped.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of exceptions dropped because the queue was full or the logger closed.
+     *
+     * @return the drop count
+     */
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops the draining thread after it has logged every queued exception and summarized
+     * every open window. Exceptions logged while the logger closes may be lost.
+     */
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void drainLoop() {
+        while (running) {
+            drain();
+            deduplicator.closeWindows(clock.millis());
+            LockSupport.parkNanos(this, DRAIN_INTERVAL_NANOS);
+        }
+        drain();
+        deduplicator.closeAll();
+    }
+
+    private void drain() {
+        for (Event event = queue.poll(); event != null; event = queue.poll()) {
+            deduplicator.accept(event.exception, event.timeMillis);
+        }
+        long droppedNow = dropped.sum();
+        if (droppedNow != reportedDropped) {
+            deduplicator.reportDropped(droppedNow - reportedDropped);
+            reportedDropped = droppedNow;
+        }
+    }
+
+    // An exception and the time it was queued, so windows do not depend on drain timing
+    private record Event(BaseException exception, long timeMillis) {
+    }
+
+    /**
+     * Builder for {@link ExceptionLogger}.
+     */
+    public static final class Builder {
+
+        /**
+         * Default number of exceptions that can wait to be logged.
+         */
+        public static final int DEFAULT_QUEUE_CAPACITY = 4096;
+
+        private final Logger logger;
+        private long windowMillis = Duration.ofSeconds(10).toMillis();
+        private double sampleRate = 1.0;
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+        private Clock clock = DateUtils.clock();
+
+        private Builder(Logger logger) {
+            this.logger = logger;
+        }
+
+        /**
+         * Sets the deduplication window; defaults to ten seconds.
+         *
+         * @param window the window; must be at least one millisecond
+         * @return this builder
+         * @throws IllegalArgumentException if {@code window} is shorter than one millisecond
+         */
+        public Builder window(Duration window) {
+            if (window == null) {
+                throw new NullPointerException("window must not be null");
+            }
+            if (window.toMillis() < 1) {
+                throw new IllegalArgumentException("window must be at least one millisecond");
+            }
+            this.windowMillis = window.toMillis();
+            return this;
+        }
+
+        /**
+         * Sets the fraction of exceptions considered for logging; defaults to {@code 1.0}.
+         *
+         * @param sampleRate the probability that an exception is queued, in {@code (0, 1]}
+         * @return this builder
+         * @throws IllegalArgumentException if {@code sampleRate} is out of range
+         */
+        public Builder sampleRate(double sampleRate) {
+            if (!(sampleRate > 0.0 && sampleRate <= 1.0)) {
+                throw new IllegalArgumentException("sampleRate must be in (0, 1]");
+            }
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        /**
+         * Sets how many exceptions can wait to be logged, rounded up to a power of two of at least two;
+         * defaults to {@value #DEFAULT_QUEUE_CAPACITY}.
+         *
+         * @param queueCapacity the queue capacity; must be positive
+         * @return this builder
+         * @throws IllegalArgumentException if {@code queueCapacity} is not positive
+         */
+        public Builder queueCapacity(int queueCapacity) {
+            if (queueCapacity <= 0) {
+                throw new IllegalArgumentException("queueCapacity must be positive");
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets the clock timing the windows; defaults to {@link DateUtils#clock()}.
+         *
+         * @param clock the clock
+         * @return this builder
+         */
+        public Builder clock(Clock clock) {
+            if (clock == null) {
+                throw new NullPointerException("clock must not be null");
+            }
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Creates the logger and starts its draining thread.
+         *
+         * @return a running exception logger
+         */
+        public ExceptionLogger start() {
+            return new ExceptionLogger(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecosystem.common.exception;
+
+/**
+ * One violated constraint reported by a {@link ValidationException}.
+ *
+ * @param field   the path of the invalid field, such as {@code "email"} or {@code "[3].email"}
+ *                for the fourth element of a batch
+ * @param code    a machine-readable constraint code, such as {@code "REQUIRED"}
+ * @param message a human-readable description of the violation
+ */
+public record FieldError(String field, String code, String message) {
+
+    /**
+     * Creates a field error.
+     *
+     * @throws NullPointerException if any component is {@code null}
+     */
+    public FieldError {
+        if (field == null) {
+            throw new NullPointerException("field must not be null");
+        }
+        if (code == null) {
+            throw new NullPointerException("code must not be null");
+        }
+        if (message == null) {
+            throw new NullPointerException("message must not be null");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return field + ": " + message;
+    }
+}
@@ -0,0 +1,94 @@
+package com.ecosystem.common.exception;
+
+/**
+ * Immutable copy of a value histogram recorded by {@link ErrorMetrics}.
+ * <p>
+ * Percentiles are reported as the upper bound of the bucket holding the requested rank, so they
+ * overstate the exact value by at most 12.5%. The maximum is exact.
+ * </p>
+ */
+public final class HistogramSnapshot {
+
+    private final long[] counts;
+    private final long count;
+    private final long sum;
+    private final long max;
+
+    HistogramSnapshot(long[] counts, long sum, long max) {
+        this.counts = counts;
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        this.count = total;
+        this.sum = sum;
+        this.max = max;
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the value count
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return the value sum
+     */
+    public long sum() {
+        return sum;
+    }
+
+    /**
+     * Returns the largest recorded value, or {@code 0} if none was recorded.
+     *
+     * @return the maximum
+     */
+    public long max() {
+        return max;
+    }
+
+    /**
+     * Returns the arithmetic mean of the recorded values, or {@code 0.0} if none was recorded.
+     *
+     * @return the mean
+     */
+    public double mean() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Returns the value at {@code percentile}, or {@code 0} if no value was recorded.
+     *
+     * @param percentile the percentile, between {@code 0.0} and {@code 100.0}
+     * @return the upper bound of the bucket holding that percentile, capped at {@link #max()}
+     * @throws IllegalArgumentException if {@code percentile} is out of range
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100");
+        }
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank) {
+                return Math.min(LogLinearHistogram.highestValueOf(bucket), max);
+            }
+        }
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "count=" + count + ", mean=" + Math.round(mean()) + ", p50=" + valueAtPercentile(50)
+                + ", p99=" + valueAtPercentile(99) + ", max=" + max;
+    }
+}
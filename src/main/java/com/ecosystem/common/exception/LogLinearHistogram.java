@@ -0,0 +1,83 @@
+package com.ecosystem.common.exception;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Fixed-memory histogram of non-negative {@code long} values, backing {@link ErrorMetrics}.
+ * <p>
+ * Buckets follow the HdrHistogram layout with three significant bits: values below 8 get a
+ * bucket each, and every power-of-two range above is split into 8 linear sub-buckets, so any
+ * recorded value is within 12.5% of its bucket bounds. All 488 buckets are allocated up front.
+ * </p>
+ * <p>
+ * Recording does not contend across threads: bucket counts are striped by thread, each stripe
+ * in its own array, and the sum and maximum are kept in {@link LongAdder}-style cells.
+ * </p>
+ */
+final class LogLinearHistogram {
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    static final int BUCKETS = (Long.SIZE - 1 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+    private static final int STRIPES = Integer.highestOneBit(
+            Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 16)));
+
+    private final AtomicLongArray[] stripes = new AtomicLongArray[STRIPES];
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    LogLinearHistogram() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new AtomicLongArray(BUCKETS);
+        }
+    }
+
+    /**
+     * Records {@code value}; negative values are recorded as zero.
+     */
+    void record(long value) {
+        long clamped = Math.max(0, value);
+        // Thread ids are sequential, so consecutive threads land in different stripes
+        int stripe = (int) Thread.currentThread().threadId() & (STRIPES - 1);
+        stripes[stripe].getAndIncrement(bucketOf(clamped));
+        sum.add(clamped);
+        max.accumulate(clamped);
+    }
+
+    /**
+     * Returns a point-in-time copy; buckets recorded concurrently may or may not be included.
+     */
+    HistogramSnapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (AtomicLongArray stripe : stripes) {
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] += stripe.get(i);
+            }
+        }
+        return new HistogramSnapshot(counts, sum.sum(), max.get());
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that falls into {@code bucket}.
+     */
+    static long highestValueOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -7,6 +7,7 @@ public class NotFoundException extends BaseException {
 
     private static final String ERROR_CODE = "NOT_FOUND";
     private static final int HTTP_STATUS = 404;
+    private static final String DEFAULT_MESSAGE = "Resource not found";
 
     /**
      * Constructs a new {@code NotFoundException} with the given message.
@@ -26,4 +27,47 @@ public class NotFoundException extends BaseException {
     public NotFoundException(String message, Throwable cause) {
         super(message, cause, ERROR_CODE, HTTP_STATUS);
     }
+
+    /**
+     * Constructs a new {@code NotFoundException}, optionally in lightweight mode.
+     *
+     * @param message     a human-readable description of the missing resource
+     * @param lightweight whether to skip stack-trace capture and suppression
+     * @see BaseException#BaseException(String, String, int, boolean)
+     */
+    protected NotFoundException(String message, boolean lightweight) {
+        super(message, ERROR_CODE, HTTP_STATUS, lightweight);
+    }
+
+    /**
+     * Creates a lightweight {@code NotFoundException} that does not capture a stack trace.
+     * <p>
+     * Suitable for high-rate error paths and for preallocation in {@code static final} fields.
+     * </p>
+     *
+     * @param message a human-readable description of the missing resource
+     * @return a new lightweight exception
+     */
+    public static NotFoundException lightweight(String message) {
+        return new NotFoundException(message, true);
+    }
+
+    /**
+     * Returns a shared, preallocated {@code NotFoundException} with the message
+     * "Resource not found".
+     * <p>
+     * While {@link BaseException#isStackTracesForced()} is {@code true}, a fresh exception with a
+     * stack trace is returned instead, so debugging sessions see where it was raised.
+     * </p>
+     *
+     * @return the shared exception instance
+     */
+    public static NotFoundException shared() {
+        return isStackTracesForced() ? new NotFoundException(DEFAULT_MESSAGE) : SharedHolder.INSTANCE;
+    }
+
+    // Initialized lazily from shared(), which only reaches it while traces are not forced
+    private static final class SharedHolder {
+        private static final NotFoundException INSTANCE = new NotFoundException(DEFAULT_MESSAGE, true);
+    }
 }
@@ -1,5 +1,7 @@
 package com.ecosystem.common.exception;
 
+import java.util.List;
+
 /**
  * Exception thrown when input fails validation (HTTP 422).
  */
@@ -7,6 +9,9 @@ public class ValidationException extends BaseException {
 
     private static final String ERROR_CODE = "VALIDATION_ERROR";
     private static final int HTTP_STATUS = 422;
+    private static final String DEFAULT_MESSAGE = "Validation failed";
+
+    private final List<FieldError> fieldErrors;
 
     /**
      * Constructs a new {@code ValidationException} with the given message.
@@ -15,6 +20,7 @@ public class ValidationException extends BaseException {
      */
     public ValidationException(String message) {
         super(message, ERROR_CODE, HTTP_STATUS);
+        this.fieldErrors = List.of();
     }
 
     /**
@@ -25,5 +31,85 @@ public class ValidationException extends BaseException {
      */
     public ValidationException(String message, Throwable cause) {
         super(message, cause, ERROR_CODE, HTTP_STATUS);
+        this.fieldErrors = List.of();
+    }
+
+    /**
+     * Constructs a new {@code ValidationException} carrying every violated constraint.
+     *
+     * @param message     a human-readable description of the validation error
+     * @param fieldErrors the violations; must not be {@code null} or contain {@code null}
+     * @throws NullPointerException if {@code fieldErrors} is or contains {@code null}
+     */
+    public ValidationException(String message, List<FieldError> fieldErrors) {
+        super(checkFieldErrors(message, fieldErrors), ERROR_CODE, HTTP_STATUS);
+        this.fieldErrors = List.copyOf(fieldErrors);
+    }
+
+    /**
+     * Constructs a new {@code ValidationException}, optionally in lightweight mode.
+     *
+     * @param message     a human-readable description of the validation error
+     * @param lightweight whether to skip stack-trace capture and suppression
+     * @see BaseException#BaseException(String, String, int, boolean)
+     */
+    protected ValidationException(String message, boolean lightweight) {
+        super(message, ERROR_CODE, HTTP_STATUS, lightweight);
+        this.fieldErrors = List.of();
+    }
+
+    /**
+     * Returns the violated constraints, if the exception was created with them.
+     *
+     * @return the field errors; empty if none were given, never {@code null}
+     */
+    public List<FieldError> getFieldErrors() {
+        return fieldErrors;
+    }
+
+    /**
+     * Creates a lightweight {@code ValidationException} that does not capture a stack trace.
+     * <p>
+     * Suitable for high-rate error paths and for preallocation in {@code static final} fields.
+     * </p>
+     *
+     * @param message a human-readable description of the validation error
+     * @return a new lightweight exception
+     */
+    public static ValidationException lightweight(String message) {
+        return new ValidationException(message, true);
+    }
+
+    /**
+     * Returns a shared, preallocated {@code ValidationException} with the message
+     * "Validation failed".
+     * <p>
+     * While {@link BaseException#isStackTracesForced()} is {@code true}, a fresh exception with a
+     * stack trace is returned instead, so debugging sessions see where it was raised.
+     * </p>
+     *
+     * @return the shared exception instance
+     */
+    public static ValidationException shared() {
+        return isStackTracesForced() ? new ValidationException(DEFAULT_MESSAGE) : SharedHolder.INSTANCE;
+    }
+
+    // Runs before the superclass constructor, so invalid arguments are rejected before the
+    // exception is counted by ErrorMetrics; returns the message unchanged
+    private static String checkFieldErrors(String message, List<FieldError> fieldErrors) {
+        if (fieldErrors == null) {
+            throw new NullPointerException("fieldErrors must not be null");
+        }
+        for (FieldError fieldError : fieldErrors) {
+            if (fieldError == null) {
+                throw new NullPointerException("fieldErrors must not contain null");
+            }
+        }
+        return message;
+    }
+
+    // Initialized lazily from shared(), which only reaches it while traces are not forced
+    private static final class SharedHolder {
+        private static final ValidationException INSTANCE = new ValidationException(DEFAULT_MESSAGE, true);
     }
 }
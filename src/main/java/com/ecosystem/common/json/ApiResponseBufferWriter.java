@@ -0,0 +1,105 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes an {@link ApiResponse} as UTF-8 JSON straight into a caller-supplied {@link ByteBuffer},
+ * heap or direct, such as a socket write buffer.
+ * <p>
+ * The generator flushes its output directly into the buffer, so the body is copied once on its
+ * way to the network layer instead of going through a {@code byte[]} first. When the buffer is
+ * too small, writing continues in a growable heap buffer, which is returned instead.
+ * </p>
+ * <p>
+ * The generator's internal buffers are reused through a bounded Jackson recycler pool rather
+ * than the default {@code ThreadLocal} one, so that millions of short-lived virtual threads
+ * neither allocate fresh buffers per response nor pin one buffer set per thread. Instances are
+ * immutable and thread-safe.
+ * </p>
+ */
+public final class ApiResponseBufferWriter {
+
+    /**
+     * Number of pooled encoder buffer sets kept by default, per processor.
+     */
+    public static final int DEFAULT_POOL_SIZE_PER_PROCESSOR = 4;
+
+    private final ObjectWriter writer;
+
+    /**
+     * Creates a writer pooling {@value #DEFAULT_POOL_SIZE_PER_PROCESSOR} buffer sets per processor.
+     *
+     * @param mapper the mapper whose configuration and modules are used; must not be {@code null}
+     */
+    public ApiResponseBufferWriter(ObjectMapper mapper) {
+        this(mapper, DEFAULT_POOL_SIZE_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a writer pooling at most {@code poolSize} encoder buffer sets. The mapper is copied,
+     * so its own buffer recycling is not affected.
+     *
+     * @param mapper   the mapper whose configuration and modules are used; must not be {@code null}
+     * @param poolSize the maximum number of idle buffer sets kept; must be positive
+     * @throws NullPointerException     if {@code mapper} is {@code null}
+     * @throws IllegalArgumentException if {@code poolSize} is not positive
+     */
+    public ApiResponseBufferWriter(ObjectMapper mapper, int poolSize) {
+        if (mapper == null) {
+            throw new NullPointerException("mapper must not be null");
+        }
+        if (poolSize <= 0) {
+            throw new IllegalArgumentException("poolSize must be positive");
+        }
+        JsonFactory factory = mapper.getFactory().copy();
+        factory.setRecyclerPool(JsonRecyclerPools.newBoundedPool(poolSize));
+        this.writer = mapper.copyWith(factory).writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes {@code response} into {@code dst}, starting at its position.
+     * <p>
+     * If the body fits before the limit of {@code dst}, {@code dst} itself is returned with its
+     * position after the body. Otherwise the position of {@code dst} is left unchanged and a new
+     * heap buffer is returned, holding the bytes of {@code dst} before its position followed by
+     * the body, positioned after the body. Either way, {@code flip()} on the result yields the
+     * bytes to send.
+     * </p>
+     * <p>
+     * If serialization fails, the position of {@code dst} is reset to where it was on entry, so
+     * no partially written body is left in it.
+     * </p>
+     *
+     * @param response the response to write; must not be {@code null}
+     * @param dst      the target buffer; must not be {@code null}
+     * @return the buffer holding the body
+     * @throws NullPointerException if {@code response} or {@code dst} is {@code null}
+     * @throws IOException          if the response data cannot be serialized
+     */
+    public ByteBuffer write(ApiResponse<?> response, ByteBuffer dst) throws IOException {
+        if (response == null) {
+            throw new NullPointerException("response must not be null");
+        }
+        if (dst == null) {
+            throw new NullPointerException("dst must not be null");
+        }
+        ByteBufferOutput out = new ByteBufferOutput(dst);
+        try (JsonGenerator generator = writer.createGenerator(out, JsonEncoding.UTF8)) {
+            writer.writeValue(generator, response);
+        } catch (IOException | RuntimeException | Error e) {
+            out.discard();
+            throw e;
+        }
+        return out.buffer();
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.util.StringPool;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Reads an {@link ApiResponse} by switching on field names. The {@code data} payload is read
+ * with the deserializer of the declared type argument, resolved once per contextual type. The
+ * {@code message} is deduplicated through the optional {@link StringPool}.
+ */
+final class ApiResponseDeserializer extends StdDeserializer<ApiResponse<?>> implements ContextualDeserializer {
+
+    private final StringPool stringPool;
+    private final JsonDeserializer<Object> dataDeserializer;
+
+    ApiResponseDeserializer(StringPool stringPool) {
+        this(stringPool, null);
+    }
+
+    private ApiResponseDeserializer(StringPool stringPool, JsonDeserializer<Object> dataDeserializer) {
+        super(ApiResponse.class);
+        this.stringPool = stringPool;
+        this.dataDeserializer = dataDeserializer;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext context, BeanProperty property)
+            throws JsonMappingException {
+        // The contextual type is the ApiResponse being read, even when the property holds it in a
+        // container, whose own type would yield the container's element type as the data type
+        JavaType type = context.getContextualType();
+        JavaType dataType = type == null ? context.constructType(Object.class) : type.containedTypeOrUnknown(0);
+        return new ApiResponseDeserializer(stringPool, context.findRootValueDeserializer(dataType));
+    }
+
+    @Override
+    public ApiResponse<?> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken() && !parser.hasToken(JsonToken.FIELD_NAME)) {
+            return (ApiResponse<?>) context.handleUnexpectedToken(ApiResponse.class, parser);
+        }
+        boolean success = false;
+        String message = null;
+        Object data = null;
+        Instant timestamp = null;
+        String name = parser.isExpectedStartObjectToken() ? parser.nextFieldName() : parser.currentName();
+        for (; name != null; name = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "success" -> success = _parseBooleanPrimitive(parser, context);
+                case "message" -> message = readString(parser, context);
+                case "data" -> data = token == JsonToken.VALUE_NULL
+                        ? dataDeserializer(context).getNullValue(context)
+                        : dataDeserializer(context).deserialize(parser, context);
+                case "timestamp" -> timestamp = InstantCodec.read(parser, context);
+                default -> context.handleUnknownProperty(parser, this, ApiResponse.class, name);
+            }
+        }
+        return new ApiResponse<>(success, message, data, timestamp);
+    }
+
+    // Only null when used without contextualization; data is then read as untyped
+    private JsonDeserializer<Object> dataDeserializer(DeserializationContext context) throws JsonMappingException {
+        return dataDeserializer != null
+                ? dataDeserializer
+                : context.findRootValueDeserializer(context.constructType(Object.class));
+    }
+
+    private String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            return (String) context.handleUnexpectedToken(String.class, parser);
+        }
+        if (stringPool != null) {
+            return stringPool.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return parser.getText();
+    }
+}
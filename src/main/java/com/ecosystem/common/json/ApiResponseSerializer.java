@@ -0,0 +1,40 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes an {@link ApiResponse} with pre-encoded field names, in record component order.
+ * The {@code data} payload is delegated to whatever serializer its runtime type has.
+ */
+final class ApiResponseSerializer extends StdSerializer<ApiResponse<?>> {
+
+    static final SerializedString SUCCESS = new SerializedString("success");
+    static final SerializedString MESSAGE = new SerializedString("message");
+    static final SerializedString DATA = new SerializedString("data");
+    static final SerializedString TIMESTAMP = new SerializedString("timestamp");
+
+    ApiResponseSerializer() {
+        super(ApiResponse.class, false);
+    }
+
+    @Override
+    public void serialize(ApiResponse<?> response, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(response);
+        generator.writeFieldName(SUCCESS);
+        generator.writeBoolean(response.success());
+        generator.writeFieldName(MESSAGE);
+        generator.writeString(response.message());
+        generator.writeFieldName(DATA);
+        provider.defaultSerializeValue(response.data(), generator);
+        generator.writeFieldName(TIMESTAMP);
+        InstantCodec.write(generator, response.timestamp());
+        generator.writeEndObject();
+    }
+}
@@ -0,0 +1,139 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+
+/**
+ * Streams an {@link ApiResponse} whose {@code data} is a sequence of elements straight to an
+ * {@link OutputStream}, without materializing the collection or the JSON document.
+ * <p>
+ * The {@code success}, {@code message} and {@code timestamp} envelope is written first, followed
+ * by {@code data} as a JSON array serialized element by element with the given
+ * {@link ObjectMapper}. Output is buffered only by the generator's fixed-size buffer, and the
+ * target stream is flushed every {@code flushInterval} elements so that a slow consumer
+ * throttles the producer instead of letting output accumulate in memory.
+ * </p>
+ * <p>
+ * Instances are immutable and thread-safe. The target stream is never closed.
+ * </p>
+ */
+public final class ApiResponseStreamWriter {
+
+    /**
+     * Number of elements written between two flushes of the target stream by default.
+     */
+    public static final int DEFAULT_FLUSH_INTERVAL = 256;
+
+    private final ObjectMapper mapper;
+    private final ObjectWriter elementWriter;
+    private final int flushInterval;
+
+    /**
+     * Creates a writer that flushes every {@value #DEFAULT_FLUSH_INTERVAL} elements.
+     *
+     * @param mapper the mapper used to serialize each element; must not be {@code null}
+     */
+    public ApiResponseStreamWriter(ObjectMapper mapper) {
+        this(mapper, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * Creates a writer that flushes every {@code flushInterval} elements.
+     *
+     * @param mapper        the mapper used to serialize each element; must not be {@code null}
+     * @param flushInterval the number of elements between flushes; must be positive
+     * @throws NullPointerException     if {@code mapper} is {@code null}
+     * @throws IllegalArgumentException if {@code flushInterval} is not positive
+     */
+    public ApiResponseStreamWriter(ObjectMapper mapper, int flushInterval) {
+        if (mapper == null) {
+            throw new NullPointerException("mapper must not be null");
+        }
+        if (flushInterval <= 0) {
+            throw new IllegalArgumentException("flushInterval must be positive");
+        }
+        this.mapper = mapper;
+        this.elementWriter = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Writes a response whose data elements are produced by an {@link Iterator}.
+     *
+     * @param response the response to write; a {@code null} data iterator is written as {@code null}
+     * @param out      the target stream
+     * @throws IOException if writing to {@code out} fails
+     */
+    public void writeIterator(ApiResponse<? extends Iterator<?>> response, OutputStream out) throws IOException {
+        write(response, response.data(), out);
+    }
+
+    /**
+     * Writes a response whose data elements are produced by a {@link Stream}.
+     * The stream is consumed but not closed.
+     *
+     * @param response the response to write; a {@code null} data stream is written as {@code null}
+     * @param out      the target stream
+     * @throws IOException if writing to {@code out} fails
+     */
+    public void writeStream(ApiResponse<? extends Stream<?>> response, OutputStream out) throws IOException {
+        Stream<?> data = response.data();
+        write(response, data == null ? null : data.iterator(), out);
+    }
+
+    /**
+     * Writes a response whose data elements are produced by a {@link Spliterator}.
+     *
+     * @param response the response to write; a {@code null} data spliterator is written as {@code null}
+     * @param out      the target stream
+     * @throws IOException if writing to {@code out} fails
+     */
+    public void writeSpliterator(ApiResponse<? extends Spliterator<?>> response, OutputStream out)
+            throws IOException {
+        Spliterator<?> data = response.data();
+        write(response, data == null ? null : Spliterators.iterator(data), out);
+    }
+
+    private void write(ApiResponse<?> response, Iterator<?> data, OutputStream out) throws IOException {
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeBooleanField("success", response.success());
+            generator.writeStringField("message", response.message());
+            generator.writeFieldName("timestamp");
+            InstantCodec.write(generator, response.timestamp());
+            generator.writeFieldName("data");
+            if (data == null) {
+                generator.writeNull();
+            } else {
+                writeElements(generator, data);
+            }
+            generator.writeEndObject();
+        }
+        out.flush();
+    }
+
+    private void writeElements(JsonGenerator generator, Iterator<?> data) throws IOException {
+        generator.writeStartArray();
+        int sinceFlush = 0;
+        while (data.hasNext()) {
+            elementWriter.writeValue(generator, data.next());
+            if (++sinceFlush == flushInterval) {
+                generator.flush();
+                sinceFlush = 0;
+            }
+        }
+        generator.writeEndArray();
+    }
+}
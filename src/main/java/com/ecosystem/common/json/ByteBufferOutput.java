@@ -0,0 +1,75 @@
+package com.ecosystem.common.json;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link OutputStream} that writes into a caller-supplied {@link ByteBuffer}, backing
+ * {@link ApiResponseBufferWriter}.
+ * <p>
+ * Bytes go straight into the buffer between its position and limit. When they do not fit, the
+ * output moves to a heap buffer of at least twice the size, holding a copy of the buffer's bytes
+ * before its position, and the position of the original buffer is restored.
+ * </p>
+ * <p>
+ * A failed write is undone with {@link #discard()}, which puts the original buffer back at its
+ * start position so no partial body is left behind.
+ * </p>
+ */
+final class ByteBufferOutput extends OutputStream {
+
+    private final ByteBuffer original;
+    private final int start;
+    private ByteBuffer buffer;
+
+    ByteBufferOutput(ByteBuffer dst) {
+        this.original = dst;
+        this.start = dst.position();
+        this.buffer = dst;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureRemaining(1);
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureRemaining(length);
+        buffer.put(bytes, offset, length);
+    }
+
+    /**
+     * Returns the buffer holding the output: the original buffer if everything fit, otherwise
+     * the heap buffer that replaced it, positioned after the last byte written.
+     */
+    ByteBuffer buffer() {
+        return buffer;
+    }
+
+    /**
+     * Restores the original buffer to the position it had when this output was created, dropping
+     * any bytes written into it. A heap buffer that replaced it is simply abandoned.
+     */
+    void discard() {
+        original.position(start);
+    }
+
+    private void ensureRemaining(int length) {
+        if (buffer.remaining() >= length) {
+            return;
+        }
+        int required = buffer.position() + length;
+        if (required < 0) {
+            throw new OutOfMemoryError("Required buffer size exceeds the maximum array size");
+        }
+        int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max((long) buffer.limit() * 2, required));
+        ByteBuffer grown = ByteBuffer.allocate(Math.max(capacity, required));
+        grown.put(buffer.duplicate().flip());
+        if (buffer == original) {
+            original.position(start);
+        }
+        buffer = grown;
+    }
+}
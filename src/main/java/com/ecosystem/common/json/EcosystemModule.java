@@ -0,0 +1,70 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.util.StringPool;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Jackson module registering hand-written, reflection-free codecs for the shared DTOs.
+ * <p>
+ * {@link UserDto} and {@link ApiResponse} are written with pre-encoded field names in record
+ * component order, and read by switching on field names. {@link java.time.Instant} fields are
+ * written and read as ISO-8601 strings through the {@code DateUtils} fast paths, so the module
+ * does not require {@code JavaTimeModule} for these types.
+ * </p>
+ * <pre>{@code
+ * ObjectMapper mapper = new ObjectMapper().registerModule(new EcosystemModule());
+ * }</pre>
+ * <p>
+ * Services that keep many deserialized DTOs alive can pass a {@link StringPool}, which then
+ * deduplicates {@code username}, {@code email}, {@code fullName} and {@code message} values
+ * straight from the parser's buffer.
+ * </p>
+ */
+public class EcosystemModule extends SimpleModule {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates the module with the codecs for {@link UserDto} and {@link ApiResponse}.
+     */
+    public EcosystemModule() {
+        super("ecosystem-common", Version.unknownVersion(), deserializers(null), serializers());
+    }
+
+    /**
+     * Creates the module with codecs that deduplicate string fields through {@code stringPool}.
+     *
+     * @param stringPool the pool for deserialized string values; must not be {@code null}
+     */
+    public EcosystemModule(StringPool stringPool) {
+        super("ecosystem-common", Version.unknownVersion(), deserializers(requirePool(stringPool)), serializers());
+    }
+
+    private static StringPool requirePool(StringPool stringPool) {
+        if (stringPool == null) {
+            throw new NullPointerException("stringPool must not be null");
+        }
+        return stringPool;
+    }
+
+    // Serializers are registered by the type they report through handledType()
+    private static List<JsonSerializer<?>> serializers() {
+        return List.of(new UserDtoSerializer(), new ApiResponseSerializer());
+    }
+
+    private static Map<Class<?>, JsonDeserializer<?>> deserializers(StringPool stringPool) {
+        Map<Class<?>, JsonDeserializer<?>> deserializers = new HashMap<>();
+        deserializers.put(UserDto.class, new UserDtoDeserializer(stringPool));
+        deserializers.put(ApiResponse.class, new ApiResponseDeserializer(stringPool));
+        return deserializers;
+    }
+}
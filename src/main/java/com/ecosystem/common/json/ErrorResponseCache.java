@@ -0,0 +1,236 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.exception.BaseException;
+import com.ecosystem.common.util.DateUtils;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Writes {@link ApiResponse#error(String)} bodies from pre-encoded UTF-8 bytes, for error
+ * responses that are served at high rates from a small set of messages.
+ * <p>
+ * The first write of a message encodes {@code {"success":false,"message":...,"data":null} once
+ * and caches it; later writes copy the cached bytes and splice in only the current
+ * {@code timestamp}, or leave the field out when timestamps are disabled. The output is
+ * byte-for-byte what an {@link EcosystemModule}-configured mapper writes for the same response.
+ * The encoded timestamp is shared between writes within the same clock instant, so with a
+ * coarse clock such as {@link com.ecosystem.common.util.TickingClock} a cached write does not
+ * allocate.
+ * </p>
+ * <p>
+ * At most {@code maxEntries} messages are cached; further messages are encoded on every write.
+ * Instances are thread-safe. Target streams are neither flushed nor closed.
+ * </p>
+ */
+public final class ErrorResponseCache {
+
+    /**
+     * Number of messages cached by default.
+     */
+    public static final int DEFAULT_MAX_ENTRIES = 1024;
+
+    private static final byte[] TIMESTAMP_START = ",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP_END = "\"}".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] OBJECT_END = {'}'};
+    private static final JsonFactory JSON_FACTORY = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_CONTENT).build();
+    // Long enough for any Instant, including the +1000000000 year of Instant.MAX
+    private static final int MAX_TIMESTAMP_LENGTH = 48;
+
+    // Null for the library clock, which is looked up on every write
+    private final Clock clock;
+    private final boolean includeTimestamp;
+    private final int maxEntries;
+    private final ConcurrentHashMap<String, byte[]> bodies = new ConcurrentHashMap<>();
+    private final byte[] nullMessageBody = encode(null);
+    private volatile Stamp stamp = new Stamp(null, new byte[0]);
+
+    /**
+     * Creates a cache writing timestamps from the library clock ({@link DateUtils#clock()}),
+     * looked up on every write, so that a later {@link DateUtils#setClock(Clock)} takes effect.
+     */
+    public ErrorResponseCache() {
+        this.clock = null;
+        this.includeTimestamp = true;
+        this.maxEntries = DEFAULT_MAX_ENTRIES;
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param clock            the clock providing the timestamps; must not be {@code null}
+     * @param includeTimestamp whether bodies contain the {@code timestamp} field
+     * @param maxEntries       the maximum number of cached messages; must not be negative
+     * @throws NullPointerException     if {@code clock} is {@code null}
+     * @throws IllegalArgumentException if {@code maxEntries} is negative
+     */
+    public ErrorResponseCache(Clock clock, boolean includeTimestamp, int maxEntries) {
+        if (clock == null) {
+            throw new NullPointerException("clock must not be null");
+        }
+        if (maxEntries < 0) {
+            throw new IllegalArgumentException("maxEntries must not be negative");
+        }
+        this.clock = clock;
+        this.includeTimestamp = includeTimestamp;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Writes the error response body for {@code message} to {@code out}.
+     *
+     * @param message the error message; may be {@code null}
+     * @param out     the target stream
+     * @throws IOException if writing to {@code out} fails
+     */
+    public void write(String message, OutputStream out) throws IOException {
+        if (out == null) {
+            throw new NullPointerException("out must not be null");
+        }
+        byte[] body = body(message);
+        out.write(body);
+        if (!includeTimestamp) {
+            out.write(OBJECT_END);
+            return;
+        }
+        out.write(TIMESTAMP_START);
+        out.write(currentStamp());
+        out.write(TIMESTAMP_END);
+    }
+
+    /**
+     * Writes the error response body for the message of {@code exception} to {@code out}.
+     *
+     * @param exception the exception whose message is written
+     * @param out       the target stream
+     * @throws IOException if writing to {@code out} fails
+     */
+    public void write(BaseException exception, OutputStream out) throws IOException {
+        if (exception == null) {
+            throw new NullPointerException("exception must not be null");
+        }
+        write(exception.getMessage(), out);
+    }
+
+    /**
+     * Writes the error response body for {@code message} into {@code dst} at its position,
+     * advancing the position past the body.
+     *
+     * @param message the error message; may be {@code null}
+     * @param dst     the target buffer
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the body does not fit; {@code dst} is then unchanged
+     */
+    public int write(String message, ByteBuffer dst) {
+        if (dst == null) {
+            throw new NullPointerException("dst must not be null");
+        }
+        byte[] body = body(message);
+        if (!includeTimestamp) {
+            checkRemaining(dst, body.length + OBJECT_END.length);
+            dst.put(body).put(OBJECT_END);
+            return body.length + OBJECT_END.length;
+        }
+        byte[] timestamp = currentStamp();
+        int length = body.length + TIMESTAMP_START.length + timestamp.length + TIMESTAMP_END.length;
+        checkRemaining(dst, length);
+        dst.put(body).put(TIMESTAMP_START).put(timestamp).put(TIMESTAMP_END);
+        return length;
+    }
+
+    /**
+     * Writes the error response body for the message of {@code exception} into {@code dst}.
+     *
+     * @param exception the exception whose message is written
+     * @param dst       the target buffer
+     * @return the number of bytes written
+     * @throws BufferOverflowException if the body does not fit; {@code dst} is then unchanged
+     */
+    public int write(BaseException exception, ByteBuffer dst) {
+        if (exception == null) {
+            throw new NullPointerException("exception must not be null");
+        }
+        return write(exception.getMessage(), dst);
+    }
+
+    /**
+     * Returns the number of cached messages.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return bodies.size();
+    }
+
+    private byte[] body(String message) {
+        if (message == null) {
+            return nullMessageBody;
+        }
+        byte[] body = bodies.get(message);
+        if (body != null) {
+            return body;
+        }
+        body = encode(message);
+        // The bound is approximate under concurrent misses, which is harmless
+        if (bodies.size() < maxEntries) {
+            byte[] existing = bodies.putIfAbsent(message, body);
+            return existing != null ? existing : body;
+        }
+        return body;
+    }
+
+    private byte[] currentStamp() {
+        Instant now = (clock != null ? clock : DateUtils.clock()).instant();
+        Stamp current = stamp;
+        if (now.equals(current.instant)) {
+            return current.bytes;
+        }
+        byte[] text = new byte[MAX_TIMESTAMP_LENGTH];
+        int length = DateUtils.formatIsoUtf8(now, text, 0);
+        current = new Stamp(now, Arrays.copyOf(text, length));
+        stamp = current;
+        return current.bytes;
+    }
+
+    // Everything up to, but excluding, the timestamp field and the closing brace; the message is
+    // written by a Jackson generator so that its escaping matches the mapper output exactly
+    private static byte[] encode(String message) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(64);
+        try (JsonGenerator generator = JSON_FACTORY.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeFieldName(ApiResponseSerializer.SUCCESS);
+            generator.writeBoolean(false);
+            generator.writeFieldName(ApiResponseSerializer.MESSAGE);
+            generator.writeString(message);
+            generator.writeFieldName(ApiResponseSerializer.DATA);
+            generator.writeNull();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static void checkRemaining(ByteBuffer dst, int length) {
+        if (dst.remaining() < length) {
+            throw new BufferOverflowException();
+        }
+    }
+
+    // The most recently encoded timestamp; published as a whole so readers see matching fields
+    private record Stamp(Instant instant, byte[] bytes) {
+    }
+}
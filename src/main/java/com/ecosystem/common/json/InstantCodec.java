@@ -0,0 +1,62 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.util.DateUtils;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.CharBuffer;
+import java.time.DateTimeException;
+import java.time.Instant;
+
+/**
+ * Reads and writes {@link Instant} values as ISO-8601 strings through the {@link DateUtils}
+ * fast paths, without going through {@code DateTimeFormatter}.
+ */
+final class InstantCodec {
+
+    // Long enough for any Instant, including the +1000000000 year of Instant.MAX
+    private static final int MAX_TEXT_LENGTH = 48;
+
+    private InstantCodec() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    static void write(JsonGenerator generator, Instant instant) throws IOException {
+        if (instant == null) {
+            generator.writeNull();
+            return;
+        }
+        char[] text = new char[MAX_TEXT_LENGTH];
+        int length = DateUtils.formatIso(instant, text, 0);
+        generator.writeString(text, 0, length);
+    }
+
+    // Accepts ISO-8601 text, or epoch seconds as an integer or decimal number like JavaTimeModule
+    static Instant read(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        try {
+            if (token == JsonToken.VALUE_STRING) {
+                return DateUtils.parseIso(CharBuffer.wrap(parser.getTextCharacters(), parser.getTextOffset(),
+                        parser.getTextLength()));
+            }
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return Instant.ofEpochSecond(parser.getLongValue());
+            }
+            if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+                BigDecimal seconds = parser.getDecimalValue();
+                return Instant.ofEpochSecond(seconds.longValue(),
+                        seconds.remainder(BigDecimal.ONE).movePointRight(9).intValue());
+            }
+        } catch (DateTimeException | ArithmeticException ex) {
+            return (Instant) context.handleWeirdStringValue(Instant.class, parser.getText(), ex.getMessage());
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        return (Instant) context.handleUnexpectedToken(Instant.class, parser);
+    }
+}
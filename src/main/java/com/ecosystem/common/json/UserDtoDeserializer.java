@@ -0,0 +1,66 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.util.StringPool;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.time.Instant;
+
+/**
+ * Reads a {@link UserDto} by switching on field names, without reflective record introspection.
+ * Unknown fields are handled as configured by {@code FAIL_ON_UNKNOWN_PROPERTIES}. String fields
+ * are deduplicated through the optional {@link StringPool}.
+ */
+final class UserDtoDeserializer extends StdDeserializer<UserDto> {
+
+    private final StringPool stringPool;
+
+    UserDtoDeserializer(StringPool stringPool) {
+        super(UserDto.class);
+        this.stringPool = stringPool;
+    }
+
+    @Override
+    public UserDto deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartObjectToken() && !parser.hasToken(JsonToken.FIELD_NAME)) {
+            return (UserDto) context.handleUnexpectedToken(UserDto.class, parser);
+        }
+        Long id = null;
+        String username = null;
+        String email = null;
+        String fullName = null;
+        Instant createdAt = null;
+        Instant updatedAt = null;
+        String name = parser.isExpectedStartObjectToken() ? parser.nextFieldName() : parser.currentName();
+        for (; name != null; name = parser.nextFieldName()) {
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "id" -> id = token == JsonToken.VALUE_NULL ? null : _parseLong(parser, context, Long.class);
+                case "username" -> username = readString(parser, context);
+                case "email" -> email = readString(parser, context);
+                case "fullName" -> fullName = readString(parser, context);
+                case "createdAt" -> createdAt = InstantCodec.read(parser, context);
+                case "updatedAt" -> updatedAt = InstantCodec.read(parser, context);
+                default -> context.handleUnknownProperty(parser, this, UserDto.class, name);
+            }
+        }
+        return new UserDto(id, username, email, fullName, createdAt, updatedAt);
+    }
+
+    private String readString(JsonParser parser, DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_NULL)) {
+            return null;
+        }
+        if (!parser.hasToken(JsonToken.VALUE_STRING)) {
+            return (String) context.handleUnexpectedToken(String.class, parser);
+        }
+        if (stringPool != null) {
+            return stringPool.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+        }
+        return parser.getText();
+    }
+}
@@ -0,0 +1,48 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.UserDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+
+/**
+ * Writes a {@link UserDto} field by field with pre-encoded field names, in record component order.
+ */
+final class UserDtoSerializer extends StdSerializer<UserDto> {
+
+    static final SerializedString ID = new SerializedString("id");
+    static final SerializedString USERNAME = new SerializedString("username");
+    static final SerializedString EMAIL = new SerializedString("email");
+    static final SerializedString FULL_NAME = new SerializedString("fullName");
+    static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    UserDtoSerializer() {
+        super(UserDto.class);
+    }
+
+    @Override
+    public void serialize(UserDto user, JsonGenerator generator, SerializerProvider provider) throws IOException {
+        generator.writeStartObject(user);
+        generator.writeFieldName(ID);
+        if (user.id() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeNumber(user.id());
+        }
+        generator.writeFieldName(USERNAME);
+        generator.writeString(user.username());
+        generator.writeFieldName(EMAIL);
+        generator.writeString(user.email());
+        generator.writeFieldName(FULL_NAME);
+        generator.writeString(user.fullName());
+        generator.writeFieldName(CREATED_AT);
+        InstantCodec.write(generator, user.createdAt());
+        generator.writeFieldName(UPDATED_AT);
+        InstantCodec.write(generator, user.updatedAt());
+        generator.writeEndObject();
+    }
+}
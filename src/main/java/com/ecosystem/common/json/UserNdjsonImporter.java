@@ -0,0 +1,344 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.exception.ValidationException;
+import com.ecosystem.common.util.StringUtils;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Imports newline-delimited JSON files of {@link UserDto} records, one JSON object per line, with
+ * memory bounded independently of the file size.
+ * <p>
+ * The file is split into chunks of about {@code chunkSize} bytes that end at line boundaries.
+ * Each chunk is memory-mapped with {@link FileChannel#map} and decoded on one of
+ * {@code parallelism} worker threads; at most two chunks per worker are mapped or held decoded
+ * at any time. Records are delivered on the calling thread, in file order, in batches of
+ * {@code batchSize} (only the last one may be smaller). A line that is not a valid
+ * {@code UserDto} object is reported as a {@link ValidationException} naming its byte offset,
+ * and the import continues. Blank lines are skipped.
+ * </p>
+ * <pre>{@code
+ * UserNdjsonImporter importer = UserNdjsonImporter.builder(mapper).batchSize(5_000).build();
+ * UserNdjsonImporter.Summary summary = importer.importFile(dump, repository::saveAll, log::warn);
+ * }</pre>
+ * <p>
+ * Instances are immutable and thread-safe; every import uses its own worker threads.
+ * </p>
+ */
+public final class UserNdjsonImporter {
+
+    /**
+     * Number of records per batch by default.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1_000;
+
+    /**
+     * Approximate chunk size in bytes by default.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 8 << 20;
+
+    private static final int CHUNKS_PER_WORKER = 2;
+    private static final int PROBE_SIZE = 8_192;
+    private static final int BLOCK_SIZE = 64 << 10;
+    private static final AtomicInteger IMPORTS = new AtomicInteger();
+
+    private final ObjectReader reader;
+    private final int batchSize;
+    private final int chunkSize;
+    private final int parallelism;
+
+    private UserNdjsonImporter(Builder builder) {
+        this.reader = builder.mapper.readerFor(UserDto.class)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.batchSize = builder.batchSize;
+        this.chunkSize = builder.chunkSize;
+        this.parallelism = builder.parallelism;
+    }
+
+    /**
+     * Creates a builder for an importer decoding with {@code mapper}, which must be able to read
+     * {@link UserDto}, for example through {@link EcosystemModule}.
+     *
+     * @param mapper the mapper decoding each line
+     * @return a new builder
+     * @throws NullPointerException if {@code mapper} is {@code null}
+     */
+    public static Builder builder(ObjectMapper mapper) {
+        if (mapper == null) {
+            throw new NullPointerException("mapper must not be null");
+        }
+        return new Builder(mapper);
+    }
+
+    /**
+     * Imports {@code file}, passing every batch of records to {@code batches} and every malformed
+     * line to {@code errors}, both on the calling thread. An exception thrown by either consumer
+     * stops the import and is rethrown.
+     *
+     * @param file    the NDJSON file
+     * @param batches receives the records in file order
+     * @param errors  receives one exception per malformed line
+     * @return the number of imported records and malformed lines
+     * @throws IOException if the file cannot be read
+     */
+    public Summary importFile(Path file, Consumer<? super List<UserDto>> batches,
+                              Consumer<? super ValidationException> errors) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("file must not be null");
+        }
+        if (batches == null) {
+            throw new NullPointerException("batches must not be null");
+        }
+        if (errors == null) {
+            throw new NullPointerException("errors must not be null");
+        }
+        String prefix = "ndjson-import-" + IMPORTS.incrementAndGet() + "-";
+        AtomicInteger threads = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread thread = new Thread(task, prefix + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return run(channel, executor, batches, errors);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Summary run(FileChannel channel, ExecutorService executor, Consumer<? super List<UserDto>> batches,
+                        Consumer<? super ValidationException> errors) throws IOException {
+        long size = channel.size();
+        long start = 0;
+        long records = 0;
+        long malformed = 0;
+        ArrayDeque<Future<Decoded>> window = new ArrayDeque<>();
+        List<UserDto> batch = new ArrayList<>(batchSize);
+        while (start < size || !window.isEmpty()) {
+            while (start < size && window.size() < parallelism * CHUNKS_PER_WORKER) {
+                long chunkStart = start;
+                long chunkEnd = chunkEnd(channel, start, size);
+                window.add(executor.submit(() -> decode(channel, chunkStart, chunkEnd)));
+                start = chunkEnd;
+            }
+            Decoded decoded = await(window.poll());
+            decoded.errors.forEach(errors);
+            malformed += decoded.errors.size();
+            records += decoded.users.size();
+            for (UserDto user : decoded.users) {
+                batch.add(user);
+                if (batch.size() == batchSize) {
+                    batches.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.accept(batch);
+        }
+        return new Summary(records, malformed);
+    }
+
+    // The end of the line that contains the byte chunkSize - 1 bytes past start, or the file size
+    private long chunkEnd(FileChannel channel, long start, long size) throws IOException {
+        ByteBuffer probe = ByteBuffer.allocate(PROBE_SIZE);
+        long position = start + chunkSize - 1;
+        for (int read = 0; position < size && read >= 0; position += read) {
+            probe.clear();
+            read = channel.read(probe, position);
+            for (int i = 0; i < read; i++) {
+                if (probe.get(i) == '\n') {
+                    return checkChunk(start, position + i + 1);
+                }
+            }
+        }
+        return checkChunk(start, size);
+    }
+
+    private static long checkChunk(long start, long end) throws IOException {
+        if (end - start > Integer.MAX_VALUE) {
+            throw new IOException("Line starting before byte offset " + start + " is too long to map");
+        }
+        return end;
+    }
+
+    private Decoded decode(FileChannel channel, long start, long end) throws IOException {
+        MappedByteBuffer chunk = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+        Decoded decoded = new Decoded(new ArrayList<>(), new ArrayList<>(0));
+        byte[] block = new byte[BLOCK_SIZE];
+        int limit = chunk.limit();
+        int position = 0;
+        while (position < limit) {
+            int length = Math.min(block.length, limit - position);
+            chunk.get(position, block, 0, length);
+            int consumed = decodeLines(block, length, start + position, position + length == limit, decoded);
+            if (consumed == 0) {
+                // A line longer than the block: retry it with a larger one
+                block = new byte[block.length * 2];
+            }
+            position += consumed;
+        }
+        return decoded;
+    }
+
+    // Decodes the complete lines of block[0, length), and the unterminated rest if last; returns
+    // the number of bytes consumed
+    private int decodeLines(byte[] block, int length, long offset, boolean last, Decoded decoded) {
+        int lineStart = 0;
+        for (int i = 0; i < length; i++) {
+            if (block[i] == '\n') {
+                decodeLine(block, lineStart, i - lineStart, offset + lineStart, decoded);
+                lineStart = i + 1;
+            }
+        }
+        if (last && lineStart < length) {
+            decodeLine(block, lineStart, length - lineStart, offset + lineStart, decoded);
+            return length;
+        }
+        return lineStart;
+    }
+
+    private void decodeLine(byte[] src, int from, int length, long offset, Decoded decoded) {
+        if (StringUtils.isBlankUtf8(src, from, length)) {
+            return;
+        }
+        try {
+            UserDto user = reader.readValue(src, from, length);
+            if (user != null) {
+                decoded.users.add(user);
+                return;
+            }
+            decoded.errors.add(malformed(offset, "expected a JSON object", null));
+        } catch (JsonProcessingException e) {
+            decoded.errors.add(malformed(offset, e.getOriginalMessage(), e));
+        } catch (IOException e) {
+            // Not reached: reading from a byte array does not fail with plain I/O errors
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static ValidationException malformed(long offset, String reason, Throwable cause) {
+        return new ValidationException("Malformed UserDto at byte offset " + offset + ": " + reason, cause);
+    }
+
+    private static Decoded await(Future<Decoded> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Import interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Outcome of an import.
+     *
+     * @param records   the number of records delivered
+     * @param malformed the number of lines reported as malformed
+     */
+    public record Summary(long records, long malformed) {
+    }
+
+    // The records and errors of one chunk, in line order
+    private record Decoded(List<UserDto> users, List<ValidationException> errors) {
+    }
+
+    /**
+     * Builder for {@link UserNdjsonImporter}.
+     */
+    public static final class Builder {
+
+        private final ObjectMapper mapper;
+        private int batchSize = DEFAULT_BATCH_SIZE;
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        private Builder(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+
+        /**
+         * Sets the number of records per batch; defaults to {@value UserNdjsonImporter#DEFAULT_BATCH_SIZE}.
+         *
+         * @param batchSize the batch size; must be positive
+         * @return this builder
+         * @throws IllegalArgumentException if {@code batchSize} is not positive
+         */
+        public Builder batchSize(int batchSize) {
+            if (batchSize <= 0) {
+                throw new IllegalArgumentException("batchSize must be positive");
+            }
+            this.batchSize = batchSize;
+            return this;
+        }
+
+        /**
+         * Sets the approximate number of bytes decoded as one unit; chunks are extended to the
+         * end of their last line. Defaults to {@value UserNdjsonImporter#DEFAULT_CHUNK_SIZE}.
+         *
+         * @param chunkSize the chunk size in bytes; must be positive
+         * @return this builder
+         * @throws IllegalArgumentException if {@code chunkSize} is not positive
+         */
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize <= 0) {
+                throw new IllegalArgumentException("chunkSize must be positive");
+            }
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        /**
+         * Sets the number of decoding threads; defaults to the number of available processors.
+         *
+         * @param parallelism the number of threads; must be positive
+         * @return this builder
+         * @throws IllegalArgumentException if {@code parallelism} is not positive
+         */
+        public Builder parallelism(int parallelism) {
+            if (parallelism <= 0) {
+                throw new IllegalArgumentException("parallelism must be positive");
+            }
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Creates the importer.
+         *
+         * @return a new importer
+         */
+        public UserNdjsonImporter build() {
+            return new UserNdjsonImporter(this);
+        }
+    }
+}
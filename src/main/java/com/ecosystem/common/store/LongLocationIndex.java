@@ -0,0 +1,143 @@
+package com.ecosystem.common.store;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Open-addressing map from {@code long} keys to non-zero {@code long} locations, read without
+ * locks by any number of threads and updated by a single writer at a time.
+ * <p>
+ * A slot is published by writing its key and then its value with release semantics; readers load
+ * the value with acquire semantics before comparing the key, so they never see a key without its
+ * value. Slots are never reused: a removed key keeps its slot with the {@link #REMOVED} marker,
+ * which probing skips over, until the next resize copies only the live entries into a new table.
+ * A reader still probing the old table sees the state from before the resize.
+ * </p>
+ */
+final class LongLocationIndex {
+
+    static final long MISSING = 0;
+
+    private static final long EMPTY = 0;
+    private static final long REMOVED = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private volatile Table table = new Table(MIN_CAPACITY);
+    private volatile int size;
+    private int used;
+
+    /**
+     * Returns the location of {@code key}, or {@link #MISSING}. Safe from any thread.
+     */
+    long get(long key) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        for (int i = Table.slot(key, mask); ; i = (i + 1) & mask) {
+            long value = current.values.getAcquire(i);
+            if (value == EMPTY) {
+                return MISSING;
+            }
+            if (current.keys[i] == key) {
+                return value == REMOVED ? MISSING : value;
+            }
+        }
+    }
+
+    /**
+     * Maps {@code key} to {@code location}, which must not be zero or negative. Writer only.
+     *
+     * @return the previous location, or {@link #MISSING}
+     */
+    long put(long key, long location) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        int i = Table.slot(key, mask);
+        for (long value = current.values.get(i); value != EMPTY; value = current.values.get(i)) {
+            if (current.keys[i] == key) {
+                current.values.setRelease(i, location);
+                if (value == REMOVED) {
+                    size++;
+                    return MISSING;
+                }
+                return value;
+            }
+            i = (i + 1) & mask;
+        }
+        current.keys[i] = key;
+        current.values.setRelease(i, location);
+        size++;
+        used++;
+        if (used * 4L >= current.keys.length * 3L) {
+            resize();
+        }
+        return MISSING;
+    }
+
+    /**
+     * Removes {@code key}. Writer only.
+     *
+     * @return the removed location, or {@link #MISSING}
+     */
+    long remove(long key) {
+        Table current = table;
+        int mask = current.keys.length - 1;
+        for (int i = Table.slot(key, mask); ; i = (i + 1) & mask) {
+            long value = current.values.get(i);
+            if (value == EMPTY) {
+                return MISSING;
+            }
+            if (current.keys[i] == key) {
+                if (value == REMOVED) {
+                    return MISSING;
+                }
+                current.values.setRelease(i, REMOVED);
+                size--;
+                return value;
+            }
+        }
+    }
+
+    /**
+     * Returns the number of live keys. Safe from any thread.
+     */
+    int size() {
+        return size;
+    }
+
+    // Doubles the table when live keys fill more than half of it, and otherwise rebuilds it at
+    // the same capacity to drop the removed slots
+    private void resize() {
+        Table old = table;
+        int capacity = size * 2 >= old.keys.length ? old.keys.length * 2 : old.keys.length;
+        Table resized = new Table(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < old.keys.length; i++) {
+            long value = old.values.get(i);
+            if (value != EMPTY && value != REMOVED) {
+                int j = Table.slot(old.keys[i], mask);
+                while (resized.values.get(j) != EMPTY) {
+                    j = (j + 1) & mask;
+                }
+                resized.keys[j] = old.keys[i];
+                resized.values.set(j, value);
+            }
+        }
+        used = size;
+        table = resized;
+    }
+
+    // Keys and values of one generation; the volatile table field publishes a resized one
+    private static final class Table {
+        private final long[] keys;
+        private final AtomicLongArray values;
+
+        Table(int capacity) {
+            this.keys = new long[capacity];
+            this.values = new AtomicLongArray(capacity);
+        }
+
+        // Fibonacci hashing spreads sequential ids over the table
+        static int slot(long key, int mask) {
+            return (int) ((key * 0x9E37_79B9_7F4A_7C15L) >>> 32) & mask;
+        }
+    }
+}
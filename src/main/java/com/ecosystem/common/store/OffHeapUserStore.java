@@ -0,0 +1,415 @@
+package com.ecosystem.common.store;
+
+import com.ecosystem.common.dto.UserDto;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Off-heap store of {@link UserDto} records keyed by {@code id}, kept in memory-mapped file
+ * segments or, for a store that is not persisted, in direct buffers.
+ * <p>
+ * Records are appended to fixed-size segments in a layout with a fixed header, so that
+ * {@link #get(long)} rebuilds a DTO from a single record and the field accessors such as
+ * {@link #email(long)} decode only the field they return. An open-addressing index maps each id
+ * to the location of its latest record. Reads take no locks and can run on any number of
+ * threads alongside a writer; writes are serialized, so there is a single writer at a time.
+ * Replaced and removed records stay in their segment until the store is rebuilt.
+ * </p>
+ * <p>
+ * A file-backed store is reopened by replaying its segments, which rebuilds the index from the
+ * record headers without deserializing the records. {@link #flush()} forces written records to
+ * the file; records written after the last flush may be lost on a crash, but never corrupt the
+ * records before them.
+ * </p>
+ * <pre>{@code
+ * try (OffHeapUserStore users = OffHeapUserStore.open(Path.of("users.store"))) {
+ *     users.put(user);
+ *     String email = users.email(user.id());
+ * }
+ * }</pre>
+ * <p>
+ * Memory is held in {@link MappedByteBuffer}s rather than through the foreign memory API, which
+ * is a preview feature in Java 21; their mappings are released when the buffers are collected.
+ * A closed store must no longer be used.
+ * </p>
+ */
+public final class OffHeapUserStore implements AutoCloseable {
+
+    /**
+     * Segment size in bytes used for new stores by default.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * Smallest accepted segment size in bytes.
+     */
+    public static final int MIN_SEGMENT_SIZE = 4096;
+
+    private static final int MAGIC = 0x5544_5331;
+    private static final int VERSION = 1;
+    // Magic, version and segment size at the start of the first segment, padded to eight bytes
+    private static final int FILE_HEADER_SIZE = 16;
+
+    private final FileChannel channel;
+    private final int segmentSize;
+    private final LongLocationIndex index = new LongLocationIndex();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile ByteBuffer[] segments = new ByteBuffer[0];
+    private volatile boolean closed;
+    private int writeOffset;
+    private int dirtyFrom;
+
+    private OffHeapUserStore(FileChannel channel, int segmentSize) {
+        this.channel = channel;
+        this.segmentSize = segmentSize;
+    }
+
+    /**
+     * Opens the store in {@code file}, creating it with {@value #DEFAULT_SEGMENT_SIZE}-byte segments
+     * if it does not exist.
+     *
+     * @param file the store file
+     * @return the open store
+     * @throws IOException if the file cannot be opened or is not a valid store
+     */
+    public static OffHeapUserStore open(Path file) throws IOException {
+        return open(file, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the store in {@code file}, creating it with {@code segmentSize}-byte segments if it
+     * does not exist. An existing store keeps the segment size it was created with.
+     *
+     * @param file        the store file
+     * @param segmentSize the segment size for a new store; at least {@value #MIN_SEGMENT_SIZE}
+     * @return the open store
+     * @throws IOException              if the file cannot be opened or is not a valid store
+     * @throws IllegalArgumentException if {@code segmentSize} is too small
+     */
+    public static OffHeapUserStore open(Path file, int segmentSize) throws IOException {
+        if (file == null) {
+            throw new NullPointerException("file must not be null");
+        }
+        checkSegmentSize(segmentSize);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            OffHeapUserStore store = channel.size() == 0
+                    ? create(channel, segmentSize) : new OffHeapUserStore(channel, readHeader(channel));
+            store.replay(channel.size());
+            return store;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates an empty store held in direct buffers, which is not persisted.
+     *
+     * @param segmentSize the segment size; at least {@value #MIN_SEGMENT_SIZE}
+     * @return the new store
+     * @throws IllegalArgumentException if {@code segmentSize} is too small
+     */
+    public static OffHeapUserStore inMemory(int segmentSize) {
+        checkSegmentSize(segmentSize);
+        OffHeapUserStore store = new OffHeapUserStore(null, segmentSize);
+        store.addSegment();
+        store.writeOffset = FILE_HEADER_SIZE;
+        return store;
+    }
+
+    /**
+     * Stores {@code user}, replacing any record with the same id.
+     *
+     * @param user the user; its {@code id} must not be {@code null}
+     * @throws IllegalArgumentException if the id is {@code null} or the record does not fit in a segment
+     * @throws IllegalStateException     if the store is closed
+     * @throws UncheckedIOException     if a new segment cannot be mapped
+     */
+    public void put(UserDto user) {
+        if (user == null) {
+            throw new NullPointerException("user must not be null");
+        }
+        if (user.id() == null) {
+            throw new IllegalArgumentException("user id must not be null");
+        }
+        UserRecords.Encoded record = UserRecords.encode(user);
+        if (record.size() > segmentSize - FILE_HEADER_SIZE) {
+            throw new IllegalArgumentException("Record of " + record.size() + " bytes does not fit in a segment");
+        }
+        writeLock.lock();
+        try {
+            long location = reserve(record.size());
+            UserRecords.write(segment(location), offset(location), record);
+            index.put(user.id(), location);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the record with {@code id}.
+     *
+     * @param id the user id
+     * @return {@code true} if a record was removed
+     * @throws IllegalStateException if the store is closed
+     */
+    public boolean remove(long id) {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            if (index.get(id) == LongLocationIndex.MISSING) {
+                return false;
+            }
+            long location = reserve(UserRecords.tombstoneSize());
+            UserRecords.writeTombstone(segment(location), offset(location), id);
+            index.remove(id);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the user with {@code id}. Takes no locks.
+     *
+     * @param id the user id
+     * @return the user, or {@code null} if there is none
+     */
+    public UserDto get(long id) {
+        return read(id, UserRecords::read);
+    }
+
+    /**
+     * Returns whether a user with {@code id} is stored. Takes no locks.
+     *
+     * @param id the user id
+     * @return {@code true} if the user is stored
+     */
+    public boolean contains(long id) {
+        ensureOpen();
+        return index.get(id) != LongLocationIndex.MISSING;
+    }
+
+    /**
+     * Returns the username of the user with {@code id}, decoding no other field.
+     *
+     * @param id the user id
+     * @return the username, or {@code null} if there is no such user or its username is null
+     */
+    public String username(long id) {
+        return read(id, UserRecords::username);
+    }
+
+    /**
+     * Returns the email of the user with {@code id}, decoding no other field.
+     *
+     * @param id the user id
+     * @return the email, or {@code null} if there is no such user or its email is null
+     */
+    public String email(long id) {
+        return read(id, UserRecords::email);
+    }
+
+    /**
+     * Returns the full name of the user with {@code id}, decoding no other field.
+     *
+     * @param id the user id
+     * @return the full name, or {@code null} if there is no such user or its full name is null
+     */
+    public String fullName(long id) {
+        return read(id, UserRecords::fullName);
+    }
+
+    /**
+     * Returns the creation time of the user with {@code id}, decoding no other field.
+     *
+     * @param id the user id
+     * @return the creation time, or {@code null} if there is no such user or it has none
+     */
+    public Instant createdAt(long id) {
+        return read(id, UserRecords::createdAt);
+    }
+
+    /**
+     * Returns the last update time of the user with {@code id}, decoding no other field.
+     *
+     * @param id the user id
+     * @return the update time, or {@code null} if there is no such user or it has none
+     */
+    public Instant updatedAt(long id) {
+        return read(id, UserRecords::updatedAt);
+    }
+
+    /**
+     * Returns the number of stored users.
+     *
+     * @return the store size
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Forces the records written since the last flush to the file. Does nothing for a store
+     * held in memory.
+     *
+     * @throws IllegalStateException if the store is closed
+     */
+    public void flush() {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            ByteBuffer[] current = segments;
+            for (int i = dirtyFrom; channel != null && i < current.length; i++) {
+                ((MappedByteBuffer) current[i]).force();
+            }
+            dirtyFrom = current.length - 1;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Flushes and closes the store.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            flush();
+            closed = true;
+            if (channel != null) {
+                channel.close();
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Rebuilds the index from the records of every segment, in the order they were written
+    private void replay(long fileSize) throws IOException {
+        int count = (int) (fileSize / segmentSize);
+        while (segments.length < count) {
+            addSegment();
+        }
+        for (int s = 0; s < count; s++) {
+            ByteBuffer segment = segments[s];
+            int offset = s == 0 ? FILE_HEADER_SIZE : 0;
+            int length;
+            while (offset + Integer.BYTES <= segmentSize && (length = segment.getInt(offset + UserRecords.LENGTH)) != 0) {
+                if (length < UserRecords.HEADER_SIZE || (length & 7) != 0 || length > segmentSize - offset) {
+                    throw new IOException("Corrupt record in segment " + s + " at offset " + offset);
+                }
+                long id = segment.getLong(offset + UserRecords.ID);
+                if (UserRecords.isTombstone(segment, offset)) {
+                    index.remove(id);
+                } else {
+                    index.put(id, location(s, offset));
+                }
+                offset += length;
+            }
+            writeOffset = offset;
+        }
+    }
+
+    private <T> T read(long id, FieldReader<T> reader) {
+        ensureOpen();
+        long location = index.get(id);
+        if (location == LongLocationIndex.MISSING) {
+            return null;
+        }
+        return reader.read(segment(location), offset(location));
+    }
+
+    private long reserve(int size) {
+        ensureOpen();
+        if (writeOffset + size > segmentSize) {
+            addSegment();
+            writeOffset = 0;
+        }
+        long location = location(segments.length - 1, writeOffset);
+        writeOffset += size;
+        return location;
+    }
+
+    private void addSegment() {
+        ByteBuffer[] current = segments;
+        ByteBuffer segment;
+        try {
+            segment = channel == null ? ByteBuffer.allocateDirect(segmentSize)
+                    : channel.map(FileChannel.MapMode.READ_WRITE, (long) current.length * segmentSize, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        ByteBuffer[] grown = Arrays.copyOf(current, current.length + 1);
+        grown[current.length] = segment;
+        segments = grown;
+    }
+
+    private static OffHeapUserStore create(FileChannel channel, int segmentSize) {
+        OffHeapUserStore store = new OffHeapUserStore(channel, segmentSize);
+        store.addSegment();
+        store.segments[0].putInt(0, MAGIC).putInt(4, VERSION).putInt(8, segmentSize);
+        return store;
+    }
+
+    private static int readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        channel.read(header, 0);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("Not a user store file");
+        }
+        int segmentSize = header.getInt(8);
+        if (segmentSize < MIN_SEGMENT_SIZE || channel.size() % segmentSize != 0) {
+            throw new IOException("Corrupt user store header");
+        }
+        return segmentSize;
+    }
+
+    private static void checkSegmentSize(int segmentSize) {
+        if (segmentSize < MIN_SEGMENT_SIZE) {
+            throw new IllegalArgumentException("segmentSize must be at least " + MIN_SEGMENT_SIZE);
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Store is closed");
+        }
+    }
+
+    private ByteBuffer segment(long location) {
+        return segments[(int) (location >>> 32) - 1];
+    }
+
+    // Segment numbers are stored plus one, so that no location is zero
+    private static long location(int segment, int offset) {
+        return ((long) (segment + 1) << 32) | offset;
+    }
+
+    private static int offset(long location) {
+        return (int) location;
+    }
+
+    // Decodes one field, or the whole record, at an offset of a segment
+    @FunctionalInterface
+    private interface FieldReader<T> {
+        T read(ByteBuffer segment, int offset);
+    }
+}
@@ -0,0 +1,176 @@
+package com.ecosystem.common.store;
+
+import com.ecosystem.common.dto.UserDto;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Layout of the {@link UserDto} records appended by {@link OffHeapUserStore}.
+ * <p>
+ * Every record starts with a fixed 52-byte header, so each field is found at a known offset or
+ * after a sum of string lengths, without decoding the fields before it:
+ * </p>
+ * <pre>
+ *  0  int   record length, written last; 0 marks the end of a segment
+ *  4  byte  flags: createdAt present, updatedAt present, tombstone
+ *  8  long  id
+ * 16  long  createdAt epoch seconds     24  int  createdAt nanoseconds
+ * 28  int   username length in bytes, or -1 for null
+ * 32  long  updatedAt epoch seconds     40  int  updatedAt nanoseconds
+ * 44  int   email length               48  int  fullName length
+ * 52        UTF-8 username, email and fullName
+ * </pre>
+ * <p>
+ * Records are padded to a multiple of eight bytes. All accesses are absolute, so concurrent
+ * readers never disturb each other.
+ * </p>
+ */
+final class UserRecords {
+
+    static final int HEADER_SIZE = 52;
+    static final int LENGTH = 0;
+    static final int ID = 8;
+
+    private static final int FLAGS = 4;
+    private static final int CREATED_SECONDS = 16;
+    private static final int CREATED_NANOS = 24;
+    private static final int USERNAME_LENGTH = 28;
+    private static final int UPDATED_SECONDS = 32;
+    private static final int UPDATED_NANOS = 40;
+    private static final int EMAIL_LENGTH = 44;
+    private static final int FULL_NAME_LENGTH = 48;
+
+    private static final int HAS_CREATED_AT = 1;
+    private static final int HAS_UPDATED_AT = 1 << 1;
+    private static final int TOMBSTONE = 1 << 2;
+
+    private UserRecords() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * The encoded strings of a record, measured before a segment is chosen for it.
+     */
+    record Encoded(UserDto user, byte[] username, byte[] email, byte[] fullName, int size) {
+    }
+
+    static Encoded encode(UserDto user) {
+        byte[] username = utf8(user.username());
+        byte[] email = utf8(user.email());
+        byte[] fullName = utf8(user.fullName());
+        int size = HEADER_SIZE + byteCount(username) + byteCount(email) + byteCount(fullName);
+        return new Encoded(user, username, email, fullName, align(size));
+    }
+
+    static int tombstoneSize() {
+        return align(HEADER_SIZE);
+    }
+
+    /**
+     * Writes {@code record} at {@code offset}, storing its length last so that a partly written
+     * record still reads as the end of the segment.
+     */
+    static void write(ByteBuffer segment, int offset, Encoded record) {
+        UserDto user = record.user();
+        int flags = (user.createdAt() != null ? HAS_CREATED_AT : 0)
+                | (user.updatedAt() != null ? HAS_UPDATED_AT : 0);
+        segment.put(offset + FLAGS, (byte) flags);
+        segment.putLong(offset + ID, user.id());
+        if (user.createdAt() != null) {
+            segment.putLong(offset + CREATED_SECONDS, user.createdAt().getEpochSecond());
+            segment.putInt(offset + CREATED_NANOS, user.createdAt().getNano());
+        }
+        if (user.updatedAt() != null) {
+            segment.putLong(offset + UPDATED_SECONDS, user.updatedAt().getEpochSecond());
+            segment.putInt(offset + UPDATED_NANOS, user.updatedAt().getNano());
+        }
+        segment.putInt(offset + USERNAME_LENGTH, length(record.username()));
+        segment.putInt(offset + EMAIL_LENGTH, length(record.email()));
+        segment.putInt(offset + FULL_NAME_LENGTH, length(record.fullName()));
+        int position = offset + HEADER_SIZE;
+        position = putBytes(segment, position, record.username());
+        position = putBytes(segment, position, record.email());
+        putBytes(segment, position, record.fullName());
+        segment.putInt(offset + LENGTH, record.size());
+    }
+
+    static void writeTombstone(ByteBuffer segment, int offset, long id) {
+        segment.put(offset + FLAGS, (byte) TOMBSTONE);
+        segment.putLong(offset + ID, id);
+        segment.putInt(offset + LENGTH, tombstoneSize());
+    }
+
+    static boolean isTombstone(ByteBuffer segment, int offset) {
+        return (segment.get(offset + FLAGS) & TOMBSTONE) != 0;
+    }
+
+    static UserDto read(ByteBuffer segment, int offset) {
+        return new UserDto(segment.getLong(offset + ID), username(segment, offset), email(segment, offset),
+                fullName(segment, offset), createdAt(segment, offset), updatedAt(segment, offset));
+    }
+
+    static String username(ByteBuffer segment, int offset) {
+        return string(segment, offset + HEADER_SIZE, segment.getInt(offset + USERNAME_LENGTH));
+    }
+
+    static String email(ByteBuffer segment, int offset) {
+        int start = offset + HEADER_SIZE + Math.max(0, segment.getInt(offset + USERNAME_LENGTH));
+        return string(segment, start, segment.getInt(offset + EMAIL_LENGTH));
+    }
+
+    static String fullName(ByteBuffer segment, int offset) {
+        int start = offset + HEADER_SIZE + Math.max(0, segment.getInt(offset + USERNAME_LENGTH))
+                + Math.max(0, segment.getInt(offset + EMAIL_LENGTH));
+        return string(segment, start, segment.getInt(offset + FULL_NAME_LENGTH));
+    }
+
+    static Instant createdAt(ByteBuffer segment, int offset) {
+        if ((segment.get(offset + FLAGS) & HAS_CREATED_AT) == 0) {
+            return null;
+        }
+        return Instant.ofEpochSecond(segment.getLong(offset + CREATED_SECONDS), segment.getInt(offset + CREATED_NANOS));
+    }
+
+    static Instant updatedAt(ByteBuffer segment, int offset) {
+        if ((segment.get(offset + FLAGS) & HAS_UPDATED_AT) == 0) {
+            return null;
+        }
+        return Instant.ofEpochSecond(segment.getLong(offset + UPDATED_SECONDS), segment.getInt(offset + UPDATED_NANOS));
+    }
+
+    private static byte[] utf8(String value) {
+        return value == null ? null : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Stored lengths: -1 stands for null
+    private static int length(byte[] bytes) {
+        return bytes == null ? -1 : bytes.length;
+    }
+
+    private static int byteCount(byte[] bytes) {
+        return bytes == null ? 0 : bytes.length;
+    }
+
+    private static int putBytes(ByteBuffer segment, int position, byte[] bytes) {
+        if (bytes == null) {
+            return position;
+        }
+        segment.put(position, bytes);
+        return position + bytes.length;
+    }
+
+    private static String string(ByteBuffer segment, int start, int length) {
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        segment.get(start, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int align(int size) {
+        return (size + 7) & ~7;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ecosystem.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Implementation of {@code StringUtils.capitalize}: upper-cases the first character with
+ * {@link Character#toUpperCase(char)} and lower-cases the rest with {@link String#toLowerCase()}.
+ * <p>
+ * ASCII input is mapped in one pass into a single buffer, and returned unchanged when it is
+ * already capitalized. The ASCII path is skipped when the default locale lower-cases ASCII
+ * letters to non-ASCII ones (Turkish and Azerbaijani dotless i); such input, and any non-ASCII
+ * input, goes through {@link String#toLowerCase()} so that locale and Unicode case mapping
+ * rules stay exactly as before.
+ * </p>
+ */
+final class Capitalizer {
+
+    private static final int NON_ASCII = -1;
+    private static final int UNCHANGED = 0;
+    private static final int CHANGED = 1;
+
+    private Capitalizer() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the capitalized form of the non-empty {@code value}, or {@code value} itself if it
+     * is already capitalized.
+     */
+    static String capitalize(String value) {
+        int state = asciiState(value);
+        if (state == UNCHANGED) {
+            return value;
+        }
+        if (state == CHANGED) {
+            byte[] bytes = new byte[value.length()];
+            bytes[0] = (byte) toUpperAscii(value.charAt(0));
+            for (int i = 1; i < bytes.length; i++) {
+                bytes[i] = (byte) toLowerAscii(value.charAt(i));
+            }
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+        char first = value.charAt(0);
+        char upper = Character.toUpperCase(first);
+        String rest = value.substring(1).toLowerCase();
+        if (upper == first && rest.length() == value.length() - 1 && value.startsWith(rest, 1)) {
+            return value;
+        }
+        return new StringBuilder(rest.length() + 1).append(upper).append(rest).toString();
+    }
+
+    /**
+     * Appends the capitalized form of the non-empty {@code value} to {@code out}.
+     */
+    static void capitalize(String value, StringBuilder out) {
+        if (asciiState(value) == NON_ASCII) {
+            out.append(Character.toUpperCase(value.charAt(0))).append(value.substring(1).toLowerCase());
+            return;
+        }
+        out.append(toUpperAscii(value.charAt(0)));
+        // Copy runs that are already lowercase in bulk, mapping only the uppercase letters
+        int runStart = 1;
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                out.append(value, runStart, i).append(toLowerAscii(c));
+                runStart = i + 1;
+            }
+        }
+        out.append(value, runStart, value.length());
+    }
+
+    // NON_ASCII unless the ASCII mapping is valid; otherwise whether it changes anything
+    private static int asciiState(String value) {
+        if (!isAsciiLocale(Locale.getDefault())) {
+            return NON_ASCII;
+        }
+        char first = value.charAt(0);
+        if (first >= 0x80) {
+            return NON_ASCII;
+        }
+        int state = first >= 'a' && first <= 'z' ? CHANGED : UNCHANGED;
+        for (int i = 1; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 0x80) {
+                return NON_ASCII;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                state = CHANGED;
+            }
+        }
+        return state;
+    }
+
+    private static boolean isAsciiLocale(Locale locale) {
+        String language = locale.getLanguage();
+        return !"tr".equals(language) && !"az".equals(language);
+    }
+
+    private static char toUpperAscii(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - 32) : c;
+    }
+
+    private static char toLowerAscii(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + 32) : c;
+    }
+}
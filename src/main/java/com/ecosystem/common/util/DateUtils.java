@@ -1,7 +1,8 @@
 package com.ecosystem.common.util;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 
 /**
@@ -12,7 +13,13 @@ import java.time.format.DateTimeParseException;
  */
 public final class DateUtils {
 
-    private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_INSTANT;
+    /**
+     * System property holding the refresh interval, in milliseconds, of the default library clock.
+     * A value of {@code 0} selects {@link Clock#systemUTC()} instead of a {@link TickingClock}.
+     */
+    public static final String CLOCK_TICK_PROPERTY = "ecosystem.clock.tickMillis";
+
+    private static volatile Clock clockOverride;
 
     private DateUtils() {
         throw new UnsupportedOperationException("Utility class");
@@ -29,7 +36,72 @@ public final class DateUtils {
         if (instant == null) {
             throw new NullPointerException("instant must not be null");
         }
-        return ISO_FORMATTER.format(instant);
+        return IsoFormatter.format(instant);
+    }
+
+    /**
+     * Appends the ISO-8601 representation of the given {@link Instant} to {@code out}.
+     * <p>
+     * The output is identical to {@link #formatIso(Instant)}, without allocating an
+     * intermediate string for the common case.
+     * </p>
+     *
+     * @param instant the instant to format; must not be {@code null}
+     * @param out     the builder to append to; must not be {@code null}
+     * @return {@code out}, for chaining
+     * @throws NullPointerException if {@code instant} or {@code out} is {@code null}
+     */
+    public static StringBuilder formatIso(Instant instant, StringBuilder out) {
+        if (instant == null) {
+            throw new NullPointerException("instant must not be null");
+        }
+        if (out == null) {
+            throw new NullPointerException("out must not be null");
+        }
+        IsoFormatter.format(instant, out);
+        return out;
+    }
+
+    /**
+     * Writes the ISO-8601 representation of the given {@link Instant} into {@code dst}.
+     * <p>
+     * The output is identical to {@link #formatIso(Instant)}. At most 30 characters are written
+     * for instants in years 0000-9999.
+     * </p>
+     *
+     * @param instant the instant to format; must not be {@code null}
+     * @param dst     the destination array; must not be {@code null}
+     * @param offset  the index of the first character to write
+     * @return the number of characters written
+     * @throws NullPointerException      if {@code instant} or {@code dst} is {@code null}
+     * @throws IndexOutOfBoundsException if the text does not fit in {@code dst} at {@code offset}
+     */
+    public static int formatIso(Instant instant, char[] dst, int offset) {
+        if (instant == null) {
+            throw new NullPointerException("instant must not be null");
+        }
+        return IsoFormatter.format(instant, dst, offset);
+    }
+
+    /**
+     * Writes the ISO-8601 representation of the given {@link Instant} into {@code dst} as UTF-8.
+     * <p>
+     * The output is identical to the UTF-8 encoding of {@link #formatIso(Instant)}. At most 30
+     * bytes are written for instants in years 0000-9999.
+     * </p>
+     *
+     * @param instant the instant to format; must not be {@code null}
+     * @param dst     the destination array; must not be {@code null}
+     * @param offset  the index of the first byte to write
+     * @return the number of bytes written
+     * @throws NullPointerException      if {@code instant} or {@code dst} is {@code null}
+     * @throws IndexOutOfBoundsException if the text does not fit in {@code dst} at {@code offset}
+     */
+    public static int formatIsoUtf8(Instant instant, byte[] dst, int offset) {
+        if (instant == null) {
+            throw new NullPointerException("instant must not be null");
+        }
+        return IsoFormatter.format(instant, dst, offset);
     }
 
     /**
@@ -41,23 +113,154 @@ public final class DateUtils {
      * @throws DateTimeParseException if the text cannot be parsed
      */
     public static Instant parseIso(String value) {
+        return parseIso((CharSequence) value);
+    }
+
+    /**
+     * Parses ISO-8601 text into an {@link Instant}.
+     * <p>
+     * Text in the canonical {@code yyyy-MM-ddTHH:mm:ss[.fffffffff]Z} shape is parsed without
+     * intermediate objects; any other form accepted by {@link Instant#parse(CharSequence)} is
+     * still supported.
+     * </p>
+     *
+     * @param value the ISO-8601 date-time text to parse; must not be {@code null}
+     * @return the parsed {@link Instant}
+     * @throws NullPointerException   if {@code value} is {@code null}
+     * @throws DateTimeParseException if the text cannot be parsed
+     */
+    public static Instant parseIso(CharSequence value) {
+        if (value == null) {
+            throw new NullPointerException("value must not be null");
+        }
+        return IsoParser.parse(value);
+    }
+
+    /**
+     * Parses ISO-8601 text into milliseconds since the epoch, as {@link Instant#toEpochMilli()}.
+     *
+     * @param value the ISO-8601 date-time text to parse; must not be {@code null}
+     * @return the parsed instant in epoch milliseconds
+     * @throws NullPointerException   if {@code value} is {@code null}
+     * @throws DateTimeParseException if the text cannot be parsed
+     * @throws ArithmeticException    if the instant does not fit in a {@code long} of milliseconds
+     */
+    public static long parseIsoToEpochMillis(CharSequence value) {
         if (value == null) {
             throw new NullPointerException("value must not be null");
         }
-        return Instant.parse(value);
+        return IsoParser.parseToEpochMillis(value);
+    }
+
+    /**
+     * Parses UTF-8 encoded ISO-8601 text from a byte range into an {@link Instant}.
+     *
+     * @param src    the array holding the text; must not be {@code null}
+     * @param offset the index of the first byte of the text
+     * @param length the number of bytes of the text
+     * @return the parsed {@link Instant}
+     * @throws NullPointerException      if {@code src} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is outside {@code src}
+     * @throws DateTimeParseException    if the text cannot be parsed
+     */
+    public static Instant parseIsoUtf8(byte[] src, int offset, int length) {
+        if (src == null) {
+            throw new NullPointerException("src must not be null");
+        }
+        return IsoParser.parse(src, offset, length);
+    }
+
+    /**
+     * Parses UTF-8 encoded ISO-8601 text from a byte range into milliseconds since the epoch.
+     *
+     * @param src    the array holding the text; must not be {@code null}
+     * @param offset the index of the first byte of the text
+     * @param length the number of bytes of the text
+     * @return the parsed instant in epoch milliseconds
+     * @throws NullPointerException      if {@code src} is {@code null}
+     * @throws IndexOutOfBoundsException if the range is outside {@code src}
+     * @throws DateTimeParseException    if the text cannot be parsed
+     * @throws ArithmeticException       if the instant does not fit in a {@code long} of milliseconds
+     */
+    public static long parseIsoUtf8ToEpochMillis(byte[] src, int offset, int length) {
+        if (src == null) {
+            throw new NullPointerException("src must not be null");
+        }
+        return IsoParser.parseToEpochMillis(src, offset, length);
     }
 
     /**
      * Checks whether the given {@link Instant} is in the past (i.e., before the current time).
+     * The current time is read from the library clock, see {@link #clock()}.
      *
      * @param instant the instant to check; must not be {@code null}
-     * @return {@code true} if the instant is before {@link Instant#now()}, {@code false} otherwise
+     * @return {@code true} if the instant is before the current time, {@code false} otherwise
      * @throws NullPointerException if {@code instant} is {@code null}
      */
     public static boolean isExpired(Instant instant) {
+        return isExpired(instant, clock());
+    }
+
+    /**
+     * Checks whether the given {@link Instant} is before the current time of {@code clock}.
+     *
+     * @param instant the instant to check; must not be {@code null}
+     * @param clock   the clock providing the current time; must not be {@code null}
+     * @return {@code true} if the instant is before {@code clock.instant()}, {@code false} otherwise
+     * @throws NullPointerException if {@code instant} or {@code clock} is {@code null}
+     */
+    public static boolean isExpired(Instant instant, Clock clock) {
         if (instant == null) {
             throw new NullPointerException("instant must not be null");
         }
-        return instant.isBefore(Instant.now());
+        if (clock == null) {
+            throw new NullPointerException("clock must not be null");
+        }
+        return instant.isBefore(clock.instant());
+    }
+
+    /**
+     * Checks whether {@code epochMillis} is before {@code nowMillis}: the primitive, allocation-free
+     * form of {@link #isExpired(Instant, Clock)} for deadlines kept as epoch milliseconds.
+     *
+     * @param epochMillis the deadline in epoch milliseconds
+     * @param nowMillis   the current time in epoch milliseconds, e.g. {@code clock().millis()}
+     * @return {@code true} if the deadline is before the current time, {@code false} otherwise
+     */
+    public static boolean isExpired(long epochMillis, long nowMillis) {
+        return epochMillis < nowMillis;
+    }
+
+    /**
+     * Returns the library-wide clock used by {@link #isExpired(Instant)} and the
+     * {@code ApiResponse} factory methods.
+     * <p>
+     * Unless replaced through {@link #setClock(Clock)}, this is a shared UTC {@link TickingClock}
+     * refreshed every millisecond (see {@link #CLOCK_TICK_PROPERTY}), started on first use.
+     * </p>
+     *
+     * @return the library clock
+     */
+    public static Clock clock() {
+        Clock override = clockOverride;
+        return override != null ? override : DefaultClock.INSTANCE;
+    }
+
+    /**
+     * Replaces the library-wide clock, for example with a fixed clock in tests.
+     *
+     * @param clock the clock to use, or {@code null} to restore the default clock
+     */
+    public static void setClock(Clock clock) {
+        clockOverride = clock;
+    }
+
+    // Initialized on first use, so the ticking thread only starts when the clock is needed
+    private static final class DefaultClock {
+        private static final Clock INSTANCE = create(Long.getLong(CLOCK_TICK_PROPERTY, 1L));
+
+        private static Clock create(long tickMillis) {
+            return tickMillis <= 0 ? Clock.systemUTC() : TickingClock.start(Duration.ofMillis(tickMillis));
+        }
     }
 }
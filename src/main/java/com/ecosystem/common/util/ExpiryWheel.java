@@ -0,0 +1,320 @@
+package com.ecosystem.common.util;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel that indexes items by an expiry deadline in epoch milliseconds.
+ * <p>
+ * Instead of scanning every session or token and calling {@link DateUtils#isExpired(java.time.Instant)}
+ * on each, items are registered once with {@link #schedule(Object, long)} and handed back by
+ * {@link #advance(long, Consumer)} when their deadline passes, in time proportional to the
+ * number of expired items plus the number of non-empty slots crossed. An item expires when its
+ * deadline is before the current time, as {@link DateUtils#isExpired(long, long)}.
+ * </p>
+ * <p>
+ * The wheel has six levels of 64 slots; a slot of level {@code n} spans {@code 64^n} ticks, so
+ * with a one millisecond tick deadlines up to about two years ahead are placed directly, and
+ * later ones are re-placed as time moves on. Scheduling and cancelling are lock-free and may be
+ * called from any thread; {@code advance} is serialized and is typically driven by a single
+ * sweeper thread.
+ * </p>
+ *
+ * @param <T> the type of the registered items
+ */
+public final class ExpiryWheel<T> {
+
+    private static final int LEVELS = 6;
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final long SPAN = 1L << (LEVELS * SLOT_BITS);
+
+    private final long tickMillis;
+    private final Queue<Handle<T>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final Handle<T>[][] slots = newSlots();
+    private final long[] occupied = new long[LEVELS];
+    private Handle<T> due;
+    private long currentTick;
+
+    /**
+     * Creates an empty wheel.
+     *
+     * @param tick        the slot resolution; must be at least one millisecond
+     * @param startMillis the current time in epoch milliseconds
+     * @throws NullPointerException     if {@code tick} is {@code null}
+     * @throws IllegalArgumentException if {@code tick} is shorter than one millisecond
+     */
+    public ExpiryWheel(Duration tick, long startMillis) {
+        if (tick == null) {
+            throw new NullPointerException("tick must not be null");
+        }
+        if (tick.toMillis() < 1) {
+            throw new IllegalArgumentException("tick must be at least one millisecond");
+        }
+        this.tickMillis = tick.toMillis();
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Registers {@code item} to expire once the time passes {@code deadlineMillis}.
+     *
+     * @param item           the item to register; must not be {@code null}
+     * @param deadlineMillis the deadline in epoch milliseconds
+     * @return a handle that can cancel the registration
+     * @throws NullPointerException if {@code item} is {@code null}
+     */
+    public Handle<T> schedule(T item, long deadlineMillis) {
+        if (item == null) {
+            throw new NullPointerException("item must not be null");
+        }
+        Handle<T> handle = new Handle<>(this, item, deadlineMillis);
+        size.incrementAndGet();
+        pending.add(handle);
+        return handle;
+    }
+
+    /**
+     * Returns the number of registered items that have neither expired nor been cancelled.
+     *
+     * @return the live item count
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and removes the expired items.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the expired items, in no particular order
+     */
+    public List<T> advance(long nowMillis) {
+        List<T> expired = new ArrayList<>();
+        advance(nowMillis, expired::add);
+        return expired;
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis}, passing each expired item to {@code onExpired}.
+     * Times earlier than a previous call do not move the wheel back.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @param onExpired receives each expired item exactly once
+     * @return the number of expired items
+     * @throws NullPointerException if {@code onExpired} is {@code null}
+     */
+    public synchronized int advance(long nowMillis, Consumer<? super T> onExpired) {
+        if (onExpired == null) {
+            throw new NullPointerException("onExpired must not be null");
+        }
+        for (Handle<T> handle = pending.poll(); handle != null; handle = pending.poll()) {
+            place(handle);
+        }
+        Handle<T> carried = due;
+        due = null;
+        int count = expire(carried, nowMillis, onExpired);
+        long nowTick = Math.floorDiv(nowMillis, tickMillis);
+        while (currentTick <= nowTick) {
+            int slot = (int) (currentTick & (SLOTS - 1));
+            if ((occupied[0] & (1L << slot)) != 0) {
+                count += expire(take(0, slot), nowMillis, onExpired);
+            }
+            step(nowTick);
+        }
+        return count;
+    }
+
+    // Moves to the next tick at which a slot expires or cascades, without visiting empty windows
+    private void step(long nowTick) {
+        if (isEmpty()) {
+            currentTick = nowTick + 1;
+            return;
+        }
+        currentTick = Math.min(nextEventTick(), nowTick + 1);
+        if ((currentTick & (SLOTS - 1)) == 0) {
+            cascade();
+        }
+    }
+
+    // The next non-empty level 0 slot of this window; else the end of the window if level 0 still
+    // holds ticks of the next one; else the start of the next non-empty slot of the lowest
+    // occupied level, or the end of that level's window if its slots all lie in the next one
+    private long nextEventTick() {
+        int slot = (int) (currentTick & (SLOTS - 1));
+        long ahead = slot == SLOTS - 1 ? 0 : occupied[0] >>> (slot + 1);
+        if (ahead != 0) {
+            return currentTick + 1 + Long.numberOfTrailingZeros(ahead);
+        }
+        if (occupied[0] != 0) {
+            return currentTick - slot + SLOTS;
+        }
+        int level = 1;
+        while (occupied[level] == 0) {
+            level++;
+        }
+        int shift = level * SLOT_BITS;
+        int digit = (int) ((currentTick >>> shift) & (SLOTS - 1));
+        long window = currentTick & -(1L << (shift + SLOT_BITS));
+        long later = digit == SLOTS - 1 ? 0 : occupied[level] >>> (digit + 1);
+        return later != 0
+                ? window + ((long) (digit + 1 + Long.numberOfTrailingZeros(later)) << shift)
+                : window + (1L << (shift + SLOT_BITS));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Handle<T>[][] newSlots() {
+        return new Handle[LEVELS][SLOTS];
+    }
+
+    private boolean isEmpty() {
+        for (long bits : occupied) {
+            if (bits != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Re-places the higher-level slots starting at the current tick, from the highest level down
+    private void cascade() {
+        int levels = 1;
+        while (levels < LEVELS - 1 && (currentTick & ((1L << ((levels + 1) * SLOT_BITS)) - 1)) == 0) {
+            levels++;
+        }
+        for (int level = levels; level >= 1; level--) {
+            int slot = (int) ((currentTick >>> (level * SLOT_BITS)) & (SLOTS - 1));
+            Handle<T> handle = take(level, slot);
+            while (handle != null) {
+                Handle<T> next = handle.next;
+                place(handle);
+                handle = next;
+            }
+        }
+    }
+
+    private void place(Handle<T> handle) {
+        if (handle.isCancelled()) {
+            return;
+        }
+        long deadlineTick = Math.floorDiv(handle.deadlineMillis, tickMillis);
+        long delta = Math.min(deadlineTick - currentTick, SPAN - 1);
+        if (delta < 0) {
+            handle.next = due;
+            due = handle;
+            return;
+        }
+        int level = delta == 0 ? 0 : (63 - Long.numberOfLeadingZeros(delta)) / SLOT_BITS;
+        long tick = currentTick + delta;
+        int slot = (int) ((tick >>> (level * SLOT_BITS)) & (SLOTS - 1));
+        handle.next = slots[level][slot];
+        slots[level][slot] = handle;
+        occupied[level] |= 1L << slot;
+    }
+
+    private Handle<T> take(int level, int slot) {
+        Handle<T> head = slots[level][slot];
+        slots[level][slot] = null;
+        occupied[level] &= ~(1L << slot);
+        return head;
+    }
+
+    // Expires the due handles of a list; those still running until later in this tick are kept
+    private int expire(Handle<T> handle, long nowMillis, Consumer<? super T> onExpired) {
+        int count = 0;
+        while (handle != null) {
+            Handle<T> next = handle.next;
+            handle.next = null;
+            if (DateUtils.isExpired(handle.deadlineMillis, nowMillis)) {
+                if (handle.transition(Handle.EXPIRED)) {
+                    size.decrementAndGet();
+                    onExpired.accept(handle.item);
+                    count++;
+                }
+            } else if (!handle.isCancelled()) {
+                handle.next = due;
+                due = handle;
+            }
+            handle = next;
+        }
+        return count;
+    }
+
+    /**
+     * A registration in an {@link ExpiryWheel}.
+     *
+     * @param <T> the type of the registered item
+     */
+    public static final class Handle<T> {
+        private static final int SCHEDULED = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Handle> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(Handle.class, "state");
+
+        private final ExpiryWheel<T> wheel;
+        private final T item;
+        private final long deadlineMillis;
+        private volatile int state;
+        private Handle<T> next;
+
+        private Handle(ExpiryWheel<T> wheel, T item, long deadlineMillis) {
+            this.wheel = wheel;
+            this.item = item;
+            this.deadlineMillis = deadlineMillis;
+        }
+
+        /**
+         * Returns the registered item.
+         *
+         * @return the item
+         */
+        public T item() {
+            return item;
+        }
+
+        /**
+         * Returns the deadline in epoch milliseconds.
+         *
+         * @return the deadline
+         */
+        public long deadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * Cancels the registration, so that the item is never reported as expired. The wheel
+         * releases its reference to the item once time reaches the deadline's slot.
+         *
+         * @return {@code true} if this call cancelled it, {@code false} if it had already
+         *         expired or been cancelled
+         */
+        public boolean cancel() {
+            if (!transition(CANCELLED)) {
+                return false;
+            }
+            wheel.size.decrementAndGet();
+            return true;
+        }
+
+        /**
+         * Returns whether the registration was cancelled.
+         *
+         * @return {@code true} if {@link #cancel()} succeeded
+         */
+        public boolean isCancelled() {
+            return state == CANCELLED;
+        }
+
+        private boolean transition(int target) {
+            return STATE.compareAndSet(this, SCHEDULED, target);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.ecosystem.common.util;
+
+/**
+ * Deterministic finite automata backing {@code StringUtils.isValidEmail} and
+ * {@code StringUtils.isValidUsername}.
+ * <p>
+ * Each input character is mapped to a character class by a 128-entry table and the state is
+ * advanced by one lookup in a flat transition table, so a check reads every character at most
+ * once, never backtracks and allocates nothing. Non-ASCII characters, and therefore any byte with
+ * the high bit set, are rejected, which lets the {@code char} and UTF-8 {@code byte} forms share
+ * the same tables. Length limits are enforced with counters alongside the automaton.
+ * </p>
+ */
+final class FormatDfa {
+
+    static final int EMAIL_LOCAL_MAX_LENGTH = 64;
+    static final int EMAIL_LABEL_MAX_LENGTH = 63;
+
+    // Character classes; characters left at 0 are invalid everywhere
+    private static final int ALNUM = 1;
+    private static final int HYPHEN = 2;
+    private static final int SYMBOL = 3;
+    private static final int DOT = 4;
+    private static final int AT = 5;
+    private static final int UNDERSCORE = 6;
+    private static final int CLASSES = 7;
+
+    // Email states: L* in the local part, D* in the domain, where D1* are in its first label
+    private static final byte REJECT = 0;
+    private static final byte L_START = 1;
+    private static final byte L_ATOM = 2;
+    private static final byte L_DOT = 3;
+    private static final byte D_START = 4;
+    private static final byte D1_LABEL = 5;
+    private static final byte D1_HYPHEN = 6;
+    private static final byte D_DOT = 7;
+    private static final byte D_LABEL = 8;
+    private static final byte D_HYPHEN = 9;
+    private static final int EMAIL_STATES = 10;
+
+    // Username states
+    private static final byte U_START = 1;
+    private static final byte U_BODY = 2;
+    private static final int USERNAME_STATES = 3;
+
+    private static final byte[] CLASS = new byte[128];
+    private static final byte[] EMAIL = new byte[EMAIL_STATES * CLASSES];
+    private static final byte[] USERNAME = new byte[USERNAME_STATES * CLASSES];
+
+    static {
+        for (char c = '0'; c <= '9'; c++) {
+            CLASS[c] = ALNUM;
+        }
+        for (char c = 'a'; c <= 'z'; c++) {
+            CLASS[c] = ALNUM;
+            CLASS[c - 'a' + 'A'] = ALNUM;
+        }
+        for (char c : "!#$%&'*+/=?^`{|}~".toCharArray()) {
+            CLASS[c] = SYMBOL;
+        }
+        CLASS['-'] = HYPHEN;
+        CLASS['.'] = DOT;
+        CLASS['@'] = AT;
+        CLASS['_'] = UNDERSCORE;
+        // Local part: dot-separated atoms of RFC 5322 atext
+        for (byte state : new byte[] {L_START, L_ATOM, L_DOT}) {
+            for (int cls : new int[] {ALNUM, HYPHEN, SYMBOL, UNDERSCORE}) {
+                email(state, cls, L_ATOM);
+            }
+        }
+        email(L_ATOM, DOT, L_DOT);
+        email(L_ATOM, AT, D_START);
+        // Domain: dot-separated labels of letters, digits and inner hyphens, at least two labels
+        email(D_START, ALNUM, D1_LABEL);
+        email(D1_LABEL, ALNUM, D1_LABEL);
+        email(D1_LABEL, HYPHEN, D1_HYPHEN);
+        email(D1_LABEL, DOT, D_DOT);
+        email(D1_HYPHEN, ALNUM, D1_LABEL);
+        email(D1_HYPHEN, HYPHEN, D1_HYPHEN);
+        email(D_DOT, ALNUM, D_LABEL);
+        email(D_LABEL, ALNUM, D_LABEL);
+        email(D_LABEL, HYPHEN, D_HYPHEN);
+        email(D_LABEL, DOT, D_DOT);
+        email(D_HYPHEN, ALNUM, D_LABEL);
+        email(D_HYPHEN, HYPHEN, D_HYPHEN);
+        // Username: a letter or digit, then letters, digits, '.', '_' or '-'
+        USERNAME[U_START * CLASSES + ALNUM] = U_BODY;
+        for (int cls : new int[] {ALNUM, HYPHEN, DOT, UNDERSCORE}) {
+            USERNAME[U_BODY * CLASSES + cls] = U_BODY;
+        }
+    }
+
+    private FormatDfa() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    private static void email(byte state, int cls, byte next) {
+        EMAIL[state * CLASSES + cls] = next;
+    }
+
+    /**
+     * Returns whether {@code value[from, to)} is a valid email address.
+     */
+    static boolean isEmail(CharSequence value, int from, int to) {
+        if (to - from > StringUtils.EMAIL_MAX_LENGTH) {
+            return false;
+        }
+        int state = L_START;
+        int segment = 0;
+        for (int i = from; i < to && state != REJECT && segment >= 0; i++) {
+            state = nextEmail(state, value.charAt(i));
+            segment = nextSegment(state, segment);
+        }
+        return state == D_LABEL && segment >= 0 && segment <= EMAIL_LABEL_MAX_LENGTH;
+    }
+
+    /**
+     * Returns whether the UTF-8 bytes {@code src[offset, offset + length)} are a valid email address.
+     */
+    static boolean isEmail(byte[] src, int offset, int length) {
+        if (length > StringUtils.EMAIL_MAX_LENGTH) {
+            return false;
+        }
+        int state = L_START;
+        int segment = 0;
+        for (int i = offset; i < offset + length && state != REJECT && segment >= 0; i++) {
+            state = nextEmail(state, src[i] & 0xFF);
+            segment = nextSegment(state, segment);
+        }
+        return state == D_LABEL && segment >= 0 && segment <= EMAIL_LABEL_MAX_LENGTH;
+    }
+
+    /**
+     * Returns whether {@code value[from, to)} is a valid username.
+     */
+    static boolean isUsername(CharSequence value, int from, int to) {
+        int length = to - from;
+        if (length < StringUtils.USERNAME_MIN_LENGTH || length > StringUtils.USERNAME_MAX_LENGTH) {
+            return false;
+        }
+        int state = U_START;
+        for (int i = from; i < to && state != REJECT; i++) {
+            state = nextUsername(state, value.charAt(i));
+        }
+        return state == U_BODY;
+    }
+
+    /**
+     * Returns whether the UTF-8 bytes {@code src[offset, offset + length)} are a valid username.
+     */
+    static boolean isUsername(byte[] src, int offset, int length) {
+        if (length < StringUtils.USERNAME_MIN_LENGTH || length > StringUtils.USERNAME_MAX_LENGTH) {
+            return false;
+        }
+        int state = U_START;
+        for (int i = offset; i < offset + length && state != REJECT; i++) {
+            state = nextUsername(state, src[i] & 0xFF);
+        }
+        return state == U_BODY;
+    }
+
+    private static int nextEmail(int state, int c) {
+        return c < CLASS.length ? EMAIL[state * CLASSES + CLASS[c]] : REJECT;
+    }
+
+    private static int nextUsername(int state, int c) {
+        return c < CLASS.length ? USERNAME[state * CLASSES + CLASS[c]] : REJECT;
+    }
+
+    // Counts the characters of the local part, then of each domain label, restarting at the
+    // separator that ends one; returns -1 once a local part or label is too long
+    private static int nextSegment(int state, int segment) {
+        if (state == D_START) {
+            return segment <= EMAIL_LOCAL_MAX_LENGTH ? 0 : -1;
+        }
+        if (state == D_DOT) {
+            return segment <= EMAIL_LABEL_MAX_LENGTH ? 0 : -1;
+        }
+        return segment + 1;
+    }
+}
@@ -0,0 +1,225 @@
+package com.ecosystem.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Allocation-free ISO-8601 instant formatter backing the {@code DateUtils.formatIso} overloads.
+ * <p>
+ * Produces exactly the same text as {@link DateTimeFormatter#ISO_INSTANT}. Instants in years
+ * 0000-9999 are rendered arithmetically; the {@code yyyy-MM-ddTHH:mm:ss} prefix of the most
+ * recent second is cached so consecutive calls only render the fraction. Other instants fall
+ * back to {@link DateTimeFormatter#ISO_INSTANT}.
+ * </p>
+ */
+final class IsoFormatter {
+
+    // Longest fast-path rendering: yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ
+    private static final int MAX_LENGTH = 30;
+    private static final int PREFIX_LENGTH = 19;
+    private static final long MIN_FAST_SECOND = -62_167_219_200L;  // 0000-01-01T00:00:00Z
+    private static final long MAX_FAST_SECOND = 253_402_300_799L;  // 9999-12-31T23:59:59Z
+    private static final int SECONDS_PER_DAY = 86_400;
+
+    private static volatile Prefix cached = new Prefix(Long.MIN_VALUE, new byte[PREFIX_LENGTH]);
+
+    private IsoFormatter() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Formats {@code instant} to a new string.
+     */
+    static String format(Instant instant) {
+        if (!isFast(instant.getEpochSecond())) {
+            return DateTimeFormatter.ISO_INSTANT.format(instant);
+        }
+        byte[] buffer = new byte[MAX_LENGTH];
+        int length = format(instant, buffer, 0);
+        return new String(buffer, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Writes {@code instant} as ASCII bytes into {@code dst} at {@code offset}, returning the count.
+     */
+    static int format(Instant instant, byte[] dst, int offset) {
+        if (!isFast(instant.getEpochSecond())) {
+            return copyFallback(instant, dst, offset);
+        }
+        int length = length(instant);
+        checkBounds(dst.length, offset, length);
+        System.arraycopy(prefix(instant.getEpochSecond()), 0, dst, offset, PREFIX_LENGTH);
+        int pos = offset + PREFIX_LENGTH;
+        int nano = instant.getNano();
+        if (nano != 0) {
+            int width = fractionWidth(nano);
+            dst[pos] = '.';
+            int digits = scaleFraction(nano, width);
+            for (int i = pos + width; i > pos; i--) {
+                dst[i] = (byte) ('0' + digits % 10);
+                digits /= 10;
+            }
+            pos += width + 1;
+        }
+        dst[pos] = 'Z';
+        return length;
+    }
+
+    /**
+     * Writes {@code instant} as characters into {@code dst} at {@code offset}, returning the count.
+     */
+    static int format(Instant instant, char[] dst, int offset) {
+        if (!isFast(instant.getEpochSecond())) {
+            return copyFallback(instant, dst, offset);
+        }
+        int length = length(instant);
+        checkBounds(dst.length, offset, length);
+        byte[] prefix = prefix(instant.getEpochSecond());
+        for (int i = 0; i < PREFIX_LENGTH; i++) {
+            dst[offset + i] = (char) prefix[i];
+        }
+        int pos = offset + PREFIX_LENGTH;
+        int nano = instant.getNano();
+        if (nano != 0) {
+            int width = fractionWidth(nano);
+            dst[pos] = '.';
+            int digits = scaleFraction(nano, width);
+            for (int i = pos + width; i > pos; i--) {
+                dst[i] = (char) ('0' + digits % 10);
+                digits /= 10;
+            }
+            pos += width + 1;
+        }
+        dst[pos] = 'Z';
+        return length;
+    }
+
+    /**
+     * Appends {@code instant} to {@code out}.
+     */
+    static void format(Instant instant, StringBuilder out) {
+        if (!isFast(instant.getEpochSecond())) {
+            DateTimeFormatter.ISO_INSTANT.formatTo(instant, out);
+            return;
+        }
+        byte[] prefix = prefix(instant.getEpochSecond());
+        for (byte b : prefix) {
+            out.append((char) b);
+        }
+        int nano = instant.getNano();
+        if (nano != 0) {
+            int width = fractionWidth(nano);
+            int digits = scaleFraction(nano, width);
+            out.append('.');
+            for (int divisor = pow10(width - 1); divisor > 0; divisor /= 10) {
+                out.append((char) ('0' + (digits / divisor) % 10));
+            }
+        }
+        out.append('Z');
+    }
+
+    // Fast-path length: prefix, optional '.' and fraction, trailing 'Z'
+    private static int length(Instant instant) {
+        int nano = instant.getNano();
+        return PREFIX_LENGTH + (nano == 0 ? 0 : fractionWidth(nano) + 1) + 1;
+    }
+
+    private static boolean isFast(long epochSecond) {
+        return epochSecond >= MIN_FAST_SECOND && epochSecond <= MAX_FAST_SECOND;
+    }
+
+    // ISO_INSTANT prints the fraction in groups of three digits, as few as needed
+    private static int fractionWidth(int nano) {
+        if (nano == 0) {
+            return 0;
+        }
+        return nano % 1_000_000 == 0 ? 3 : nano % 1_000 == 0 ? 6 : 9;
+    }
+
+    private static int scaleFraction(int nano, int width) {
+        return width == 3 ? nano / 1_000_000 : width == 6 ? nano / 1_000 : nano;
+    }
+
+    private static int pow10(int exponent) {
+        int result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+
+    private static byte[] prefix(long epochSecond) {
+        Prefix current = cached;
+        if (current.epochSecond == epochSecond) {
+            return current.text;
+        }
+        byte[] text = new byte[PREFIX_LENGTH];
+        renderPrefix(epochSecond, text);
+        // Only move forward, so formatting historical instants does not evict the current second
+        if (epochSecond > current.epochSecond) {
+            cached = new Prefix(epochSecond, text);
+        }
+        return text;
+    }
+
+    // Civil-from-days conversion (H. Hinnant), valid for the proleptic Gregorian calendar
+    private static void renderPrefix(long epochSecond, byte[] text) {
+        long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+        int secondOfDay = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long dayOfEra = z - era * 146_097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1_460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = (int) (dayOfYear - (153 * shiftedMonth + 2) / 5 + 1);
+        int month = (int) (shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9);
+        int year = (int) (yearOfEra + era * 400 + (month <= 2 ? 1 : 0));
+
+        put2(text, 0, year / 100);
+        put2(text, 2, year % 100);
+        text[4] = '-';
+        put2(text, 5, month);
+        text[7] = '-';
+        put2(text, 8, day);
+        text[10] = 'T';
+        put2(text, 11, secondOfDay / 3_600);
+        text[13] = ':';
+        put2(text, 14, secondOfDay / 60 % 60);
+        text[16] = ':';
+        put2(text, 17, secondOfDay % 60);
+    }
+
+    private static void put2(byte[] text, int pos, int value) {
+        text[pos] = (byte) ('0' + value / 10);
+        text[pos + 1] = (byte) ('0' + value % 10);
+    }
+
+    private static int copyFallback(Instant instant, byte[] dst, int offset) {
+        String text = DateTimeFormatter.ISO_INSTANT.format(instant);
+        checkBounds(dst.length, offset, text.length());
+        for (int i = 0; i < text.length(); i++) {
+            dst[offset + i] = (byte) text.charAt(i);
+        }
+        return text.length();
+    }
+
+    private static int copyFallback(Instant instant, char[] dst, int offset) {
+        String text = DateTimeFormatter.ISO_INSTANT.format(instant);
+        checkBounds(dst.length, offset, text.length());
+        text.getChars(0, text.length(), dst, offset);
+        return text.length();
+    }
+
+    private static void checkBounds(int capacity, int offset, int length) {
+        if (offset < 0 || offset > capacity - length) {
+            throw new IndexOutOfBoundsException(
+                    "Need " + length + " slots at offset " + offset + ", capacity is " + capacity);
+        }
+    }
+
+    // Immutable so that it can be published through a volatile field without locking
+    private record Prefix(long epochSecond, byte[] text) {
+    }
+}
@@ -0,0 +1,177 @@
+package com.ecosystem.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Fast-path ISO-8601 instant parser backing the {@code DateUtils.parseIso} overloads.
+ * <p>
+ * Text in the canonical {@code yyyy-MM-ddTHH:mm:ss[.fffffffff]Z} shape is converted to epoch
+ * seconds and nanoseconds arithmetically, without intermediate objects. Anything else (offsets,
+ * lowercase separators, leap seconds, out-of-range fields, ...) is handed to
+ * {@link Instant#parse(CharSequence)}, which either accepts it or reports the error.
+ * </p>
+ */
+final class IsoParser {
+
+    private static final long NOT_FAST = Long.MIN_VALUE;
+    private static final String TEMPLATE = "dddd-dd-ddTdd:dd:dd";
+    private static final int PREFIX_LENGTH = 19;
+    private static final int MAX_LENGTH = 30;
+    private static final int[] NANO_SCALE = {
+        0, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+    };
+
+    private IsoParser() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Parses {@code text} into an {@link Instant}.
+     */
+    static Instant parse(CharSequence text) {
+        long seconds = epochSecond(text);
+        if (seconds == NOT_FAST) {
+            return Instant.parse(text);
+        }
+        return Instant.ofEpochSecond(seconds, nano(text));
+    }
+
+    /**
+     * Parses {@code text} into milliseconds since the epoch.
+     */
+    static long parseToEpochMillis(CharSequence text) {
+        long seconds = epochSecond(text);
+        if (seconds == NOT_FAST) {
+            return Instant.parse(text).toEpochMilli();
+        }
+        return seconds * 1_000 + nano(text) / 1_000_000;
+    }
+
+    /**
+     * Parses the UTF-8 text in {@code src[offset, offset + length)} into an {@link Instant}.
+     */
+    static Instant parse(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        long seconds = epochSecond(src, offset, length);
+        if (seconds == NOT_FAST) {
+            return Instant.parse(new String(src, offset, length, StandardCharsets.UTF_8));
+        }
+        return Instant.ofEpochSecond(seconds, nano(src, offset, length));
+    }
+
+    /**
+     * Parses the UTF-8 text in {@code src[offset, offset + length)} into milliseconds since the epoch.
+     */
+    static long parseToEpochMillis(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        long seconds = epochSecond(src, offset, length);
+        if (seconds == NOT_FAST) {
+            return Instant.parse(new String(src, offset, length, StandardCharsets.UTF_8)).toEpochMilli();
+        }
+        return seconds * 1_000 + nano(src, offset, length) / 1_000_000;
+    }
+
+    // Returns NOT_FAST unless the text has the canonical shape and all fields are in range
+    private static long epochSecond(CharSequence text) {
+        int length = text.length();
+        if (!isFastLength(length) || text.charAt(length - 1) != 'Z') {
+            return NOT_FAST;
+        }
+        for (int i = 0; i < length - 1; i++) {
+            if (!matches(text.charAt(i), i)) {
+                return NOT_FAST;
+            }
+        }
+        return epochSecond(number(text, 0, 4), number(text, 5, 2), number(text, 8, 2),
+                secondOfDay(number(text, 11, 2), number(text, 14, 2), number(text, 17, 2)));
+    }
+
+    private static long epochSecond(byte[] src, int offset, int length) {
+        if (!isFastLength(length) || src[offset + length - 1] != 'Z') {
+            return NOT_FAST;
+        }
+        for (int i = 0; i < length - 1; i++) {
+            if (!matches((char) src[offset + i], i)) {
+                return NOT_FAST;
+            }
+        }
+        return epochSecond(number(src, offset, 4), number(src, offset + 5, 2), number(src, offset + 8, 2),
+                secondOfDay(number(src, offset + 11, 2), number(src, offset + 14, 2),
+                        number(src, offset + 17, 2)));
+    }
+
+    // Seconds only, or a '.' followed by one to nine fraction digits
+    private static boolean isFastLength(int length) {
+        return length == PREFIX_LENGTH + 1 || (length >= PREFIX_LENGTH + 3 && length <= MAX_LENGTH);
+    }
+
+    // Position 19 must be the '.' of a fraction; the fraction is all digits
+    private static boolean matches(char c, int position) {
+        if (position < PREFIX_LENGTH) {
+            char expected = TEMPLATE.charAt(position);
+            return expected == 'd' ? isDigit(c) : c == expected;
+        }
+        return position == PREFIX_LENGTH ? c == '.' : isDigit(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static int number(CharSequence text, int start, int width) {
+        int value = 0;
+        for (int i = start; i < start + width; i++) {
+            value = value * 10 + (text.charAt(i) - '0');
+        }
+        return value;
+    }
+
+    private static int number(byte[] src, int start, int width) {
+        int value = 0;
+        for (int i = start; i < start + width; i++) {
+            value = value * 10 + (src[i] - '0');
+        }
+        return value;
+    }
+
+    private static int nano(CharSequence text) {
+        int digits = text.length() - PREFIX_LENGTH - 2;
+        return digits <= 0 ? 0 : number(text, PREFIX_LENGTH + 1, digits) * NANO_SCALE[digits];
+    }
+
+    private static int nano(byte[] src, int offset, int length) {
+        int digits = length - PREFIX_LENGTH - 2;
+        return digits <= 0 ? 0 : number(src, offset + PREFIX_LENGTH + 1, digits) * NANO_SCALE[digits];
+    }
+
+    private static int secondOfDay(int hour, int minute, int second) {
+        if (hour > 23 || minute > 59 || second > 59) {
+            return -1;
+        }
+        return hour * 3_600 + minute * 60 + second;
+    }
+
+    // Days-from-civil conversion (H. Hinnant), the inverse of IsoFormatter's rendering
+    private static long epochSecond(int year, int month, int day, int secondOfDay) {
+        if (secondOfDay < 0 || month < 1 || month > 12 || day < 1 || day > lengthOfMonth(year, month)) {
+            return NOT_FAST;
+        }
+        int y = month <= 2 ? year - 1 : year;
+        int era = Math.floorDiv(y, 400);
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        long epochDay = era * 146_097L + dayOfEra - 719_468;
+        return epochDay * 86_400 + secondOfDay;
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return switch (month) {
+            case 2 -> (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+            case 4, 6, 9, 11 -> 30;
+            default -> 31;
+        };
+    }
+}
@@ -0,0 +1,160 @@
+package com.ecosystem.common.util;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free pool for deduplicating frequently repeated strings such as e-mail
+ * addresses, names or response messages.
+ * <p>
+ * Unlike {@link String#intern()} the pool is private to its owner, has a fixed memory footprint
+ * and never contends on a global table. It is a direct-mapped cache: each string hashes to one
+ * slot, and a miss replaces whatever the slot held, so the pool keeps the most recently seen
+ * value per slot and evicts the rest. Slots are read and written without locks; a lost race only
+ * costs a duplicate string, never a wrong one, because {@code String} is immutable and safely
+ * published through its final fields.
+ * </p>
+ * <p>
+ * Returned strings are always equal to the input; pooling is purely a footprint optimization.
+ * </p>
+ */
+public final class StringPool {
+
+    /**
+     * Default number of slots.
+     */
+    public static final int DEFAULT_CAPACITY = 4_096;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final String[] slots;
+    private final int mask;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a pool with {@link #DEFAULT_CAPACITY} slots.
+     */
+    public StringPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a pool with at least {@code capacity} slots (rounded up to a power of two).
+     *
+     * @param capacity the minimum number of slots
+     * @throws IllegalArgumentException if {@code capacity} is not positive or exceeds {@code 2^30}
+     */
+    public StringPool(int capacity) {
+        if (capacity < 1 || capacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("capacity must be between 1 and " + MAX_CAPACITY);
+        }
+        int size = Integer.highestOneBit(capacity);
+        this.slots = new String[size == capacity ? size : size << 1];
+        this.mask = slots.length - 1;
+    }
+
+    /**
+     * Returns a pooled string equal to {@code value}, pooling {@code value} itself on a miss.
+     *
+     * @param value the string to deduplicate
+     * @return an equal pooled string, or {@code null} if {@code value} is {@code null}
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int slot = slot(value.hashCode());
+        String pooled = slots[slot];
+        if (value.equals(pooled)) {
+            hits.increment();
+            return pooled;
+        }
+        slots[slot] = value;
+        misses.increment();
+        return value;
+    }
+
+    /**
+     * Returns a pooled string equal to {@code chars[offset, offset + length)}. A new string is
+     * only allocated on a miss, so parsers can pool directly from their character buffers.
+     *
+     * @param chars  the source characters
+     * @param offset the index of the first character
+     * @param length the number of characters
+     * @return an equal pooled string
+     * @throws IndexOutOfBoundsException if the range is outside {@code chars}
+     */
+    public String intern(char[] chars, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, chars.length);
+        int hash = 0;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + chars[i];
+        }
+        int slot = slot(hash);
+        String pooled = slots[slot];
+        if (pooled != null && contentEquals(pooled, chars, offset, length)) {
+            hits.increment();
+            return pooled;
+        }
+        String value = new String(chars, offset, length);
+        slots[slot] = value;
+        misses.increment();
+        return value;
+    }
+
+    /**
+     * Returns the number of slots, i.e. the maximum number of strings retained.
+     *
+     * @return the slot count
+     */
+    public int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * Returns the number of lookups that returned an already pooled string.
+     *
+     * @return the hit count
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups that pooled a new string.
+     *
+     * @return the miss count
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the fraction of lookups that were hits, or {@code 0} before the first lookup.
+     *
+     * @return the hit rate, between {@code 0} and {@code 1}
+     */
+    public double hitRate() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0 : (double) hitCount / total;
+    }
+
+    // Same hash as String.hashCode(), spread so that short strings use the upper bits too
+    private int slot(int hash) {
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static boolean contentEquals(String pooled, char[] chars, int offset, int length) {
+        if (pooled.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (pooled.charAt(i) != chars[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -1,5 +1,10 @@
 package com.ecosystem.common.util;
 
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
 /**
  * Utility class for common string operations.
  * <p>
@@ -8,6 +13,13 @@ package com.ecosystem.common.util;
  */
 public final class StringUtils {
 
+    /** Minimum length of a username accepted by {@link #isValidUsername(CharSequence)}. */
+    public static final int USERNAME_MIN_LENGTH = 3;
+    /** Maximum length of a username accepted by {@link #isValidUsername(CharSequence)}. */
+    public static final int USERNAME_MAX_LENGTH = 32;
+    /** Maximum length of an email address, as limited by SMTP. */
+    public static final int EMAIL_MAX_LENGTH = 254;
+
     private StringUtils() {
         throw new UnsupportedOperationException("Utility class");
     }
@@ -22,6 +34,172 @@ public final class StringUtils {
         return value == null || value.isBlank();
     }
 
+    /**
+     * Checks whether any of the given strings is {@code null} or blank, stopping at the first one.
+     *
+     * @param values the strings to check
+     * @return {@code true} if at least one string is null or blank, {@code false} otherwise
+     *         (including when {@code values} is empty)
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public static boolean isAnyBlank(String... values) {
+        return indexOfBlank(values) >= 0;
+    }
+
+    /**
+     * Checks whether any of the given strings is {@code null} or blank, stopping at the first one.
+     *
+     * @param values the strings to check
+     * @return {@code true} if at least one string is null or blank, {@code false} otherwise
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public static boolean isAnyBlank(List<String> values) {
+        return indexOfBlank(values) >= 0;
+    }
+
+    /**
+     * Returns the index of the first {@code null} or blank string, so that callers can report
+     * which field failed without a second pass.
+     *
+     * @param values the strings to check
+     * @return the index of the first blank string, or {@code -1} if none is blank
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public static int indexOfBlank(String... values) {
+        if (values == null) {
+            throw new NullPointerException("values must not be null");
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (isBlank(values[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first {@code null} or blank string in {@code values}.
+     *
+     * @param values the strings to check
+     * @return the index of the first blank string, or {@code -1} if none is blank
+     * @throws NullPointerException if {@code values} is {@code null}
+     */
+    public static int indexOfBlank(List<String> values) {
+        if (values == null) {
+            throw new NullPointerException("values must not be null");
+        }
+        if (values instanceof RandomAccess) {
+            for (int i = 0; i < values.size(); i++) {
+                if (isBlank(values.get(i))) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        int index = 0;
+        for (String value : values) {
+            if (isBlank(value)) {
+                return index;
+            }
+            index++;
+        }
+        return -1;
+    }
+
+    /**
+     * Checks whether the UTF-8 bytes {@code src[offset, offset + length)} decode to an empty or
+     * whitespace-only string, with the same result as {@code new String(..., UTF_8).isBlank()}.
+     * ASCII input is checked eight bytes at a time without decoding.
+     *
+     * @param src    the UTF-8 encoded bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes are blank, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the range is outside {@code src}
+     */
+    public static boolean isBlankUtf8(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        return Utf8Blank.isBlank(src, offset, length);
+    }
+
+    /**
+     * Checks whether the remaining UTF-8 bytes of {@code buffer} are blank, as
+     * {@link #isBlankUtf8(byte[], int, int)}. The buffer's position is not changed.
+     *
+     * @param buffer the UTF-8 encoded bytes, heap or direct
+     * @return {@code true} if the remaining bytes are blank, {@code false} otherwise
+     * @throws NullPointerException if {@code buffer} is {@code null}
+     */
+    public static boolean isBlankUtf8(ByteBuffer buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("buffer must not be null");
+        }
+        return Utf8Blank.isBlank(buffer);
+    }
+
+    /**
+     * Checks whether {@code value} is an email address of the form {@code local@domain}:
+     * <ul>
+     *   <li>the local part is at most 64 characters of dot-separated, non-empty runs of letters,
+     *       digits and {@code !#$%&'*+/=?^_`{|}~-}</li>
+     *   <li>the domain has at least two dot-separated labels of at most 63 letters, digits and
+     *       hyphens, neither starting nor ending with a hyphen</li>
+     *   <li>the whole address is at most {@value #EMAIL_MAX_LENGTH} characters and ASCII only</li>
+     * </ul>
+     * The check is a single pass of a finite automaton: it runs in linear time on any input,
+     * unlike a backtracking regular expression, and does not allocate.
+     *
+     * @param value the text to check
+     * @return {@code true} if the text is a valid email address, {@code false} otherwise
+     *         (including when it is {@code null})
+     */
+    public static boolean isValidEmail(CharSequence value) {
+        return value != null && FormatDfa.isEmail(value, 0, value.length());
+    }
+
+    /**
+     * Checks whether the UTF-8 bytes {@code src[offset, offset + length)} are an email address,
+     * as {@link #isValidEmail(CharSequence)}, without decoding them.
+     *
+     * @param src    the UTF-8 encoded bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes are a valid email address, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the range is outside {@code src}
+     */
+    public static boolean isValidEmail(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        return FormatDfa.isEmail(src, offset, length);
+    }
+
+    /**
+     * Checks whether {@code value} is a username: {@value #USERNAME_MIN_LENGTH} to
+     * {@value #USERNAME_MAX_LENGTH} ASCII letters, digits, {@code '.'}, {@code '_'} or {@code '-'},
+     * starting with a letter or digit. Like {@link #isValidEmail(CharSequence)}, this is a single allocation-free pass.
+     *
+     * @param value the text to check
+     * @return {@code true} if the text is a valid username, {@code false} otherwise
+     *         (including when it is {@code null})
+     */
+    public static boolean isValidUsername(CharSequence value) {
+        return value != null && FormatDfa.isUsername(value, 0, value.length());
+    }
+
+    /**
+     * Checks whether the UTF-8 bytes {@code src[offset, offset + length)} are a username, as
+     * {@link #isValidUsername(CharSequence)}, without decoding them.
+     *
+     * @param src    the UTF-8 encoded bytes
+     * @param offset the index of the first byte
+     * @param length the number of bytes
+     * @return {@code true} if the bytes are a valid username, {@code false} otherwise
+     * @throws IndexOutOfBoundsException if the range is outside {@code src}
+     */
+    public static boolean isValidUsername(byte[] src, int offset, int length) {
+        Objects.checkFromIndexSize(offset, length, src.length);
+        return FormatDfa.isUsername(src, offset, length);
+    }
+
     /**
      * Truncates the given string to at most {@code maxLength} characters.
      * If the string is shorter than or equal to {@code maxLength}, it is returned unchanged.
@@ -44,10 +222,99 @@ public final class StringUtils {
         return value.substring(0, maxLength);
     }
 
+    /**
+     * Appends the first {@code maxLength} characters of {@code value} to {@code out}, without
+     * creating an intermediate substring. Appends nothing if {@code value} is {@code null}.
+     *
+     * @param value     the string to truncate
+     * @param maxLength the maximum number of characters to append
+     * @param out       the builder to append to
+     * @return {@code out}
+     * @throws IllegalArgumentException if {@code maxLength} is negative
+     * @throws NullPointerException     if {@code out} is {@code null}
+     */
+    public static StringBuilder truncate(String value, int maxLength, StringBuilder out) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative");
+        }
+        if (out == null) {
+            throw new NullPointerException("out must not be null");
+        }
+        if (value != null) {
+            out.append(value, 0, Math.min(value.length(), maxLength));
+        }
+        return out;
+    }
+
+    /**
+     * Truncates the given string to at most {@code maxLength} characters without splitting a
+     * surrogate pair: if the cut would fall between the two halves of a supplementary character,
+     * the whole character is dropped and one fewer character is kept.
+     *
+     * @param value     the string to truncate
+     * @param maxLength the maximum number of characters to keep
+     * @return the truncated string, or the original string if it fits within {@code maxLength}
+     * @throws IllegalArgumentException if {@code maxLength} is negative
+     */
+    public static String truncateAtCodePoint(String value, int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative");
+        }
+        if (value == null || value.length() <= maxLength) {
+            return value;
+        }
+        return value.substring(0, Utf8Truncation.codePointBoundary(value, maxLength));
+    }
+
+    /**
+     * Truncates the given string to the longest prefix whose UTF-8 encoding is at most
+     * {@code maxBytes} bytes, never splitting a surrogate pair. The cut point is computed in one
+     * pass without encoding the string. Unpaired surrogates count as one byte, as
+     * {@code String.getBytes(UTF_8)} encodes them as {@code '?'}.
+     *
+     * @param value    the string to truncate
+     * @param maxBytes the maximum UTF-8 encoded length
+     * @return the truncated string, or the original string if its encoding fits
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     */
+    public static String truncateToUtf8Bytes(String value, int maxBytes) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must not be negative");
+        }
+        if (value == null) {
+            return null;
+        }
+        int length = Utf8Truncation.prefixLength(value, maxBytes);
+        return length == value.length() ? value : value.substring(0, length);
+    }
+
+    /**
+     * Writes the UTF-8 encoding of the longest prefix of {@code value} that fits in both
+     * {@code maxBytes} and the remaining space of {@code dst}, as
+     * {@link #truncateToUtf8Bytes(String, int)}, advancing the buffer's position.
+     * No intermediate string or byte array is created. Writes nothing if {@code value} is {@code null}.
+     *
+     * @param value    the string to encode
+     * @param maxBytes the maximum number of bytes to write
+     * @param dst      the buffer to write to
+     * @return the number of bytes written
+     * @throws IllegalArgumentException if {@code maxBytes} is negative
+     * @throws NullPointerException     if {@code dst} is {@code null}
+     */
+    public static int truncateToUtf8Bytes(String value, int maxBytes, ByteBuffer dst) {
+        if (maxBytes < 0) {
+            throw new IllegalArgumentException("maxBytes must not be negative");
+        }
+        if (dst == null) {
+            throw new NullPointerException("dst must not be null");
+        }
+        return value == null ? 0 : Utf8Truncation.write(value, maxBytes, dst);
+    }
+
     /**
      * Capitalizes the first character of the given string and lowercases the rest.
      * Returns {@code null} if the input is {@code null}, and an empty string if the input
-     * is empty.
+     * is empty. The input instance itself is returned when it is already capitalized.
      *
      * @param value the string to capitalize
      * @return the capitalized string, or {@code null} if the input is {@code null}
@@ -59,6 +326,25 @@ public final class StringUtils {
         if (value.isEmpty()) {
             return value;
         }
-        return Character.toUpperCase(value.charAt(0)) + value.substring(1).toLowerCase();
+        return Capitalizer.capitalize(value);
+    }
+
+    /**
+     * Appends the capitalized form of {@code value} to {@code out}, as {@link #capitalize(String)}
+     * but without creating the result string. Appends nothing if {@code value} is {@code null}.
+     *
+     * @param value the string to capitalize
+     * @param out   the builder to append to
+     * @return {@code out}
+     * @throws NullPointerException if {@code out} is {@code null}
+     */
+    public static StringBuilder capitalize(String value, StringBuilder out) {
+        if (out == null) {
+            throw new NullPointerException("out must not be null");
+        }
+        if (value != null && !value.isEmpty()) {
+            Capitalizer.capitalize(value, out);
+        }
+        return out;
     }
 }
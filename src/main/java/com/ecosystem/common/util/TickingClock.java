@@ -0,0 +1,118 @@
+package com.ecosystem.common.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A coarse {@link Clock} whose time is refreshed by a single background thread.
+ * <p>
+ * Reading the clock is a volatile read of a cached value: {@link #millis()} and {@link #instant()}
+ * neither call into the operating system nor allocate. The trade-off is resolution: the time
+ * lags the system clock by at most the configured granularity.
+ * </p>
+ * <p>
+ * Clocks derived through {@link #withZone(ZoneId)} share the same background thread;
+ * {@link #close()} stops it for all of them, freezing their time.
+ * </p>
+ */
+public final class TickingClock extends Clock implements AutoCloseable {
+
+    private final Ticker ticker;
+    private final ZoneId zone;
+
+    private TickingClock(Ticker ticker, ZoneId zone) {
+        this.ticker = ticker;
+        this.zone = zone;
+    }
+
+    /**
+     * Starts a new UTC {@code TickingClock} refreshed every {@code granularity}.
+     *
+     * @param granularity the refresh interval; must be at least one millisecond
+     * @return a running clock
+     * @throws NullPointerException     if {@code granularity} is {@code null}
+     * @throws IllegalArgumentException if {@code granularity} is shorter than one millisecond
+     */
+    public static TickingClock start(Duration granularity) {
+        if (granularity == null) {
+            throw new NullPointerException("granularity must not be null");
+        }
+        if (granularity.toMillis() < 1) {
+            throw new IllegalArgumentException("granularity must be at least one millisecond");
+        }
+        return new TickingClock(new Ticker(granularity.toMillis()), ZoneOffset.UTC);
+    }
+
+    /**
+     * Returns the granularity at which this clock is refreshed.
+     *
+     * @return the refresh interval
+     */
+    public Duration granularity() {
+        return Duration.ofMillis(ticker.granularityMillis);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        if (zone == null) {
+            throw new NullPointerException("zone must not be null");
+        }
+        return zone.equals(this.zone) ? this : new TickingClock(ticker, zone);
+    }
+
+    @Override
+    public long millis() {
+        return ticker.current.millis();
+    }
+
+    @Override
+    public Instant instant() {
+        return ticker.current.instant();
+    }
+
+    /**
+     * Stops the background thread. The clock keeps returning the last observed time.
+     */
+    @Override
+    public void close() {
+        ticker.executor.shutdownNow();
+    }
+
+    // Shared state of a clock and its zone-shifted views
+    private static final class Ticker {
+        private final long granularityMillis;
+        private final ScheduledExecutorService executor;
+        private volatile Tick current;
+
+        Ticker(long granularityMillis) {
+            this.granularityMillis = granularityMillis;
+            tick();
+            this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "ticking-clock");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.scheduleAtFixedRate(this::tick, granularityMillis, granularityMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private void tick() {
+            Instant now = Instant.now();
+            current = new Tick(now, now.toEpochMilli());
+        }
+    }
+
+    // One reading, published through a single field so that millis() and instant() always agree
+    private record Tick(Instant instant, long millis) {
+    }
+}
@@ -0,0 +1,113 @@
+package com.ecosystem.common.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Blank checks over raw UTF-8 bytes backing the {@code StringUtils.isBlankUtf8} overloads.
+ * <p>
+ * ASCII input is scanned eight bytes at a time: a word of eight spaces is skipped with one
+ * comparison, and a word with any high bit set hands the rest of the input to the JDK decoder.
+ * Results match {@code new String(bytes, UTF_8).isBlank()} exactly.
+ * </p>
+ */
+final class Utf8Blank {
+
+    private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long SPACES = 0x2020_2020_2020_2020L;
+    private static final long HIGH_BITS = 0x8080_8080_8080_8080L;
+
+    private Utf8Blank() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns whether {@code src[offset, offset + length)} decodes to a blank string.
+     */
+    static boolean isBlank(byte[] src, int offset, int length) {
+        int end = offset + length;
+        int i = offset;
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            long word = (long) LONGS.get(src, i);
+            if (word == SPACES) {
+                continue;
+            }
+            if ((word & HIGH_BITS) != 0) {
+                return decodesBlank(src, i, end - i);
+            }
+            if (!isAsciiWhitespace(src, i, i + Long.BYTES)) {
+                return false;
+            }
+        }
+        for (; i < end; i++) {
+            if (src[i] < 0) {
+                return decodesBlank(src, i, end - i);
+            }
+            if (!isAsciiWhitespace(src[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns whether the remaining bytes of {@code buffer} decode to a blank string.
+     */
+    static boolean isBlank(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            return isBlank(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        int end = buffer.limit();
+        int i = buffer.position();
+        // Byte order does not matter: both tests are symmetric over the bytes of the word
+        for (; i <= end - Long.BYTES; i += Long.BYTES) {
+            long word = buffer.getLong(i);
+            if (word == SPACES) {
+                continue;
+            }
+            if ((word & HIGH_BITS) != 0) {
+                return decodesBlank(buffer, i, end);
+            }
+            if (!isAsciiWhitespace(buffer, i, i + Long.BYTES)) {
+                return false;
+            }
+        }
+        return decodesBlank(buffer, i, end);
+    }
+
+    // Character.isWhitespace for the ASCII range: \t \n \u000B \f \r, \u001C-\u001F and space
+    private static boolean isAsciiWhitespace(byte b) {
+        return b == ' ' || (b >= 0x09 && b <= 0x0D) || (b >= 0x1C && b <= 0x1F);
+    }
+
+    private static boolean isAsciiWhitespace(byte[] src, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isAsciiWhitespace(src[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isAsciiWhitespace(ByteBuffer buffer, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (!isAsciiWhitespace(buffer.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean decodesBlank(byte[] src, int offset, int length) {
+        return new String(src, offset, length, StandardCharsets.UTF_8).isBlank();
+    }
+
+    private static boolean decodesBlank(ByteBuffer buffer, int from, int to) {
+        byte[] tail = new byte[to - from];
+        buffer.get(from, tail);
+        return isBlank(tail, 0, tail.length);
+    }
+}
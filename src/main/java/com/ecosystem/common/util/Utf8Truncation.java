@@ -0,0 +1,111 @@
+package com.ecosystem.common.util;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Code-point-aware truncation backing {@code StringUtils.truncateToUtf8Bytes} and
+ * {@code StringUtils.truncateAtCodePoint}.
+ * <p>
+ * The cut point is found in a single pass over the characters, computing each UTF-8 width
+ * arithmetically instead of encoding the input. Surrogate pairs are kept or dropped as a whole;
+ * unpaired surrogates count as the one byte ({@code '?'}) that {@code String.getBytes(UTF_8)}
+ * replaces them with.
+ * </p>
+ */
+final class Utf8Truncation {
+
+    // Every char encodes to at most three bytes (a surrogate pair is four bytes for two chars)
+    private static final int MAX_BYTES_PER_CHAR = 3;
+
+    private Utf8Truncation() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Returns the number of leading chars of {@code value} whose UTF-8 encoding fits in {@code maxBytes}.
+     */
+    static int prefixLength(String value, int maxBytes) {
+        int length = value.length();
+        if ((long) length * MAX_BYTES_PER_CHAR <= maxBytes) {
+            return length;
+        }
+        int bytes = 0;
+        int i = 0;
+        while (i < length) {
+            int width = width(value, i);
+            if (bytes + width > maxBytes) {
+                break;
+            }
+            bytes += width;
+            i += width == 4 ? 2 : 1;
+        }
+        return i;
+    }
+
+    /**
+     * Returns {@code maxLength}, reduced by one if cutting there would split a surrogate pair.
+     */
+    static int codePointBoundary(String value, int maxLength) {
+        if (maxLength >= value.length() || maxLength == 0) {
+            return Math.min(maxLength, value.length());
+        }
+        boolean splitsPair = Character.isHighSurrogate(value.charAt(maxLength - 1))
+                && Character.isLowSurrogate(value.charAt(maxLength));
+        return splitsPair ? maxLength - 1 : maxLength;
+    }
+
+    /**
+     * Encodes the longest prefix of {@code value} fitting in {@code maxBytes} into {@code dst},
+     * returning the number of bytes written.
+     */
+    static int write(String value, int maxBytes, ByteBuffer dst) {
+        int budget = Math.min(maxBytes, dst.remaining());
+        int written = 0;
+        int i = 0;
+        while (i < value.length()) {
+            int width = width(value, i);
+            if (written + width > budget) {
+                break;
+            }
+            put(value, i, width, dst);
+            written += width;
+            i += width == 4 ? 2 : 1;
+        }
+        return written;
+    }
+
+    // UTF-8 width of the char at i, or 4 for a surrogate pair starting at i
+    private static int width(String value, int i) {
+        char c = value.charAt(i);
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800) {
+            return 2;
+        }
+        if (Character.isSurrogate(c)) {
+            return isPairAt(value, i) ? 4 : 1;
+        }
+        return 3;
+    }
+
+    private static boolean isPairAt(String value, int i) {
+        return Character.isHighSurrogate(value.charAt(i)) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1));
+    }
+
+    private static void put(String value, int i, int width, ByteBuffer dst) {
+        char c = value.charAt(i);
+        switch (width) {
+            case 1 -> dst.put(Character.isSurrogate(c) ? (byte) '?' : (byte) c);
+            case 2 -> dst.put((byte) (0xC0 | c >> 6)).put((byte) (0x80 | c & 0x3F));
+            case 3 -> dst.put((byte) (0xE0 | c >> 12)).put((byte) (0x80 | c >> 6 & 0x3F))
+                    .put((byte) (0x80 | c & 0x3F));
+            default -> {
+                int codePoint = Character.toCodePoint(c, value.charAt(i + 1));
+                dst.put((byte) (0xF0 | codePoint >> 18)).put((byte) (0x80 | codePoint >> 12 & 0x3F))
+                        .put((byte) (0x80 | codePoint >> 6 & 0x3F)).put((byte) (0x80 | codePoint & 0x3F));
+            }
+        }
+    }
+}
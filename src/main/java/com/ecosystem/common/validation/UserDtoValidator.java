@@ -0,0 +1,192 @@
+package com.ecosystem.common.validation;
+
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.exception.FieldError;
+import com.ecosystem.common.exception.ValidationException;
+import com.ecosystem.common.util.StringUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Validates {@link UserDto}s with constraints compiled into plain code, without reflection or a
+ * Bean Validation provider.
+ * <p>
+ * Every violation of a DTO, or of a whole batch, is reported in a single
+ * {@link ValidationException} whose {@link ValidationException#getFieldErrors() field errors}
+ * name the invalid fields; in a batch, paths are prefixed with the element index, as in
+ * {@code "[3].email"}. Validating a valid DTO or batch allocates nothing: the errors are only
+ * collected, in a second pass, once a violation has been found.
+ * </p>
+ * <ul>
+ *   <li>{@code id}: positive, if present</li>
+ *   <li>{@code username}: required, {@value StringUtils#USERNAME_MIN_LENGTH} to
+ *       {@value StringUtils#USERNAME_MAX_LENGTH} ASCII letters, digits, {@code '.'}, {@code '_'} or
+ *       {@code '-'}, starting with a letter or digit</li>
+ *   <li>{@code email}: required, at most {@value StringUtils#EMAIL_MAX_LENGTH} characters, and
+ *       accepted by {@link StringUtils#isValidEmail(CharSequence)}</li>
+ *   <li>{@code fullName}: required, not blank, at most {@value #FULL_NAME_MAX_LENGTH} characters</li>
+ *   <li>{@code updatedAt}: not before {@code createdAt}, if both are present</li>
+ * </ul>
+ */
+public final class UserDtoValidator {
+
+    /** Maximum length of a full name. */
+    public static final int FULL_NAME_MAX_LENGTH = 100;
+
+    private static final Violation REQUIRED = new Violation("REQUIRED", "must not be null");
+    private static final Violation BLANK = new Violation("REQUIRED", "must not be blank");
+    private static final Violation POSITIVE = new Violation("POSITIVE", "must be positive");
+    private static final Violation USERNAME_SIZE = new Violation("SIZE",
+            "length must be between " + StringUtils.USERNAME_MIN_LENGTH + " and "
+                    + StringUtils.USERNAME_MAX_LENGTH);
+    private static final Violation USERNAME_PATTERN = new Violation("PATTERN",
+            "must contain only letters, digits, '.', '_' or '-' and start with a letter or digit");
+    private static final Violation EMAIL_SIZE = new Violation("SIZE",
+            "length must be at most " + StringUtils.EMAIL_MAX_LENGTH);
+    private static final Violation EMAIL_PATTERN = new Violation("PATTERN", "must be a valid email address");
+    private static final Violation FULL_NAME_SIZE = new Violation("SIZE",
+            "length must be at most " + FULL_NAME_MAX_LENGTH);
+    private static final Violation UPDATED_BEFORE_CREATED = new Violation("ORDER",
+            "must not be before createdAt");
+
+    private UserDtoValidator() {
+        throw new UnsupportedOperationException("Utility class");
+    }
+
+    /**
+     * Checks {@code dto} against every constraint.
+     *
+     * @param dto the DTO to check
+     * @return {@code true} if no constraint is violated
+     * @throws NullPointerException if {@code dto} is {@code null}
+     */
+    public static boolean isValid(UserDto dto) {
+        if (dto == null) {
+            throw new NullPointerException("dto must not be null");
+        }
+        return idViolation(dto.id()) == null
+                && usernameViolation(dto.username()) == null
+                && emailViolation(dto.email()) == null
+                && fullNameViolation(dto.fullName()) == null
+                && updatedAtViolation(dto.createdAt(), dto.updatedAt()) == null;
+    }
+
+    /**
+     * Validates {@code dto}.
+     *
+     * @param dto the DTO to validate
+     * @throws NullPointerException if {@code dto} is {@code null}
+     * @throws ValidationException  carrying every violated constraint, if there is any
+     */
+    public static void validate(UserDto dto) {
+        if (isValid(dto)) {
+            return;
+        }
+        List<FieldError> errors = new ArrayList<>();
+        collect(dto, "", errors);
+        throw failure(errors);
+    }
+
+    /**
+     * Validates every DTO of {@code dtos}, reporting the violations of all of them at once.
+     * A {@code null} element is reported as a violation of its index.
+     *
+     * @param dtos the DTOs to validate
+     * @throws NullPointerException if {@code dtos} is {@code null}
+     * @throws ValidationException  carrying every violated constraint, if there is any
+     */
+    public static void validateAll(List<? extends UserDto> dtos) {
+        if (dtos == null) {
+            throw new NullPointerException("dtos must not be null");
+        }
+        int size = dtos.size();
+        int firstInvalid = 0;
+        while (firstInvalid < size && dtos.get(firstInvalid) != null && isValid(dtos.get(firstInvalid))) {
+            firstInvalid++;
+        }
+        if (firstInvalid == size) {
+            return;
+        }
+        List<FieldError> errors = new ArrayList<>();
+        for (int i = firstInvalid; i < size; i++) {
+            UserDto dto = dtos.get(i);
+            if (dto == null) {
+                errors.add(REQUIRED.at("[" + i + "]"));
+            } else if (!isValid(dto)) {
+                collect(dto, "[" + i + "].", errors);
+            }
+        }
+        throw failure(errors);
+    }
+
+    private static void collect(UserDto dto, String prefix, List<FieldError> errors) {
+        add(errors, prefix, "id", idViolation(dto.id()));
+        add(errors, prefix, "username", usernameViolation(dto.username()));
+        add(errors, prefix, "email", emailViolation(dto.email()));
+        add(errors, prefix, "fullName", fullNameViolation(dto.fullName()));
+        add(errors, prefix, "updatedAt", updatedAtViolation(dto.createdAt(), dto.updatedAt()));
+    }
+
+    private static void add(List<FieldError> errors, String prefix, String field, Violation violation) {
+        if (violation != null) {
+            errors.add(violation.at(prefix + field));
+        }
+    }
+
+    private static ValidationException failure(List<FieldError> errors) {
+        String message = errors.size() == 1
+                ? "Validation failed: " + errors.get(0)
+                : "Validation failed with " + errors.size() + " errors";
+        return new ValidationException(message, errors);
+    }
+
+    private static Violation idViolation(Long id) {
+        return id != null && id <= 0 ? POSITIVE : null;
+    }
+
+    private static Violation usernameViolation(String username) {
+        if (username == null) {
+            return REQUIRED;
+        }
+        int length = username.length();
+        if (length < StringUtils.USERNAME_MIN_LENGTH || length > StringUtils.USERNAME_MAX_LENGTH) {
+            return USERNAME_SIZE;
+        }
+        return StringUtils.isValidUsername(username) ? null : USERNAME_PATTERN;
+    }
+
+    private static Violation emailViolation(String email) {
+        if (email == null) {
+            return REQUIRED;
+        }
+        if (email.length() > StringUtils.EMAIL_MAX_LENGTH) {
+            return EMAIL_SIZE;
+        }
+        return StringUtils.isValidEmail(email) ? null : EMAIL_PATTERN;
+    }
+
+    private static Violation fullNameViolation(String fullName) {
+        if (fullName == null) {
+            return REQUIRED;
+        }
+        if (fullName.isBlank()) {
+            return BLANK;
+        }
+        return fullName.length() > FULL_NAME_MAX_LENGTH ? FULL_NAME_SIZE : null;
+    }
+
+    private static Violation updatedAtViolation(Instant createdAt, Instant updatedAt) {
+        return createdAt != null && updatedAt != null && updatedAt.isBefore(createdAt)
+                ? UPDATED_BEFORE_CREATED : null;
+    }
+
+    // A violated constraint; shared so that checking allocates nothing
+    private record Violation(String code, String message) {
+
+        FieldError at(String field) {
+            return new FieldError(field, code, message);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.ecosystem.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CacheStats}.
+ */
+class CacheStatsTest {
+
+    @Test
+    void shouldComputeHitRate_whenLookupsRecorded() {
+        // Arrange
+        CacheStats stats = new CacheStats(3, 1, 0, 0, 0, 0);
+
+        // Act & Assert
+        assertEquals(0.75, stats.hitRate());
+    }
+
+    @Test
+    void shouldReturnZeroHitRate_whenNoLookups() {
+        assertEquals(0, new CacheStats(0, 0, 0, 0, 0, 0).hitRate());
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecosystem.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TtlCacheBuilder}.
+ */
+class TtlCacheBuilderTest {
+
+    @Test
+    void shouldUseFewerStripes_whenMaximumSizeIsSmall() {
+        // Arrange
+        TtlCacheBuilder<String, String> builder = TtlCache.<String, String>builder().maximumSize(20);
+
+        // Act
+        int stripes = builder.stripes();
+
+        // Assert
+        assertEquals(2, stripes);
+    }
+
+    @Test
+    void shouldRoundConcurrencyLevelDown_whenNotPowerOfTwo() {
+        // Arrange
+        TtlCacheBuilder<String, String> builder = TtlCache.<String, String>builder()
+                .maximumSize(100_000).concurrencyLevel(12);
+
+        // Act & Assert
+        assertEquals(8, builder.stripes());
+    }
+
+    @Test
+    void shouldSaturateTtl_whenDurationExceedsMillisRange() {
+        // Arrange
+        TtlCacheBuilder<String, String> builder = TtlCache.<String, String>builder()
+                .expireAfterWrite(Duration.ofSeconds(Long.MAX_VALUE));
+
+        // Act & Assert
+        assertEquals(Long.MAX_VALUE, builder.ttlMillis());
+    }
+
+    @Test
+    void shouldThrowIllegalState_whenMaximumSizeNotSet() {
+        assertThrows(IllegalStateException.class, () -> TtlCache.builder().build());
+    }
+
+    @Test
+    void shouldRejectInvalidSettings_whenConfigured() {
+        // Arrange
+        TtlCacheBuilder<String, String> builder = TtlCache.builder();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.maximumSize(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.concurrencyLevel(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.expireAfterWrite(Duration.ofMillis(-1)));
+        assertThrows(NullPointerException.class, () -> builder.clock(null));
+    }
+}
@@ -0,0 +1,311 @@
+package com.ecosystem.common.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TtlCache}.
+ */
+class TtlCacheTest {
+
+    private final MutableClock clock = new MutableClock();
+
+    private TtlCache<String, String> cache(int maximumSize) {
+        return TtlCache.<String, String>builder().maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(10)).clock(clock).build();
+    }
+
+    @Test
+    void shouldReturnValue_whenPutAndNotExpired() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+
+        // Act
+        cache.put("k", "v");
+
+        // Assert
+        assertEquals("v", cache.getIfPresent("k"));
+        assertNull(cache.getIfPresent("missing"));
+        assertEquals(new CacheStats(1, 1, 0, 0, 0, 0), cache.stats());
+    }
+
+    @Test
+    void shouldExpireEntry_whenTtlHasPassed() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+        cache.put("default", "v");
+        cache.put("short", "v", Duration.ofMillis(5));
+
+        // Act
+        clock.advance(6);
+        String shortValue = cache.getIfPresent("short");
+        clock.advance(10_000);
+        String defaultValue = cache.getIfPresent("default");
+
+        // Assert
+        assertNull(shortValue);
+        assertNull(defaultValue);
+        assertEquals(2, cache.stats().expirationCount());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldRemoveExpiredEntries_whenCleanedUp() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+        cache.put("a", "v", Duration.ofMillis(1));
+        cache.put("b", "v", Duration.ofHours(1));
+        clock.advance(2);
+
+        // Act
+        cache.cleanUp();
+
+        // Assert
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.stats().expirationCount());
+    }
+
+    @Test
+    void shouldKeepReReadEntries_whenOneOffKeysOverflowSegment() {
+        // Arrange
+        TtlCache<String, String> cache = cache(10);
+        cache.put("hot", "v");
+        cache.getIfPresent("hot");
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            cache.put("scan" + i, "v");
+        }
+
+        // Assert
+        assertEquals("v", cache.getIfPresent("hot"));
+        assertEquals(10, cache.size());
+        assertEquals(91, cache.stats().evictionCount());
+    }
+
+    @Test
+    void shouldStayWithinMaximumSize_whenManyStripes() {
+        // Arrange
+        TtlCache<Integer, Integer> cache = TtlCache.<Integer, Integer>builder().maximumSize(1_000).build();
+
+        // Act
+        for (int i = 0; i < 10_000; i++) {
+            cache.put(i, i);
+        }
+
+        // Assert
+        assertTrue(cache.size() <= 1_000);
+        assertEquals(10_000 - cache.size(), cache.stats().evictionCount());
+    }
+
+    @Test
+    void shouldLoadOnce_whenConcurrentMissesForSameKey() throws Exception {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.get("k", key -> {
+                loads.incrementAndGet();
+                await(release);
+                return "loaded";
+            })));
+        }
+        Thread.sleep(50);
+        release.countDown();
+
+        // Assert
+        for (Future<String> result : results) {
+            assertEquals("loaded", result.get());
+        }
+        executor.shutdown();
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().loadCount());
+    }
+
+    @Test
+    void shouldRethrowLoaderException_whenLoadFails() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+
+        // Act & Assert
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> cache.get("k", key -> {
+                    throw new IllegalStateException("backend down");
+                }));
+        assertEquals("backend down", thrown.getMessage());
+        assertEquals(1, cache.stats().loadFailureCount());
+        assertEquals("v", cache.get("k", key -> "v"));
+    }
+
+    @Test
+    void shouldNotCache_whenLoaderReturnsNull() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+
+        // Act
+        String value = cache.get("k", key -> null);
+
+        // Assert
+        assertNull(value);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldLoadMissingKeysInOneBatch_whenGetAll() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+        cache.put("a", "cached");
+        List<Set<String>> batches = new ArrayList<>();
+
+        // Act
+        Map<String, String> result = cache.getAll(List.of("c", "a", "b", "c", "none"), keys -> {
+            batches.add(keys);
+            Map<String, String> loaded = new HashMap<>();
+            keys.stream().filter(key -> !key.equals("none")).forEach(key -> loaded.put(key, key.toUpperCase()));
+            return loaded;
+        });
+
+        // Assert
+        assertEquals(List.of(Set.of("c", "b", "none")), batches);
+        assertEquals(List.of("c", "a", "b"), new ArrayList<>(result.keySet()));
+        assertEquals("cached", result.get("a"));
+        assertEquals("B", cache.getIfPresent("b"));
+        assertEquals(3, cache.stats().loadCount());
+    }
+
+    @Test
+    void shouldNotLoadAgain_whenKeyWasLoadedBetweenMissAndClaim() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+        AtomicInteger loads = new AtomicInteger();
+        // The second clock reading is the re-check after the claim; another load completes first
+        clock.onRead(2, () -> cache.put("k", "loaded elsewhere"));
+
+        // Act
+        String value = cache.get("k", key -> {
+            loads.incrementAndGet();
+            return "loaded again";
+        });
+
+        // Assert
+        assertEquals("loaded elsewhere", value);
+        assertEquals(0, loads.get());
+        assertEquals(0, cache.stats().loadCount());
+    }
+
+    @Test
+    void shouldReleaseClaimedKeys_whenGetAllRejectsNullKey() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+
+        // Act
+        assertThrows(NullPointerException.class,
+                () -> cache.getAll(Arrays.asList("missing", null), keys -> Map.of()));
+        String value = assertTimeoutPreemptively(Duration.ofSeconds(2),
+                () -> cache.get("missing", key -> "loaded"));
+
+        // Assert
+        assertEquals("loaded", value);
+    }
+
+    @Test
+    void shouldRemoveEntries_whenInvalidated() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+        cache.put("a", "v");
+        cache.put("b", "v");
+
+        // Act
+        cache.invalidate("a");
+        String afterInvalidate = cache.getIfPresent("a");
+        cache.invalidateAll();
+
+        // Assert
+        assertNull(afterInvalidate);
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenKeyOrValueIsNull() {
+        // Arrange
+        TtlCache<String, String> cache = cache(100);
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> cache.put(null, "v"));
+        assertThrows(NullPointerException.class, () -> cache.put("k", null));
+        assertThrows(NullPointerException.class, () -> cache.getIfPresent(null));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Test clock moved forward by hand
+    private static final class MutableClock extends Clock {
+        private volatile long millis = 1_700_000_000_000L;
+        private Runnable readAction;
+        private int readsUntilAction;
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        // Runs action once, on the given reading from now on, before the reading is returned
+        void onRead(int reading, Runnable action) {
+            readsUntilAction = reading;
+            readAction = action;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            if (readAction != null && --readsUntilAction == 0) {
+                Runnable action = readAction;
+                readAction = null;
+                action.run();
+            }
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ecosystem.common.codec;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.dto.UserDto;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ApiResponseBinaryCodec} and {@link ListBinaryCodec}.
+ */
+class ApiResponseBinaryCodecTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:30:00.123Z");
+
+    private final ApiResponseBinaryCodec<List<UserDto>> codec =
+            ApiResponseBinaryCodec.of(ListBinaryCodec.of(UserDtoBinaryCodec.INSTANCE));
+
+    @Test
+    void shouldRoundTrip_whenResponseCarriesUserList() {
+        // Arrange
+        List<UserDto> users = List.of(
+                new UserDto(1L, "ann", "ann@example.com", "Ann", NOW, NOW),
+                new UserDto(2L, "bob", "bob@example.com", "Bob", NOW, null));
+        ApiResponse<List<UserDto>> response = new ApiResponse<>(true, "Success", users, NOW);
+
+        // Act
+        ApiResponse<List<UserDto>> result = roundTrip(response);
+
+        // Assert
+        assertEquals(response, result);
+    }
+
+    @Test
+    void shouldRoundTrip_whenResponseIsError() {
+        // Arrange
+        ApiResponse<List<UserDto>> response = new ApiResponse<>(false, "User not found", null, NOW);
+
+        // Act
+        ApiResponse<List<UserDto>> result = roundTrip(response);
+
+        // Assert
+        assertEquals(response, result);
+    }
+
+    @Test
+    void shouldRoundTrip_whenAllOptionalFieldsMissing() {
+        // Arrange
+        ApiResponse<List<UserDto>> response = new ApiResponse<>(true, null, List.of(), null);
+
+        // Act
+        ApiResponse<List<UserDto>> result = roundTrip(response);
+
+        // Assert
+        assertEquals(response, result);
+    }
+
+    @Test
+    void shouldThrowIllegalArgument_whenListCountExceedsRemainingBytes() {
+        // Arrange
+        ListBinaryCodec<UserDto> listCodec = ListBinaryCodec.of(UserDtoBinaryCodec.INSTANCE);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> listCodec.read(ByteBuffer.wrap(new byte[] {100, 0})));
+    }
+
+    @Test
+    void shouldThrowNullPointer_whenDataCodecIsNull() {
+        assertThrows(NullPointerException.class, () -> ApiResponseBinaryCodec.of(null));
+        assertThrows(NullPointerException.class, () -> ListBinaryCodec.of(null));
+    }
+
+    private ApiResponse<List<UserDto>> roundTrip(ApiResponse<List<UserDto>> response) {
+        ByteBuffer buffer = ByteBuffer.allocate(codec.encodedSize(response));
+        codec.write(response, buffer);
+        assertFalse(buffer.hasRemaining());
+        return codec.read(buffer.flip());
+    }
+}
@@ -0,0 +1,121 @@
+package com.ecosystem.common.codec;
+
+import com.ecosystem.common.dto.UserDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StreamCorruptedException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BinaryFrames}.
+ */
+class BinaryFramesTest {
+
+    private static final UserDtoBinaryCodec CODEC = UserDtoBinaryCodec.INSTANCE;
+    private static final UserDto USER = new UserDto(1L, "jdoe", "jdoe@example.com", "John Doe",
+            Instant.parse("2024-01-15T10:30:00Z"), Instant.parse("2024-01-16T10:30:00Z"));
+
+    @Test
+    void shouldStartWithVersionedHeader_whenEncoded() {
+        // Act
+        ByteBuffer frame = BinaryFrames.encode(USER, CODEC);
+
+        // Assert
+        assertEquals(BinaryFrames.MAGIC, frame.get(0));
+        assertEquals(BinaryFrames.VERSION, frame.get(1));
+        assertEquals(BinaryFrames.frameSize(USER, CODEC), frame.remaining());
+    }
+
+    @Test
+    void shouldReadConsecutiveFrames_whenWrittenToDirectBuffer() {
+        // Arrange
+        UserDto other = new UserDto(2L, "ann", null, "Ann", null, null);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(256);
+        BinaryFrames.write(USER, CODEC, buffer);
+        BinaryFrames.write(other, CODEC, buffer);
+        buffer.flip();
+
+        // Act
+        UserDto first = BinaryFrames.read(buffer, CODEC);
+        UserDto second = BinaryFrames.read(buffer, CODEC);
+
+        // Assert
+        assertEquals(USER, first);
+        assertEquals(other, second);
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    void shouldReadFramesUntilEnd_whenWrittenToStream() throws IOException {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        BinaryFrames.write(USER, CODEC, out);
+        BinaryFrames.write(USER, CODEC, out);
+        InputStream in = new ByteArrayInputStream(out.toByteArray());
+
+        // Act & Assert
+        assertEquals(USER, BinaryFrames.read(in, CODEC));
+        assertEquals(USER, BinaryFrames.read(in, CODEC));
+        assertNull(BinaryFrames.read(in, CODEC));
+    }
+
+    @Test
+    void shouldThrowEof_whenStreamEndsInsideFrame() {
+        // Arrange
+        byte[] frame = BinaryFrames.encode(USER, CODEC).array();
+        InputStream in = new ByteArrayInputStream(Arrays.copyOf(frame, frame.length - 3));
+
+        // Assert
+        assertThrows(EOFException.class, () -> BinaryFrames.read(in, CODEC));
+    }
+
+    @Test
+    void shouldThrowStreamCorrupted_whenStreamHeaderInvalid() {
+        // Arrange
+        InputStream in = new ByteArrayInputStream(new byte[] {'{', '"', 'i', 'd'});
+
+        // Assert
+        assertThrows(StreamCorruptedException.class, () -> BinaryFrames.read(in, CODEC));
+    }
+
+    @Test
+    void shouldThrowIllegalArgument_whenVersionUnsupported() {
+        // Arrange
+        ByteBuffer frame = BinaryFrames.encode(USER, CODEC);
+        frame.put(1, (byte) 9);
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> BinaryFrames.read(frame, CODEC));
+    }
+
+    @Test
+    void shouldThrowBufferUnderflow_whenBufferTruncated() {
+        // Arrange
+        ByteBuffer frame = BinaryFrames.encode(USER, CODEC);
+        frame.limit(frame.limit() - 1);
+
+        // Assert
+        assertThrows(BufferUnderflowException.class, () -> BinaryFrames.read(frame, CODEC));
+    }
+
+    @Test
+    void shouldThrowIllegalArgument_whenBodyHasTrailingBytes() {
+        // Arrange
+        ByteBuffer frame = ByteBuffer.allocate(64);
+        frame.put(BinaryFrames.MAGIC).put(BinaryFrames.VERSION).put((byte) 5);
+        frame.put(new byte[] {0, 0, 0, 0, 0}).flip();
+
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> BinaryFrames.read(frame, CODEC));
+    }
+}
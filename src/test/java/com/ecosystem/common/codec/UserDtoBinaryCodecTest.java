@@ -0,0 +1,127 @@
+package com.ecosystem.common.codec;
+
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.json.EcosystemModule;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UserDtoBinaryCodec}.
+ */
+class UserDtoBinaryCodecTest {
+
+    private static final Instant CREATED = Instant.parse("2024-01-15T10:30:00Z");
+    private static final Instant UPDATED = Instant.parse("2024-02-01T08:00:00.123456789Z");
+
+    private final UserDtoBinaryCodec codec = UserDtoBinaryCodec.INSTANCE;
+
+    @Test
+    void shouldRoundTrip_whenAllFieldsPresent() {
+        // Arrange
+        UserDto user = new UserDto(42L, "jdoe", "jdoe@example.com", "John Doe", CREATED, UPDATED);
+
+        // Act
+        UserDto result = roundTrip(user, ByteBuffer.allocate(256));
+
+        // Assert
+        assertEquals(user, result);
+    }
+
+    @Test
+    void shouldRoundTrip_whenDecodingFromDirectBuffer() {
+        // Arrange
+        UserDto user = new UserDto(7L, "jdoe", "jdoe@example.com", "John Doe", CREATED, UPDATED);
+
+        // Act
+        UserDto result = roundTrip(user, ByteBuffer.allocateDirect(256));
+
+        // Assert
+        assertEquals(user, result);
+    }
+
+    @Test
+    void shouldRoundTrip_whenAllFieldsNull() {
+        // Arrange
+        UserDto user = new UserDto(null, null, null, null, null, null);
+
+        // Act
+        UserDto result = roundTrip(user, ByteBuffer.allocate(16));
+
+        // Assert
+        assertEquals(user, result);
+        assertEquals(4, codec.encodedSize(user));
+    }
+
+    @Test
+    void shouldRoundTrip_whenStringsAreNonAsciiOrEmpty() {
+        // Arrange
+        UserDto user = new UserDto(-1L, "", "zoë@exämple.com", "東京 😀 Straße",
+                Instant.parse("1900-01-01T00:00:00.5Z"), Instant.EPOCH);
+
+        // Act
+        UserDto result = roundTrip(user, ByteBuffer.allocate(256));
+
+        // Assert
+        assertEquals(user, result);
+    }
+
+    @Test
+    void shouldEncodeLoneSurrogateAsQuestionMark_whenStringIsMalformed() {
+        // Arrange
+        UserDto user = new UserDto(1L, "a\uD800b", null, null, null, null);
+
+        // Act
+        UserDto result = roundTrip(user, ByteBuffer.allocate(64));
+
+        // Assert
+        assertEquals("a?b", result.username());
+    }
+
+    @Test
+    void shouldRoundTrip_whenIdIsExtreme() {
+        for (long id : new long[] {0L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+            // Arrange
+            UserDto user = new UserDto(id, "u", "e", "f", Instant.MIN, Instant.MAX);
+
+            // Act
+            UserDto result = roundTrip(user, ByteBuffer.allocate(64));
+
+            // Assert
+            assertEquals(user, result);
+        }
+    }
+
+    @Test
+    void shouldBeSmallerThanJson_whenTypicalUserEncoded() throws IOException {
+        // Arrange
+        UserDto user = new UserDto(123_456L, "jdoe", "jdoe@example.com", "John Doe", CREATED, UPDATED);
+        ObjectMapper mapper = new ObjectMapper().registerModule(new EcosystemModule());
+
+        // Act
+        int binarySize = codec.encodedSize(user);
+        int jsonSize = mapper.writeValueAsBytes(user).length;
+
+        // Assert
+        assertTrue(binarySize * 2 < jsonSize, binarySize + " vs " + jsonSize);
+    }
+
+    @Test
+    void shouldThrowIllegalArgument_whenFlagsUnknown() {
+        assertThrows(IllegalArgumentException.class, () -> codec.read(ByteBuffer.wrap(new byte[] {(byte) 0x80})));
+    }
+
+    private UserDto roundTrip(UserDto user, ByteBuffer buffer) {
+        codec.write(user, buffer);
+        assertEquals(codec.encodedSize(user), buffer.position());
+        buffer.flip();
+        UserDto result = codec.read(buffer);
+        assertFalse(buffer.hasRemaining());
+        return result;
+    }
+}
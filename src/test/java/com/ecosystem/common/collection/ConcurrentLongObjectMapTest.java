@@ -0,0 +1,178 @@
+package com.ecosystem.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ConcurrentLongObjectMap}.
+ */
+class ConcurrentLongObjectMapTest {
+
+    @Test
+    void shouldReturnValues_whenKeysArePutAndRemoved() {
+        // Arrange
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>(0, 4);
+
+        // Act
+        for (long key = 0; key < 1_000; key++) {
+            map.put(key, "v" + key);
+        }
+        String removed = map.remove(500);
+
+        // Assert
+        assertEquals("v500", removed);
+        assertEquals(999, map.size());
+        assertNull(map.get(500));
+        assertEquals("v999", map.get(999));
+        assertEquals("v0", map.getOrDefault(0, "none"));
+        assertFalse(map.containsKey(500));
+    }
+
+    @Test
+    void shouldWork_whenSingleStripe() {
+        // Arrange
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>(0, 1);
+
+        // Act
+        map.put(Long.MIN_VALUE, "min");
+        map.put(Long.MAX_VALUE, "max");
+
+        // Assert
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void shouldReturnExistingValue_whenPutIfAbsent() {
+        // Arrange
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+
+        // Act & Assert
+        assertNull(map.putIfAbsent(1, "first"));
+        assertEquals("first", map.putIfAbsent(1, "second"));
+        assertEquals("first", map.computeIfAbsent(1, key -> fail("must not compute")));
+        assertEquals("2", map.computeIfAbsent(2, Long::toString));
+        assertNull(map.computeIfAbsent(3, key -> null));
+        assertEquals(2, map.size());
+        assertFalse(map.isEmpty());
+    }
+
+    @Test
+    void shouldAllowModification_whileForEachVisitsEntries() {
+        // Arrange
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>(0, 2);
+        for (long key = 0; key < 50; key++) {
+            map.put(key, "v" + key);
+        }
+        Map<Long, String> visited = new HashMap<>();
+
+        // Act
+        map.forEach((value, key) -> {
+            visited.put(key, value);
+            map.remove(key);
+        });
+
+        // Assert
+        assertEquals(50, visited.size());
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void shouldComputeOncePerKey_whenManyThreadsRace() throws Exception {
+        // Arrange
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(0, 8);
+        AtomicInteger computations = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // Act
+        try {
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    for (long key = 0; key < 20_000; key++) {
+                        map.computeIfAbsent(key, k -> {
+                            computations.incrementAndGet();
+                            return k * 2;
+                        });
+                        assertEquals(key * 2, map.get(key));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(20_000, computations.get());
+        assertEquals(20_000, map.size());
+    }
+
+    @Test
+    void shouldNeverReturnWrongValue_whileWritersResizeAndShift() throws Exception {
+        // Arrange
+        ConcurrentLongObjectMap<Long> map = new ConcurrentLongObjectMap<>(0, 2);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+
+        // Act
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int round = 0; round < 20; round++) {
+                    for (long key = 0; key < 5_000; key++) {
+                        map.put(key, -key);
+                    }
+                    for (long key = 0; key < 5_000; key += 2) {
+                        map.remove(key);
+                    }
+                }
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!writer.isDone()) {
+                        for (long key = 0; key < 5_000; key++) {
+                            Long value = map.get(key);
+                            assertTrue(value == null || value == -key, "Wrong value for " + key + ": " + value);
+                        }
+                    }
+                }));
+            }
+            writer.get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(2_500, map.size());
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        // Arrange
+        ConcurrentLongObjectMap<String> map = new ConcurrentLongObjectMap<>();
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+        assertThrows(NullPointerException.class, () -> map.putIfAbsent(1, null));
+        assertThrows(NullPointerException.class, () -> map.computeIfAbsent(1, null));
+        assertThrows(NullPointerException.class, () -> map.forEach(null));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentLongObjectMap<>(0, 0));
+    }
+}
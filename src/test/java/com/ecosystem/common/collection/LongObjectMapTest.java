@@ -0,0 +1,172 @@
+package com.ecosystem.common.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link LongObjectMap}.
+ */
+class LongObjectMapTest {
+
+    @Test
+    void shouldReturnValue_whenKeyIsPut() {
+        // Arrange
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        // Act
+        String previous = map.put(42, "answer");
+
+        // Assert
+        assertNull(previous);
+        assertEquals("answer", map.get(42));
+        assertTrue(map.containsKey(42));
+        assertEquals(1, map.size());
+        assertFalse(map.isEmpty());
+    }
+
+    @Test
+    void shouldAcceptAnyLongKey_includingZeroAndExtremes() {
+        // Arrange
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        // Act
+        map.put(0, "zero");
+        map.put(-1, "minus one");
+        map.put(Long.MIN_VALUE, "min");
+        map.put(Long.MAX_VALUE, "max");
+
+        // Assert
+        assertEquals("zero", map.get(0));
+        assertEquals("minus one", map.get(-1));
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertEquals("max", map.get(Long.MAX_VALUE));
+        assertNull(map.get(1));
+    }
+
+    @Test
+    void shouldReplaceValue_whenKeyIsPutAgain() {
+        // Arrange
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1, "first");
+
+        // Act
+        String previous = map.put(1, "second");
+
+        // Assert
+        assertEquals("first", previous);
+        assertEquals("second", map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void shouldKeepExistingValue_whenPutIfAbsentOrComputeIfAbsent() {
+        // Arrange
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1, "first");
+
+        // Act & Assert
+        assertEquals("first", map.putIfAbsent(1, "other"));
+        assertNull(map.putIfAbsent(2, "second"));
+        assertEquals("first", map.computeIfAbsent(1, key -> fail("must not compute")));
+        assertEquals("3", map.computeIfAbsent(3, Long::toString));
+        assertNull(map.computeIfAbsent(4, key -> null));
+        assertFalse(map.containsKey(4));
+        assertEquals("none", map.getOrDefault(4, "none"));
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void shouldMatchHashMap_whenRandomlyPutAndRemoved() {
+        // Arrange
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> reference = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(7);
+
+        // Act
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextLong(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(reference.remove(key), map.remove(key));
+            } else {
+                assertEquals(reference.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+
+        // Assert
+        assertEquals(reference.size(), map.size());
+        for (long key = 0; key < 2_000; key++) {
+            assertEquals(reference.get(key), map.get(key));
+        }
+    }
+
+    @Test
+    void shouldFindRemainingKeys_whenRemovingFromCollidingRun() {
+        // Arrange
+        LongObjectMap<String> map = new LongObjectMap<>(4);
+        for (long key = 0; key < 6; key++) {
+            map.put(key << 40, "v" + key);
+        }
+
+        // Act
+        map.remove(0);
+        map.remove(3L << 40);
+
+        // Assert
+        assertEquals(4, map.size());
+        for (long key : new long[] {1, 2, 4, 5}) {
+            assertEquals("v" + key, map.get(key << 40));
+        }
+        assertNull(map.get(0));
+    }
+
+    @Test
+    void shouldVisitEveryEntry_whenForEach() {
+        // Arrange
+        LongObjectMap<String> map = new LongObjectMap<>();
+        for (long key = 1; key <= 100; key++) {
+            map.put(key, "v" + key);
+        }
+        Map<Long, String> visited = new HashMap<>();
+
+        // Act
+        map.forEach((value, key) -> visited.put(key, value));
+
+        // Assert
+        assertEquals(100, visited.size());
+        visited.forEach((key, value) -> assertEquals("v" + key, value));
+    }
+
+    @Test
+    void shouldBeEmpty_whenCleared() {
+        // Arrange
+        LongObjectMap<String> map = new LongObjectMap<>();
+        map.put(1, "one");
+
+        // Act
+        map.clear();
+
+        // Assert
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+        assertEquals("{}", map.toString());
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        // Arrange
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+        assertThrows(NullPointerException.class, () -> map.putIfAbsent(1, null));
+        assertThrows(NullPointerException.class, () -> map.computeIfAbsent(1, null));
+        assertThrows(NullPointerException.class, () -> map.forEach(null));
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectMap<>(-1));
+        assertThrows(IllegalArgumentException.class, () -> new LongObjectMap<>(Integer.MAX_VALUE));
+    }
+}
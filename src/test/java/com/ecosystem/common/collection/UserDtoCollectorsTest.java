@@ -0,0 +1,96 @@
+package com.ecosystem.common.collection;
+
+import com.ecosystem.common.dto.UserDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UserDtoCollectors}.
+ */
+class UserDtoCollectorsTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:30:00Z");
+
+    private static UserDto user(long id, String username) {
+        return new UserDto(id, username, username + "@example.com", null, NOW, NOW);
+    }
+
+    @Test
+    void shouldGroupUsersById_inEncounterOrder() {
+        // Arrange
+        Stream<UserDto> users = Stream.of(user(1, "a"), user(2, "b"), user(1, "c"));
+
+        // Act
+        LongObjectMap<List<UserDto>> grouped = users.collect(UserDtoCollectors.groupingById());
+
+        // Assert
+        assertEquals(2, grouped.size());
+        assertEquals(List.of(user(1, "a"), user(1, "c")), grouped.get(1));
+        assertEquals(List.of(user(2, "b")), grouped.get(2));
+    }
+
+    @Test
+    void shouldGroupAllUsers_whenStreamIsParallel() {
+        // Act
+        LongObjectMap<List<UserDto>> grouped = LongStream.range(0, 10_000).parallel()
+                .mapToObj(i -> user(i % 100, "u" + i))
+                .collect(UserDtoCollectors.groupingById());
+
+        // Assert
+        assertEquals(100, grouped.size());
+        assertEquals(100, grouped.get(42).size());
+        assertEquals("u42", grouped.get(42).get(0).username());
+        assertEquals("u142", grouped.get(42).get(1).username());
+    }
+
+    @Test
+    void shouldMapUsersById_whenIdsAreUnique() {
+        // Act
+        LongObjectMap<UserDto> byId = LongStream.range(0, 10_000).parallel()
+                .mapToObj(i -> user(i, "u" + i))
+                .collect(UserDtoCollectors.toMapById());
+
+        // Assert
+        assertEquals(10_000, byId.size());
+        assertEquals(user(1234, "u1234"), byId.get(1234));
+    }
+
+    @Test
+    void shouldFillOneConcurrentMap_whenCollectingConcurrently() {
+        // Act
+        ConcurrentLongObjectMap<UserDto> byId = LongStream.range(0, 10_000).parallel()
+                .mapToObj(i -> user(i, "u" + i))
+                .collect(UserDtoCollectors.toConcurrentMapById());
+
+        // Assert
+        assertEquals(10_000, byId.size());
+        assertEquals(user(9_999, "u9999"), byId.get(9_999));
+    }
+
+    @Test
+    void shouldThrowIllegalStateException_whenIdsAreDuplicated() {
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> Stream.of(user(1, "a"), user(1, "b")).collect(UserDtoCollectors.toMapById()));
+        assertThrows(IllegalStateException.class,
+                () -> Stream.of(user(1, "a"), user(1, "b")).collect(UserDtoCollectors.toConcurrentMapById()));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenIdIsNull() {
+        // Arrange
+        UserDto anonymous = new UserDto(null, "a", "a@example.com", null, NOW, NOW);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> Stream.of(anonymous).collect(UserDtoCollectors.groupingById()));
+        assertThrows(IllegalArgumentException.class,
+                () -> Stream.of(anonymous).collect(UserDtoCollectors.toMapById()));
+    }
+}
@@ -0,0 +1,112 @@
+package com.ecosystem.common.concurrent;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.exception.ConflictException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FanOutResult}.
+ */
+class FanOutResultTest {
+
+    private static final Instant NOW = Instant.parse("2024-05-01T00:00:00Z");
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void shouldBuildOkResponse_whenNoFailures() {
+        // Arrange
+        FanOutResult<String, Integer> result = new FanOutResult<>(ordered("a", 1, "b", 2), Map.of());
+
+        // Act
+        ApiResponse<List<Integer>> list = result.toListResponse(clock);
+        ApiResponse<Map<String, Integer>> map = result.toMapResponse(clock);
+
+        // Assert
+        assertEquals(new ApiResponse<>(true, "Success", List.of(1, 2), NOW), list);
+        assertEquals(new ApiResponse<>(true, "Success", Map.of("a", 1, "b", 2), NOW), map);
+    }
+
+    @Test
+    void shouldUseFailureMessage_whenSingleFailure() {
+        // Arrange
+        FanOutResult<String, Integer> result = new FanOutResult<>(Map.of(),
+                Map.of("a", new CallFailure("NOT_FOUND", 404, "User 7 not found")));
+
+        // Act
+        ApiResponse<List<Integer>> response = result.toListResponse(clock);
+
+        // Assert
+        assertEquals(new ApiResponse<>(false, "User 7 not found", List.of(), NOW), response);
+        assertEquals(404, result.httpStatus());
+    }
+
+    @Test
+    void shouldSummarizeFailuresAndKeepValues_whenSeveralFailures() {
+        // Arrange
+        Map<String, CallFailure> failures = new LinkedHashMap<>();
+        failures.put("b", new CallFailure("NOT_FOUND", 404, "x"));
+        failures.put("c", new CallFailure(CallFailure.DEADLINE_EXCEEDED, 504, "y"));
+        failures.put("d", new CallFailure("NOT_FOUND", 404, "z"));
+        FanOutResult<String, Integer> result = new FanOutResult<>(Map.of("a", 1), failures);
+
+        // Act
+        ApiResponse<Map<String, Integer>> response = result.toMapResponse(clock);
+
+        // Assert
+        assertFalse(response.success());
+        assertEquals("3 of 4 calls failed (DEADLINE_EXCEEDED: 1, NOT_FOUND: 2)", response.message());
+        assertEquals(Map.of("a", 1), response.data());
+        assertEquals(504, result.httpStatus());
+    }
+
+    @Test
+    void shouldMapBaseExceptionAndOtherThrowables_whenFailureCreated() {
+        // Act & Assert
+        assertEquals(new CallFailure("CONFLICT", 409, "taken"),
+                CallFailure.of(new ConflictException("taken")));
+        assertEquals(new CallFailure(CallFailure.INTERNAL_ERROR, 500, "Internal error"),
+                CallFailure.of(new IllegalStateException()));
+    }
+
+    @Test
+    void shouldHideInternalDetails_whenSingleFailureIsNotBaseException() {
+        // Arrange
+        IllegalStateException error = new IllegalStateException("SELECT * FROM users failed on db-7.internal");
+        FanOutResult<String, Integer> result = new FanOutResult<>(Map.of(), Map.of("a", CallFailure.of(error)));
+
+        // Act
+        ApiResponse<List<Integer>> response = result.toListResponse(clock);
+
+        // Assert
+        assertEquals("Internal error", response.message());
+        assertSame(error, result.failures().get("a").cause());
+        assertEquals(500, result.httpStatus());
+    }
+
+    @Test
+    void shouldBeUnmodifiable_whenCreated() {
+        // Arrange
+        FanOutResult<String, Integer> result = new FanOutResult<>(ordered("a", 1, "b", 2), Map.of());
+
+        // Act & Assert
+        assertThrows(UnsupportedOperationException.class, () -> result.values().put("c", 3));
+        assertEquals(List.of("a", "b"), List.copyOf(result.values().keySet()));
+    }
+
+    private static Map<String, Integer> ordered(String k1, int v1, String k2, int v2) {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        map.put(k1, v1);
+        map.put(k2, v2);
+        return map;
+    }
+}
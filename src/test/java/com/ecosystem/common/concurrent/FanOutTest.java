@@ -0,0 +1,169 @@
+package com.ecosystem.common.concurrent;
+
+import com.ecosystem.common.exception.NotFoundException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FanOut}.
+ */
+class FanOutTest {
+
+    @Test
+    void shouldReturnValuesInCallOrder_whenAllCallsSucceed() {
+        // Arrange
+        FanOut fanOut = FanOut.builder().build();
+        List<Callable<String>> calls = List.of(() -> sleepThen(30, "a"), () -> "b", () -> sleepThen(10, "c"));
+
+        // Act
+        FanOutResult<Integer, String> result = fanOut.invokeAll(calls);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(List.of("a", "b", "c"), List.copyOf(result.values().values()));
+        assertEquals(200, result.httpStatus());
+    }
+
+    @Test
+    void shouldRunCallsInParallel_whenManyCallsBlock() {
+        // Arrange
+        FanOut fanOut = FanOut.builder().deadline(Duration.ofSeconds(5)).build();
+        Map<Integer, Callable<Integer>> calls = new LinkedHashMap<>();
+        for (int i = 0; i < 1_000; i++) {
+            int value = i;
+            calls.put(i, () -> sleepThen(100, value));
+        }
+
+        // Act
+        long start = System.nanoTime();
+        FanOutResult<Integer, Integer> result = fanOut.invokeAll(calls);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertEquals(1_000, result.values().size());
+        assertTrue(elapsedMillis < 3_000, "took " + elapsedMillis + " ms");
+    }
+
+    @Test
+    void shouldReportOnlyFirstFailureAndCancelRest_whenFailFast() throws InterruptedException {
+        // Arrange
+        FanOut fanOut = FanOut.builder().policy(FanOutPolicy.FAIL_FAST).build();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        Map<String, Callable<String>> calls = new LinkedHashMap<>();
+        calls.put("slow", () -> {
+            try {
+                return sleepThen(10_000, "never");
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        });
+        calls.put("missing", () -> {
+            throw new NotFoundException("User 7 not found");
+        });
+
+        // Act
+        FanOutResult<String, String> result = fanOut.invokeAll(calls);
+
+        // Assert
+        assertEquals(Map.of("missing", new CallFailure("NOT_FOUND", 404, "User 7 not found")), result.failures());
+        assertTrue(result.values().isEmpty());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shouldKeepValuesAndMapFailures_whenPartial() {
+        // Arrange
+        FanOut fanOut = FanOut.builder().policy(FanOutPolicy.PARTIAL).build();
+        Map<String, Callable<String>> calls = new LinkedHashMap<>();
+        calls.put("eu", () -> "eu-user");
+        calls.put("us", () -> {
+            throw new NotFoundException("User 7 not found");
+        });
+        calls.put("ap", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        // Act
+        FanOutResult<String, String> result = fanOut.invokeAll(calls);
+
+        // Assert
+        assertEquals(Map.of("eu", "eu-user"), result.values());
+        assertEquals(new CallFailure("NOT_FOUND", 404, "User 7 not found"), result.failures().get("us"));
+        assertEquals(new CallFailure(CallFailure.INTERNAL_ERROR, 500, "Internal error"), result.failures().get("ap"));
+        assertEquals("boom", result.failures().get("ap").cause().getMessage());
+        assertEquals(List.of("us", "ap"), List.copyOf(result.failures().keySet()));
+        assertEquals(500, result.httpStatus());
+    }
+
+    @Test
+    void shouldCancelLateCalls_whenDeadlinePasses() {
+        // Arrange
+        FanOut fanOut = FanOut.builder().deadline(Duration.ofMillis(100)).policy(FanOutPolicy.PARTIAL).build();
+        AtomicBoolean lateFinished = new AtomicBoolean();
+        List<Callable<String>> calls = List.of(() -> "fast", () -> {
+            sleepThen(10_000, null);
+            lateFinished.set(true);
+            return "late";
+        });
+
+        // Act
+        long start = System.nanoTime();
+        FanOutResult<Integer, String> result = fanOut.invokeAll(calls);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Assert
+        assertEquals(Map.of(0, "fast"), result.values());
+        assertEquals(CallFailure.DEADLINE_EXCEEDED, result.failures().get(1).errorCode());
+        assertEquals(504, result.httpStatus());
+        assertTrue(elapsedMillis < 5_000, "took " + elapsedMillis + " ms");
+        assertFalse(lateFinished.get());
+    }
+
+    @Test
+    void shouldCancelCalls_whenCallerInterrupted() {
+        // Arrange
+        FanOut fanOut = FanOut.builder().build();
+        Thread.currentThread().interrupt();
+
+        // Act
+        FanOutResult<Integer, String> result = fanOut.invokeAll(List.of(() -> sleepThen(10_000, "never")));
+
+        // Assert
+        assertTrue(Thread.interrupted());
+        assertEquals(CallFailure.CANCELLED, result.failures().get(0).errorCode());
+    }
+
+    @Test
+    void shouldReturnEmptySuccess_whenNoCalls() {
+        // Act
+        FanOutResult<Integer, String> result = FanOut.builder().build().invokeAll(List.<Callable<String>>of());
+
+        // Assert
+        assertTrue(result.isSuccess());
+        assertTrue(result.values().isEmpty());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenDeadlineNotPositive() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> FanOut.builder().deadline(Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> FanOut.builder().policy(null));
+    }
+
+    private static <T> T sleepThen(long millis, T value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+}
@@ -2,7 +2,9 @@ package com.ecosystem.common.dto;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -102,4 +104,43 @@ class ApiResponseTest {
         assertEquals(42, response.data());
         assertEquals(now, response.timestamp());
     }
+
+    @Test
+    void shouldUseClockTimestamp_whenOkCalledWithClock() {
+        // Arrange
+        Instant fixed = Instant.parse("2024-01-15T10:30:00Z");
+        Clock clock = Clock.fixed(fixed, ZoneOffset.UTC);
+
+        // Act
+        ApiResponse<String> response = ApiResponse.ok("data", clock);
+
+        // Assert
+        assertTrue(response.success());
+        assertEquals("data", response.data());
+        assertEquals(fixed, response.timestamp());
+    }
+
+    @Test
+    void shouldUseClockTimestamp_whenErrorCalledWithClock() {
+        // Arrange
+        Instant fixed = Instant.parse("2024-01-15T10:30:00Z");
+        Clock clock = Clock.fixed(fixed, ZoneOffset.UTC);
+
+        // Act
+        ApiResponse<String> response = ApiResponse.error("error", clock);
+
+        // Assert
+        assertFalse(response.success());
+        assertEquals("error", response.message());
+        assertEquals(fixed, response.timestamp());
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenClockIsNull() {
+        // Act & Assert
+        NullPointerException ok = assertThrows(NullPointerException.class, () -> ApiResponse.ok("data", null));
+        NullPointerException error = assertThrows(NullPointerException.class, () -> ApiResponse.error("error", null));
+        assertEquals("clock must not be null", ok.getMessage());
+        assertEquals("clock must not be null", error.getMessage());
+    }
 }
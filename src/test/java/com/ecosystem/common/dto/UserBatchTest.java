@@ -0,0 +1,147 @@
+package com.ecosystem.common.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UserBatch}.
+ */
+class UserBatchTest {
+
+    private static final Instant CREATED = Instant.parse("2024-01-15T10:30:00.123456789Z");
+
+    private static UserDto user(long id, String username, Instant updatedAt) {
+        return new UserDto(id, username, username + "@example.com", "User " + username, CREATED, updatedAt);
+    }
+
+    @Test
+    void shouldMaterializeEqualUsers_whenBuiltFromUsers() {
+        // Arrange
+        UserDto first = user(1L, "jdoe", CREATED.plusSeconds(5));
+        UserDto second = new UserDto(null, null, null, null, null, null);
+
+        // Act
+        UserBatch batch = UserBatch.builder().add(first).add(second).build();
+
+        // Assert
+        assertEquals(2, batch.size());
+        assertEquals(first, batch.get(0));
+        assertEquals(second, batch.get(1));
+    }
+
+    @Test
+    void shouldExposeColumns_whenReadingPrimitiveAccessors() {
+        // Arrange
+        UserBatch batch = UserBatch.builder().add(user(42L, "jdoe", null))
+                .add(new UserDto(null, "anon", null, null, null, null)).build();
+
+        // Assert
+        assertTrue(batch.hasId(0));
+        assertEquals(42L, batch.id(0));
+        assertFalse(batch.hasId(1));
+        assertEquals(0L, batch.id(1));
+        assertEquals(CREATED, batch.createdAt(0));
+        assertNull(batch.updatedAt(0));
+    }
+
+    @Test
+    void shouldPreserveOrder_whenCollectingParallelStream() {
+        // Arrange
+        List<UserDto> users = IntStream.range(0, 1_000)
+                .mapToObj(i -> user(i, "user" + (i % 7), CREATED.plusMillis(i))).toList();
+
+        // Act
+        UserBatch batch = users.parallelStream().collect(UserBatch.collector());
+
+        // Assert
+        assertEquals(users, batch.stream().toList());
+    }
+
+    @Test
+    void shouldIterateAllRows_whenUsedAsIterable() {
+        // Arrange
+        UserBatch batch = UserBatch.builder(1).addAll(Stream.of(user(1L, "a", null), user(2L, "b", null))).build();
+        List<UserDto> iterated = new ArrayList<>();
+
+        // Act
+        batch.forEach(iterated::add);
+
+        // Assert
+        assertEquals(List.of(batch.get(0), batch.get(1)), iterated);
+    }
+
+    @Test
+    void shouldSortRowsById_whenIdsUnorderedOrNull() {
+        // Arrange
+        UserBatch batch = UserBatch.builder().add(user(30L, "c", null))
+                .add(new UserDto(null, "x", null, null, null, null))
+                .add(user(10L, "a", null)).add(user(20L, "b", null)).build();
+
+        // Act
+        int[] rows = batch.rowsSortedById();
+
+        // Assert
+        assertArrayEquals(new int[] {2, 3, 0, 1}, rows);
+    }
+
+    @Test
+    void shouldSortRowsByUpdatedAt_whenManyRows() {
+        // Arrange
+        UserBatch.Builder builder = UserBatch.builder();
+        for (int i = 0; i < 500; i++) {
+            builder.add(user(i, "u", CREATED.plusNanos((i * 7919L) % 500)));
+        }
+        UserBatch batch = builder.build();
+
+        // Act
+        int[] rows = batch.rowsSortedByUpdatedAt();
+
+        // Assert
+        assertEquals(500, rows.length);
+        for (int i = 1; i < rows.length; i++) {
+            assertFalse(batch.updatedAt(rows[i - 1]).isAfter(batch.updatedAt(rows[i])));
+        }
+    }
+
+    @Test
+    void shouldReturnMatchingRows_whenFiltering() {
+        // Arrange
+        UserBatch batch = IntStream.range(0, 10).mapToObj(i -> user(i, "u" + i, null))
+                .collect(UserBatch.collector());
+
+        // Act
+        int[] rows = batch.filterRows(row -> batch.id(row) % 3 == 0);
+
+        // Assert
+        assertArrayEquals(new int[] {0, 3, 6, 9}, rows);
+    }
+
+    @Test
+    void shouldRoundTripNonAsciiStrings_whenDeduplicated() {
+        // Arrange
+        UserDto user = new UserDto(1L, "ñandú", "ñandú@example.com", "Zoë 日本", null, null);
+
+        // Act
+        UserBatch batch = UserBatch.builder().add(user).add(user).build();
+
+        // Assert
+        assertEquals(user, batch.get(1));
+    }
+
+    @Test
+    void shouldThrowIndexOutOfBounds_whenRowOutOfRange() {
+        // Arrange
+        UserBatch batch = UserBatch.builder().add(user(1L, "a", null)).build();
+
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.id(-1));
+    }
+}
@@ -0,0 +1,43 @@
+package com.ecosystem.common.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link BoundedMpscQueue}.
+ */
+class BoundedMpscQueueTest {
+
+    @Test
+    void shouldKeepCapacity_whenAlreadyPowerOfTwo() {
+        // Act & Assert
+        assertEquals(2, new BoundedMpscQueue<>(2).capacity());
+        assertEquals(4, new BoundedMpscQueue<>(4).capacity());
+        assertEquals(1_024, new BoundedMpscQueue<>(1_024).capacity());
+    }
+
+    @Test
+    void shouldRoundCapacityUp_whenNotPowerOfTwo() {
+        // Act & Assert
+        assertEquals(2, new BoundedMpscQueue<>(1).capacity());
+        assertEquals(4, new BoundedMpscQueue<>(3).capacity());
+        assertEquals(1_024, new BoundedMpscQueue<>(1_000).capacity());
+    }
+
+    @Test
+    void shouldRejectOffer_whenFull() {
+        // Arrange
+        BoundedMpscQueue<String> queue = new BoundedMpscQueue<>(2);
+
+        // Act & Assert
+        assertTrue(queue.offer("a"));
+        assertTrue(queue.offer("b"));
+        assertFalse(queue.offer("c"));
+        assertEquals("a", queue.poll());
+        assertTrue(queue.offer("c"));
+        assertEquals("b", queue.poll());
+        assertEquals("c", queue.poll());
+        assertNull(queue.poll());
+    }
+}
@@ -60,4 +60,58 @@ class ConflictExceptionTest {
         assertInstanceOf(BaseException.class, ex);
         assertInstanceOf(RuntimeException.class, ex);
     }
+
+    @Test
+    void shouldSkipStackTrace_whenCreatedLightweight() {
+        // Act
+        ConflictException ex = ConflictException.lightweight("test");
+
+        // Assert
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals("test", ex.getMessage());
+        assertEquals("CONFLICT", ex.getErrorCode());
+        assertEquals(409, ex.getHttpStatus());
+    }
+
+    @Test
+    void shouldIgnoreSuppressed_whenCreatedLightweight() {
+        // Arrange
+        ConflictException ex = ConflictException.lightweight("test");
+
+        // Act
+        ex.addSuppressed(new RuntimeException("suppressed"));
+
+        // Assert
+        assertEquals(0, ex.getSuppressed().length);
+    }
+
+    @Test
+    void shouldReturnSameInstance_whenSharedCalledTwice() {
+        // Act
+        ConflictException first = ConflictException.shared();
+        ConflictException second = ConflictException.shared();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("Resource conflict", first.getMessage());
+        assertEquals(0, first.getStackTrace().length);
+    }
+
+    @Test
+    void shouldCaptureStackTrace_whenStackTracesForced() {
+        // Arrange
+        BaseException.setStackTracesForced(true);
+        try {
+            // Act
+            ConflictException lightweight = ConflictException.lightweight("test");
+            ConflictException shared = ConflictException.shared();
+
+            // Assert
+            assertTrue(lightweight.getStackTrace().length > 0);
+            assertTrue(shared.getStackTrace().length > 0);
+            assertNotSame(shared, ConflictException.shared());
+        } finally {
+            BaseException.setStackTracesForced(false);
+        }
+    }
 }
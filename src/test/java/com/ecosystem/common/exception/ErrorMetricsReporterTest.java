@@ -0,0 +1,52 @@
+package com.ecosystem.common.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ErrorMetricsReporter}.
+ */
+class ErrorMetricsReporterTest {
+
+    @Test
+    void shouldFormatCountsAndHistograms_whenSnapshotFormatted() {
+        // Arrange
+        ErrorMetrics metrics = new ErrorMetrics(true);
+        metrics.recordCode("NOT_FOUND", 404);
+        metrics.recordCode("TIMEOUT", 504, 250);
+
+        // Act
+        String line = ErrorMetricsReporter.format(metrics.snapshot());
+
+        // Assert
+        assertTrue(line.startsWith("errors total=2 byErrorCode={NOT_FOUND=1, TIMEOUT=1} byHttpStatus={404=1, 504=1}"),
+                line);
+        assertTrue(line.contains("TIMEOUT=[count=1, mean=250"), line);
+    }
+
+    @Test
+    void shouldStartAndClose_whenPeriodValid() {
+        // Act & Assert
+        assertDoesNotThrow(() -> {
+            try (ErrorMetricsReporter reporter = ErrorMetricsReporter.start(new ErrorMetrics(), Duration.ofMillis(5))) {
+                Thread.sleep(20);
+            }
+        });
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenPeriodTooShort() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> ErrorMetricsReporter.start(new ErrorMetrics(), Duration.ofNanos(10)));
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenMetricsIsNull() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> ErrorMetricsReporter.start(null, Duration.ofSeconds(1)));
+    }
+}
@@ -0,0 +1,140 @@
+package com.ecosystem.common.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ErrorMetrics}.
+ */
+class ErrorMetricsTest {
+
+    @Test
+    void shouldCountByErrorCodeAndHttpStatus_whenExceptionsRecorded() {
+        // Arrange
+        ErrorMetrics metrics = new ErrorMetrics();
+
+        // Act
+        metrics.record(NotFoundException.lightweight("missing"));
+        metrics.record(NotFoundException.lightweight("missing"));
+        metrics.record(ValidationException.shared());
+
+        // Assert
+        ErrorMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(3, snapshot.total());
+        assertEquals(2, snapshot.count("NOT_FOUND"));
+        assertEquals(1, snapshot.count("VALIDATION_ERROR"));
+        assertEquals(2, snapshot.count(404));
+        assertEquals(1, snapshot.count(422));
+        assertTrue(snapshot.histogramsByErrorCode().isEmpty());
+    }
+
+    @Test
+    void shouldCountUnderUnknownAndZero_whenCodeNullAndStatusOutOfRange() {
+        // Arrange
+        ErrorMetrics metrics = new ErrorMetrics();
+
+        // Act
+        metrics.recordCode(null, 1234);
+
+        // Assert
+        ErrorMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.count(ErrorMetrics.UNKNOWN_ERROR_CODE));
+        assertEquals(1, snapshot.count(0));
+    }
+
+    @Test
+    void shouldKeepHistogramPerErrorCode_whenHistogramsEnabled() {
+        // Arrange
+        ErrorMetrics metrics = new ErrorMetrics(true);
+
+        // Act
+        for (int i = 1; i <= 100; i++) {
+            metrics.recordCode("TIMEOUT", 504, i * 1_000L);
+        }
+        metrics.recordCode("CONFLICT", 409);
+
+        // Assert
+        ErrorMetricsSnapshot snapshot = metrics.snapshot();
+        HistogramSnapshot histogram = snapshot.histogramsByErrorCode().get("TIMEOUT");
+        assertEquals(100, histogram.count());
+        assertEquals(100_000, histogram.max());
+        assertEquals(1, snapshot.count("CONFLICT"));
+        assertFalse(snapshot.histogramsByErrorCode().containsKey("CONFLICT"));
+    }
+
+    @Test
+    void shouldIgnoreValues_whenHistogramsDisabled() {
+        // Arrange
+        ErrorMetrics metrics = new ErrorMetrics();
+
+        // Act
+        metrics.record(new ConflictException("taken"), 42);
+
+        // Assert
+        assertEquals(1, metrics.snapshot().count("CONFLICT"));
+        assertTrue(metrics.snapshot().histogramsByErrorCode().isEmpty());
+    }
+
+    @Test
+    void shouldCountOnConstruction_whenInstalledOnBaseException() {
+        // Arrange
+        ErrorMetrics metrics = new ErrorMetrics();
+        BaseException.setErrorMetrics(metrics);
+        try {
+            // Act
+            new NotFoundException("User 1 not found");
+            ConflictException.lightweight("taken");
+        } finally {
+            BaseException.setErrorMetrics(null);
+        }
+        new NotFoundException("after removal");
+
+        // Assert
+        assertEquals(2, metrics.total());
+        assertEquals(1, metrics.snapshot().count(404));
+        assertEquals(1, metrics.snapshot().count(409));
+        assertNull(BaseException.getErrorMetrics());
+    }
+
+    @Test
+    void shouldNotLoseCounts_whenRecordedConcurrently() throws InterruptedException {
+        // Arrange
+        ErrorMetrics metrics = new ErrorMetrics(true);
+        List<Thread> threads = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    metrics.recordCode("CODE_" + (i % 4), 500 + i % 4, i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Assert
+        ErrorMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(80_000, snapshot.total());
+        assertEquals(20_000, snapshot.count("CODE_0"));
+        assertEquals(20_000, snapshot.count(503));
+        assertEquals(20_000, snapshot.histogramsByErrorCode().get("CODE_3").count());
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenExceptionIsNull() {
+        // Arrange
+        ErrorMetrics metrics = new ErrorMetrics();
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> metrics.record((BaseException) null));
+        assertThrows(NullPointerException.class, () -> metrics.record((BaseException) null, 1));
+    }
+}
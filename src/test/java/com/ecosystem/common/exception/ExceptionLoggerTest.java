@@ -0,0 +1,252 @@
+package com.ecosystem.common.exception;
+
+import org.junit.jupiter.api.Test;
+import org.slf4j.Marker;
+import org.slf4j.event.Level;
+import org.slf4j.helpers.LegacyAbstractLogger;
+import org.slf4j.helpers.MessageFormatter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ExceptionLogger}.
+ */
+class ExceptionLoggerTest {
+
+    private final CapturingLogger logger = new CapturingLogger();
+    private final MutableClock clock = new MutableClock();
+
+    @Test
+    void shouldLogFirstAndSummarizeSimilar_whenStormWithinWindow() {
+        // Arrange
+        ExceptionLogger errors = ExceptionLogger.builder(logger).window(Duration.ofSeconds(10)).clock(clock).start();
+
+        // Act
+        for (int id = 0; id < 1_000; id++) {
+            errors.log(NotFoundException.lightweight("User " + id + " not found"));
+        }
+        errors.close();
+
+        // Assert
+        assertEquals(List.of(
+                "WARN NOT_FOUND [404]: User 0 not found",
+                "WARN NOT_FOUND [404]: suppressed 999 similar in 10000 ms: User 0 not found"), logger.lines);
+    }
+
+    @Test
+    void shouldLogAgain_whenWindowHasClosed() {
+        // Arrange
+        ExceptionLogger errors = ExceptionLogger.builder(logger).window(Duration.ofSeconds(10)).clock(clock).start();
+
+        // Act
+        errors.log(new ConflictException("User 1 already exists"));
+        errors.log(new ConflictException("User 2 already exists"));
+        clock.advance(10_000);
+        errors.log(new ConflictException("User 3 already exists"));
+        errors.close();
+
+        // Assert
+        assertEquals(List.of(
+                "WARN CONFLICT [409]: User 1 already exists",
+                "WARN CONFLICT [409]: suppressed 1 similar in 10000 ms: User 1 already exists",
+                "WARN CONFLICT [409]: User 3 already exists"), logger.lines);
+    }
+
+    @Test
+    void shouldKeepGroupsApart_whenErrorCodesOrTemplatesDiffer() {
+        // Arrange
+        ExceptionLogger errors = ExceptionLogger.builder(logger).clock(clock).start();
+
+        // Act
+        errors.log(NotFoundException.lightweight("User 1 not found"));
+        errors.log(NotFoundException.lightweight("Order 1 not found"));
+        errors.log(ValidationException.lightweight("User 1 not found"));
+        errors.close();
+
+        // Assert
+        assertEquals(3, logger.lines.size());
+    }
+
+    @Test
+    void shouldLogAtErrorLevel_whenHttpStatusIsServerError() {
+        // Arrange
+        ExceptionLogger errors = ExceptionLogger.builder(logger).clock(clock).start();
+
+        // Act
+        errors.log(new ServiceUnavailableException("Inventory is down"));
+        errors.close();
+
+        // Assert
+        assertEquals(List.of("ERROR UNAVAILABLE [503]: Inventory is down"), logger.lines);
+    }
+
+    @Test
+    void shouldQueueAboutTheSampledFraction_whenSampleRateBelowOne() {
+        // Arrange
+        ExceptionLogger errors = ExceptionLogger.builder(logger).sampleRate(0.25).queueCapacity(1 << 16)
+                .clock(clock).start();
+        int queued = 0;
+
+        // Act
+        for (int i = 0; i < 20_000; i++) {
+            queued += errors.log(NotFoundException.shared()) ? 1 : 0;
+        }
+        errors.close();
+
+        // Assert
+        assertTrue(queued > 4_000 && queued < 6_000, "queued " + queued);
+        assertEquals("WARN NOT_FOUND [404]: suppressed " + (queued - 1)
+                + " similar in 10000 ms (sample rate 0.25): Resource not found", logger.lines.get(1));
+    }
+
+    @Test
+    void shouldDropAndReport_whenQueueIsFull() throws InterruptedException {
+        // Arrange
+        ExceptionLogger errors = ExceptionLogger.builder(logger).queueCapacity(4).clock(clock).start();
+        List<Thread> threads = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    errors.log(NotFoundException.shared());
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        errors.close();
+
+        // Assert
+        long dropped = errors.droppedCount();
+        assertTrue(dropped > 0);
+        long reported = logger.lines.stream().filter(line -> line.startsWith("WARN Dropped "))
+                .mapToLong(line -> Long.parseLong(line.split(" ")[2])).sum();
+        long suppressed = logger.lines.stream().filter(line -> line.contains("suppressed "))
+                .mapToLong(line -> Long.parseLong(line.split(" ")[4])).sum();
+        long logged = logger.lines.stream().filter(line -> line.endsWith("]: Resource not found")).count();
+        assertEquals(dropped, reported);
+        assertEquals(200_000, dropped + suppressed + logged);
+    }
+
+    @Test
+    void shouldDropInsteadOfQueueing_whenClosed() {
+        // Arrange
+        ExceptionLogger errors = ExceptionLogger.builder(logger).clock(clock).start();
+        errors.close();
+
+        // Act
+        boolean queued = errors.log(NotFoundException.shared());
+
+        // Assert
+        assertFalse(queued);
+        assertEquals(1, errors.droppedCount());
+    }
+
+    @Test
+    void shouldReplaceDigitRuns_whenTemplateComputed() {
+        // Act & Assert
+        assertEquals("User # not found in #.#", ExceptionLogDeduplicator.template("User 42 not found in 3.14"));
+        assertEquals("no digits", ExceptionLogDeduplicator.template("no digits"));
+        assertEquals("", ExceptionLogDeduplicator.template(null));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenSettingsInvalid() {
+        // Arrange
+        ExceptionLogger.Builder builder = ExceptionLogger.builder(logger);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> builder.sampleRate(0.0));
+        assertThrows(IllegalArgumentException.class, () -> builder.queueCapacity(0));
+        assertThrows(IllegalArgumentException.class, () -> builder.window(Duration.ZERO));
+        assertThrows(NullPointerException.class, () -> ExceptionLogger.builder(null));
+    }
+
+    private static final class ServiceUnavailableException extends BaseException {
+        ServiceUnavailableException(String message) {
+            super(message, "UNAVAILABLE", 503);
+        }
+    }
+
+    // Records "LEVEL formatted message" lines
+    private static final class CapturingLogger extends LegacyAbstractLogger {
+        private final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        protected String getFullyQualifiedCallerName() {
+            return null;
+        }
+
+        @Override
+        protected void handleNormalizedLoggingCall(Level level, Marker marker, String messagePattern,
+                                                   Object[] arguments, Throwable throwable) {
+            lines.add(level + " " + MessageFormatter.basicArrayFormat(messagePattern, arguments));
+        }
+
+        @Override
+        public boolean isTraceEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isDebugEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isInfoEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isWarnEnabled() {
+            return true;
+        }
+
+        @Override
+        public boolean isErrorEnabled() {
+            return true;
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+        private volatile long millis = 1_700_000_000_000L;
+
+        void advance(long deltaMillis) {
+            millis += deltaMillis;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+    }
+}
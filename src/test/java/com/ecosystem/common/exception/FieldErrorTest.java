@@ -0,0 +1,42 @@
+package com.ecosystem.common.exception;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link FieldError}.
+ */
+class FieldErrorTest {
+
+    @Test
+    void shouldExposeComponents_whenCreated() {
+        // Act
+        FieldError error = new FieldError("[2].email", "PATTERN", "must be a valid email address");
+
+        // Assert
+        assertEquals("[2].email", error.field());
+        assertEquals("PATTERN", error.code());
+        assertEquals("must be a valid email address", error.message());
+    }
+
+    @Test
+    void shouldFormatFieldAndMessage_whenToStringCalled() {
+        // Arrange
+        FieldError error = new FieldError("username", "REQUIRED", "must not be null");
+
+        // Act
+        String text = error.toString();
+
+        // Assert
+        assertEquals("username: must not be null", text);
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenComponentNull() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> new FieldError(null, "REQUIRED", "m"));
+        assertThrows(NullPointerException.class, () -> new FieldError("f", null, "m"));
+        assertThrows(NullPointerException.class, () -> new FieldError("f", "REQUIRED", null));
+    }
+}
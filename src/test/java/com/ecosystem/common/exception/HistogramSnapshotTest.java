@@ -0,0 +1,102 @@
+package com.ecosystem.common.exception;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link HistogramSnapshot}.
+ */
+class HistogramSnapshotTest {
+
+    @Test
+    void shouldReturnZeros_whenNothingRecorded() {
+        // Act
+        HistogramSnapshot snapshot = new LogLinearHistogram().snapshot();
+
+        // Assert
+        assertEquals(0, snapshot.count());
+        assertEquals(0.0, snapshot.mean());
+        assertEquals(0, snapshot.valueAtPercentile(99));
+    }
+
+    @Test
+    void shouldReturnExactValues_whenValuesBelowEight() {
+        // Arrange
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        for (int value = 0; value < 8; value++) {
+            histogram.record(value);
+        }
+
+        // Act
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        // Assert
+        assertEquals(8, snapshot.count());
+        assertEquals(28, snapshot.sum());
+        assertEquals(3, snapshot.valueAtPercentile(50));
+        assertEquals(7, snapshot.valueAtPercentile(100));
+    }
+
+    @Test
+    void shouldStayWithinBucketPrecision_whenValuesSpanManyMagnitudes() {
+        // Arrange
+        Random random = new Random(7);
+        LogLinearHistogram histogram = new LogLinearHistogram();
+        long[] values = new long[1_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.pow(10, random.nextDouble() * 12);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Act
+        HistogramSnapshot snapshot = histogram.snapshot();
+
+        // Assert
+        for (double percentile : new double[] {1, 50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+            long reported = snapshot.valueAtPercentile(percentile);
+            assertTrue(reported >= exact && reported <= exact + exact / 8 + 1,
+                    "p" + percentile + ": " + reported + " vs " + exact);
+        }
+        assertEquals(values[values.length - 1], snapshot.max());
+    }
+
+    @Test
+    void shouldMapEveryBucketToItsHighestValue_whenBucketBoundsComputed() {
+        // Act & Assert
+        for (int bucket = 0; bucket < LogLinearHistogram.BUCKETS; bucket++) {
+            long highest = LogLinearHistogram.highestValueOf(bucket);
+            assertEquals(bucket, LogLinearHistogram.bucketOf(highest));
+            if (highest < Long.MAX_VALUE) {
+                assertEquals(bucket + 1, LogLinearHistogram.bucketOf(highest + 1));
+            }
+        }
+    }
+
+    @Test
+    void shouldRecordZero_whenValueNegative() {
+        // Arrange
+        LogLinearHistogram histogram = new LogLinearHistogram();
+
+        // Act
+        histogram.record(-5);
+
+        // Assert
+        assertEquals(0, histogram.snapshot().valueAtPercentile(100));
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenPercentileOutOfRange() {
+        // Arrange
+        HistogramSnapshot snapshot = new LogLinearHistogram().snapshot();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> snapshot.valueAtPercentile(Double.NaN));
+    }
+}
@@ -60,4 +60,58 @@ class NotFoundExceptionTest {
         assertInstanceOf(BaseException.class, ex);
         assertInstanceOf(RuntimeException.class, ex);
     }
+
+    @Test
+    void shouldSkipStackTrace_whenCreatedLightweight() {
+        // Act
+        NotFoundException ex = NotFoundException.lightweight("test");
+
+        // Assert
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals("test", ex.getMessage());
+        assertEquals("NOT_FOUND", ex.getErrorCode());
+        assertEquals(404, ex.getHttpStatus());
+    }
+
+    @Test
+    void shouldIgnoreSuppressed_whenCreatedLightweight() {
+        // Arrange
+        NotFoundException ex = NotFoundException.lightweight("test");
+
+        // Act
+        ex.addSuppressed(new RuntimeException("suppressed"));
+
+        // Assert
+        assertEquals(0, ex.getSuppressed().length);
+    }
+
+    @Test
+    void shouldReturnSameInstance_whenSharedCalledTwice() {
+        // Act
+        NotFoundException first = NotFoundException.shared();
+        NotFoundException second = NotFoundException.shared();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("Resource not found", first.getMessage());
+        assertEquals(0, first.getStackTrace().length);
+    }
+
+    @Test
+    void shouldCaptureStackTrace_whenStackTracesForced() {
+        // Arrange
+        BaseException.setStackTracesForced(true);
+        try {
+            // Act
+            NotFoundException lightweight = NotFoundException.lightweight("test");
+            NotFoundException shared = NotFoundException.shared();
+
+            // Assert
+            assertTrue(lightweight.getStackTrace().length > 0);
+            assertTrue(shared.getStackTrace().length > 0);
+            assertNotSame(shared, NotFoundException.shared());
+        } finally {
+            BaseException.setStackTracesForced(false);
+        }
+    }
 }
@@ -2,6 +2,9 @@ package com.ecosystem.common.exception;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -60,4 +63,109 @@ class ValidationExceptionTest {
         assertInstanceOf(BaseException.class, ex);
         assertInstanceOf(RuntimeException.class, ex);
     }
+
+    @Test
+    void shouldSkipStackTrace_whenCreatedLightweight() {
+        // Act
+        ValidationException ex = ValidationException.lightweight("test");
+
+        // Assert
+        assertEquals(0, ex.getStackTrace().length);
+        assertEquals("test", ex.getMessage());
+        assertEquals("VALIDATION_ERROR", ex.getErrorCode());
+        assertEquals(422, ex.getHttpStatus());
+    }
+
+    @Test
+    void shouldIgnoreSuppressed_whenCreatedLightweight() {
+        // Arrange
+        ValidationException ex = ValidationException.lightweight("test");
+
+        // Act
+        ex.addSuppressed(new RuntimeException("suppressed"));
+
+        // Assert
+        assertEquals(0, ex.getSuppressed().length);
+    }
+
+    @Test
+    void shouldReturnSameInstance_whenSharedCalledTwice() {
+        // Act
+        ValidationException first = ValidationException.shared();
+        ValidationException second = ValidationException.shared();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("Validation failed", first.getMessage());
+        assertEquals(0, first.getStackTrace().length);
+    }
+
+    @Test
+    void shouldCaptureStackTrace_whenStackTracesForced() {
+        // Arrange
+        BaseException.setStackTracesForced(true);
+        try {
+            // Act
+            ValidationException lightweight = ValidationException.lightweight("test");
+            ValidationException shared = ValidationException.shared();
+
+            // Assert
+            assertTrue(lightweight.getStackTrace().length > 0);
+            assertTrue(shared.getStackTrace().length > 0);
+            assertNotSame(shared, ValidationException.shared());
+        } finally {
+            BaseException.setStackTracesForced(false);
+        }
+    }
+
+    @Test
+    void shouldReturnEmptyFieldErrors_whenCreatedWithMessageOnly() {
+        // Act
+        ValidationException ex = new ValidationException("Invalid input");
+
+        // Assert
+        assertTrue(ex.getFieldErrors().isEmpty());
+        assertTrue(ValidationException.lightweight("test").getFieldErrors().isEmpty());
+    }
+
+    @Test
+    void shouldReturnFieldErrorsCopy_whenCreatedWithFieldErrors() {
+        // Arrange
+        List<FieldError> errors = new ArrayList<>();
+        errors.add(new FieldError("email", "REQUIRED", "must not be null"));
+
+        // Act
+        ValidationException ex = new ValidationException("Validation failed", errors);
+        errors.clear();
+
+        // Assert
+        assertEquals(List.of(new FieldError("email", "REQUIRED", "must not be null")), ex.getFieldErrors());
+        assertEquals(422, ex.getHttpStatus());
+        assertThrows(UnsupportedOperationException.class, () -> ex.getFieldErrors().clear());
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenFieldErrorsNull() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> new ValidationException("test", (List<FieldError>) null));
+    }
+
+    @Test
+    void shouldNotCountConstruction_whenFieldErrorsInvalid() {
+        // Arrange
+        ErrorMetrics metrics = new ErrorMetrics();
+        List<FieldError> withNull = new ArrayList<>();
+        withNull.add(null);
+        BaseException.setErrorMetrics(metrics);
+        try {
+            // Act
+            assertThrows(NullPointerException.class, () -> new ValidationException("test", (List<FieldError>) null));
+            assertThrows(NullPointerException.class, () -> new ValidationException("test", withNull));
+        } finally {
+            BaseException.setErrorMetrics(null);
+        }
+
+        // Assert
+        assertEquals(0, metrics.snapshot().total());
+    }
 }
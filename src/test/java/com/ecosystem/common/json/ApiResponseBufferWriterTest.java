@@ -0,0 +1,147 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ApiResponseBufferWriter}.
+ */
+class ApiResponseBufferWriterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:30:00.123Z");
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new EcosystemModule());
+    private final ApiResponseBufferWriter writer = new ApiResponseBufferWriter(mapper);
+
+    @Test
+    void shouldWriteIntoSameBuffer_whenBodyFits() throws IOException {
+        // Arrange
+        ApiResponse<UserDto> response = new ApiResponse<>(true, "Success", user(1), NOW);
+        ByteBuffer dst = ByteBuffer.allocateDirect(1024);
+        dst.put((byte) '#');
+
+        // Act
+        ByteBuffer result = writer.write(response, dst);
+
+        // Assert
+        assertSame(dst, result);
+        assertArrayEquals(concat(new byte[] {'#'}, mapper.writeValueAsBytes(response)), contents(result));
+    }
+
+    @Test
+    void shouldFallBackToGrownHeapBuffer_whenBodyDoesNotFit() throws IOException {
+        // Arrange
+        ApiResponse<List<UserDto>> response = new ApiResponse<>(true, "Success", users(500), NOW);
+        ByteBuffer dst = ByteBuffer.allocateDirect(64);
+        dst.put((byte) '#');
+
+        // Act
+        ByteBuffer result = writer.write(response, dst);
+
+        // Assert
+        assertNotSame(dst, result);
+        assertFalse(result.isDirect());
+        assertEquals(1, dst.position());
+        assertArrayEquals(concat(new byte[] {'#'}, mapper.writeValueAsBytes(response)), contents(result));
+    }
+
+    @Test
+    void shouldRespectLimit_whenBufferLimitBelowCapacity() throws IOException {
+        // Arrange
+        ApiResponse<UserDto> response = new ApiResponse<>(false, "Not found", null, NOW);
+        ByteBuffer dst = ByteBuffer.allocate(1024).limit(10);
+
+        // Act
+        ByteBuffer result = writer.write(response, dst);
+
+        // Assert
+        assertNotSame(dst, result);
+        assertEquals(0, dst.position());
+        assertEquals(10, dst.limit());
+        assertArrayEquals(mapper.writeValueAsBytes(response), contents(result));
+    }
+
+    @Test
+    void shouldMatchMapperOutput_whenWrittenFromManyVirtualThreads() throws Exception {
+        // Arrange
+        ApiResponse<List<UserDto>> response = new ApiResponse<>(true, "Success", users(20), NOW);
+        byte[] expected = mapper.writeValueAsBytes(response);
+        List<Future<byte[]>> results = new ArrayList<>();
+
+        // Act
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 1_000; i++) {
+                results.add(executor.submit(() -> contents(writer.write(response, ByteBuffer.allocate(512)))));
+            }
+
+            // Assert
+            for (Future<byte[]> result : results) {
+                assertArrayEquals(expected, result.get());
+            }
+        }
+    }
+
+    @Test
+    void shouldRestorePosition_whenSerializationFailsPartway() {
+        // Arrange
+        List<Object> data = new ArrayList<>(users(200));
+        data.add(new FailingValue());
+        ApiResponse<List<Object>> response = new ApiResponse<>(true, "Success", data, NOW);
+        ByteBuffer dst = ByteBuffer.allocate(1 << 16);
+        dst.put((byte) '#');
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> writer.write(response, dst));
+        assertEquals(1, dst.position());
+        assertEquals(1 << 16, dst.limit());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenPoolSizeNotPositive() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ApiResponseBufferWriter(mapper, 0));
+        assertThrows(NullPointerException.class, () -> new ApiResponseBufferWriter(null));
+    }
+
+    private static final class FailingValue {
+        public String getValue() {
+            throw new IllegalStateException("broken value");
+        }
+    }
+
+    private static UserDto user(long id) {
+        return new UserDto(id, "user" + id, "user" + id + "@example.com", "User Number " + id, NOW, NOW);
+    }
+
+    private static List<UserDto> users(int count) {
+        return LongStream.range(0, count).mapToObj(ApiResponseBufferWriterTest::user).toList();
+    }
+
+    private static byte[] contents(ByteBuffer buffer) {
+        ByteBuffer readable = buffer.duplicate().flip();
+        byte[] bytes = new byte[readable.remaining()];
+        readable.get(bytes);
+        return bytes;
+    }
+
+    private static byte[] concat(byte[] first, byte[] second) {
+        byte[] bytes = new byte[first.length + second.length];
+        System.arraycopy(first, 0, bytes, 0, first.length);
+        System.arraycopy(second, 0, bytes, first.length, second.length);
+        return bytes;
+    }
+}
@@ -0,0 +1,146 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ApiResponseStreamWriter}.
+ */
+class ApiResponseStreamWriterTest {
+
+    private static final Instant TIMESTAMP = Instant.parse("2024-01-15T10:30:00.123Z");
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void shouldWriteEnvelopeAndElements_whenWriteIteratorCalled() throws IOException {
+        // Arrange
+        ApiResponseStreamWriter writer = new ApiResponseStreamWriter(mapper);
+        Iterator<Map<String, Object>> data = List.<Map<String, Object>>of(
+                Map.of("id", 1, "name", "Ann"), Map.of("id", 2, "name", "Bob")).iterator();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.writeIterator(new ApiResponse<>(true, "Success", data, TIMESTAMP), out);
+
+        // Assert
+        JsonNode json = mapper.readTree(out.toByteArray());
+        assertTrue(json.get("success").asBoolean());
+        assertEquals("Success", json.get("message").asText());
+        assertEquals("2024-01-15T10:30:00.123Z", json.get("timestamp").asText());
+        assertEquals(2, json.get("data").size());
+        assertEquals("Bob", json.get("data").get(1).get("name").asText());
+    }
+
+    @Test
+    void shouldWriteAllElements_whenWriteStreamCalledWithLargeStream() throws IOException {
+        // Arrange
+        ApiResponseStreamWriter writer = new ApiResponseStreamWriter(mapper, 100);
+        Stream<Integer> data = IntStream.range(0, 50_000).boxed();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.writeStream(new ApiResponse<>(true, "Success", data, TIMESTAMP), out);
+
+        // Assert
+        JsonNode json = mapper.readTree(out.toByteArray());
+        assertEquals(50_000, json.get("data").size());
+        assertEquals(49_999, json.get("data").get(49_999).asInt());
+    }
+
+    @Test
+    void shouldWriteElements_whenWriteSpliteratorCalled() throws IOException {
+        // Arrange
+        ApiResponseStreamWriter writer = new ApiResponseStreamWriter(mapper);
+        Spliterator<String> data = List.of("a", "b", "c").spliterator();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.writeSpliterator(new ApiResponse<>(true, "Success", data, TIMESTAMP), out);
+
+        // Assert
+        JsonNode json = mapper.readTree(out.toByteArray());
+        assertEquals("c", json.get("data").get(2).asText());
+    }
+
+    @Test
+    void shouldWriteNulls_whenDataAndTimestampMissing() throws IOException {
+        // Arrange
+        ApiResponseStreamWriter writer = new ApiResponseStreamWriter(mapper);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        writer.writeIterator(new ApiResponse<Iterator<String>>(false, "Not found", null, null), out);
+
+        // Assert
+        JsonNode json = mapper.readTree(out.toByteArray());
+        assertFalse(json.get("success").asBoolean());
+        assertTrue(json.get("data").isNull());
+        assertTrue(json.get("timestamp").isNull());
+    }
+
+    @Test
+    void shouldFlushPeriodically_whenElementsExceedFlushInterval() throws IOException {
+        // Arrange
+        ApiResponseStreamWriter writer = new ApiResponseStreamWriter(mapper, 10);
+        FlushCountingStream out = new FlushCountingStream();
+
+        // Act
+        writer.writeStream(new ApiResponse<>(true, "Success", IntStream.range(0, 100).boxed(), TIMESTAMP), out);
+
+        // Assert
+        assertTrue(out.flushes >= 10);
+    }
+
+    @Test
+    void shouldLeaveTargetOpen_whenWriteCompletes() throws IOException {
+        // Arrange
+        ApiResponseStreamWriter writer = new ApiResponseStreamWriter(mapper);
+        FlushCountingStream out = new FlushCountingStream();
+
+        // Act
+        writer.writeStream(new ApiResponse<>(true, "Success", Stream.of(1), TIMESTAMP), out);
+
+        // Assert
+        assertFalse(out.closed);
+    }
+
+    @Test
+    void shouldThrowIllegalArgument_whenFlushIntervalNotPositive() {
+        assertThrows(IllegalArgumentException.class, () -> new ApiResponseStreamWriter(mapper, 0));
+    }
+
+    @Test
+    void shouldThrowNullPointer_whenMapperIsNull() {
+        assertThrows(NullPointerException.class, () -> new ApiResponseStreamWriter(null));
+    }
+
+    private static final class FlushCountingStream extends ByteArrayOutputStream {
+        private int flushes;
+        private boolean closed;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.util.StringPool;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EcosystemModule}.
+ */
+class EcosystemModuleTest {
+
+    private static final Instant CREATED = Instant.parse("2024-01-15T10:30:00Z");
+    private static final Instant UPDATED = Instant.parse("2024-02-01T08:00:00.123456Z");
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new EcosystemModule());
+
+    @Test
+    void shouldWriteFieldsInComponentOrder_whenUserDtoSerialized() throws IOException {
+        // Arrange
+        UserDto user = new UserDto(1L, "jdoe", "jdoe@example.com", "John Doe", CREATED, UPDATED);
+
+        // Act
+        String json = mapper.writeValueAsString(user);
+
+        // Assert
+        assertEquals("{\"id\":1,\"username\":\"jdoe\",\"email\":\"jdoe@example.com\",\"fullName\":\"John Doe\","
+                + "\"createdAt\":\"2024-01-15T10:30:00Z\",\"updatedAt\":\"2024-02-01T08:00:00.123456Z\"}", json);
+    }
+
+    @Test
+    void shouldRoundTrip_whenUserDtoSerializedAndDeserialized() throws IOException {
+        // Arrange
+        UserDto user = new UserDto(42L, "jdoe", "jdoe@example.com", "Jöhn Dœ", CREATED, UPDATED);
+
+        // Act
+        UserDto result = mapper.readValue(mapper.writeValueAsBytes(user), UserDto.class);
+
+        // Assert
+        assertEquals(user, result);
+    }
+
+    @Test
+    void shouldRoundTripNulls_whenUserDtoFieldsMissing() throws IOException {
+        // Arrange
+        UserDto user = new UserDto(null, null, null, null, null, null);
+
+        // Act
+        String json = mapper.writeValueAsString(user);
+        UserDto result = mapper.readValue(json, UserDto.class);
+
+        // Assert
+        assertEquals(user, result);
+        assertEquals(user, mapper.readValue("{}", UserDto.class));
+    }
+
+    @Test
+    void shouldReadFieldsInAnyOrder_whenUserDtoDeserialized() throws IOException {
+        // Arrange
+        String json = "{\"updatedAt\":\"2024-02-01T08:00:00.123456Z\",\"fullName\":\"John Doe\",\"id\":7,"
+                + "\"createdAt\":1705314600,\"email\":\"jdoe@example.com\",\"username\":\"jdoe\"}";
+
+        // Act
+        UserDto result = mapper.readValue(json, UserDto.class);
+
+        // Assert
+        assertEquals(new UserDto(7L, "jdoe", "jdoe@example.com", "John Doe", CREATED, UPDATED), result);
+    }
+
+    @Test
+    void shouldFail_whenUnknownPropertyPresent() {
+        assertThrows(UnrecognizedPropertyException.class,
+                () -> mapper.readValue("{\"id\":1,\"nickname\":\"jd\"}", UserDto.class));
+    }
+
+    @Test
+    void shouldSkipUnknownProperty_whenFailOnUnknownPropertiesDisabled() throws IOException {
+        // Arrange
+        ObjectMapper lenient = mapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        // Act
+        UserDto result = lenient.readValue("{\"id\":1,\"extra\":{\"a\":[1,2]},\"username\":\"jd\"}", UserDto.class);
+
+        // Assert
+        assertEquals(1L, result.id());
+        assertEquals("jd", result.username());
+    }
+
+    @Test
+    void shouldWriteFieldsInComponentOrder_whenApiResponseSerialized() throws IOException {
+        // Arrange
+        ApiResponse<String> response = new ApiResponse<>(true, "Success", "payload", CREATED);
+
+        // Act
+        String json = mapper.writeValueAsString(response);
+
+        // Assert
+        assertEquals("{\"success\":true,\"message\":\"Success\",\"data\":\"payload\","
+                + "\"timestamp\":\"2024-01-15T10:30:00Z\"}", json);
+    }
+
+    @Test
+    void shouldReadTypedData_whenApiResponseOfUserListDeserialized() throws IOException {
+        // Arrange
+        List<UserDto> users = List.of(
+                new UserDto(1L, "ann", "ann@example.com", "Ann", CREATED, UPDATED),
+                new UserDto(2L, "bob", "bob@example.com", "Bob", CREATED, null));
+        ApiResponse<List<UserDto>> response = new ApiResponse<>(true, "Success", users, UPDATED);
+
+        // Act
+        ApiResponse<List<UserDto>> result = mapper.readValue(mapper.writeValueAsBytes(response),
+                new TypeReference<ApiResponse<List<UserDto>>>() { });
+
+        // Assert
+        assertEquals(response, result);
+        assertInstanceOf(UserDto.class, result.data().get(0));
+    }
+
+    @Test
+    void shouldReadUntypedData_whenApiResponseDeserializedWithoutTypeArgument() throws IOException {
+        // Act
+        ApiResponse<?> result = mapper.readValue(
+                "{\"success\":false,\"message\":\"oops\",\"data\":{\"a\":1},\"timestamp\":null}", ApiResponse.class);
+
+        // Assert
+        assertFalse(result.success());
+        assertEquals("oops", result.message());
+        assertEquals(Map.of("a", 1), result.data());
+        assertNull(result.timestamp());
+    }
+
+    @Test
+    void shouldReadTypedDataAsProperty_whenApiResponseNestedInMap() throws IOException {
+        // Arrange
+        Map<String, ApiResponse<UserDto>> responses = Map.of("first",
+                new ApiResponse<>(true, "Success", new UserDto(1L, "a", "a@x.io", "A", CREATED, CREATED), CREATED));
+
+        // Act
+        Map<String, ApiResponse<UserDto>> result = mapper.readValue(mapper.writeValueAsString(responses),
+                new TypeReference<Map<String, ApiResponse<UserDto>>>() { });
+
+        // Assert
+        assertEquals(responses, result);
+    }
+
+    @Test
+    void shouldReadTypedData_whenApiResponsesHeldInListProperty() throws IOException {
+        // Arrange
+        ApiResponse<UserDto> response =
+                new ApiResponse<>(true, "Success", new UserDto(1L, "a", "a@x.io", "A", CREATED, CREATED), CREATED);
+        Batch batch = new Batch(List.of(response), response);
+
+        // Act
+        Batch result = mapper.readValue(mapper.writeValueAsString(batch), Batch.class);
+
+        // Assert
+        assertEquals(batch, result);
+        assertInstanceOf(UserDto.class, result.responses().get(0).data());
+        assertInstanceOf(UserDto.class, result.latest().data());
+    }
+
+    @Test
+    void shouldFail_whenTimestampIsNotIso() {
+        assertThrows(IOException.class, () -> mapper.readValue(
+                "{\"success\":true,\"message\":\"m\",\"data\":null,\"timestamp\":\"yesterday\"}", ApiResponse.class));
+    }
+
+    @Test
+    void shouldReturnSameStringInstances_whenDeserializedWithStringPool() throws IOException {
+        // Arrange
+        StringPool pool = new StringPool();
+        ObjectMapper pooled = new ObjectMapper().registerModule(new EcosystemModule(pool));
+        byte[] json = mapper.writeValueAsBytes(new UserDto(1L, "jdoe", "jdoe@example.com", "John Doe", null, null));
+
+        // Act
+        UserDto first = pooled.readValue(json, UserDto.class);
+        UserDto second = pooled.readValue(json, UserDto.class);
+
+        // Assert
+        assertEquals(first, second);
+        assertSame(first.email(), second.email());
+        assertSame(first.fullName(), second.fullName());
+        assertEquals(3, pool.hitCount());
+    }
+
+    @Test
+    void shouldPoolMessage_whenApiResponseDeserializedWithStringPool() throws IOException {
+        // Arrange
+        ObjectMapper pooled = new ObjectMapper().registerModule(new EcosystemModule(new StringPool()));
+        String json = "{\"success\":false,\"message\":\"Resource not found\",\"data\":null}";
+
+        // Act
+        ApiResponse<?> first = pooled.readValue(json, ApiResponse.class);
+        ApiResponse<?> second = pooled.readValue(json, ApiResponse.class);
+
+        // Assert
+        assertSame(first.message(), second.message());
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenStringPoolIsNull() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> new EcosystemModule(null));
+    }
+
+    // Holds ApiResponses both inside a container property and directly
+    record Batch(List<ApiResponse<UserDto>> responses, ApiResponse<UserDto> latest) {
+    }
+}
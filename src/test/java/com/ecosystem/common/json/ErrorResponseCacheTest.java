@@ -0,0 +1,153 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.ApiResponse;
+import com.ecosystem.common.exception.NotFoundException;
+import com.ecosystem.common.util.DateUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ErrorResponseCache}.
+ */
+class ErrorResponseCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-03-10T12:00:00.250Z");
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new EcosystemModule());
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    @Test
+    void shouldMatchMapperOutput_whenMessageWrittenToStream() throws IOException {
+        // Arrange
+        ErrorResponseCache cache = new ErrorResponseCache(clock, true, 16);
+        for (String message : new String[] {"User not found", "Quote \" and \\ and \n", "Jöhn Dœ 😀", null}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // Act
+            cache.write(message, out);
+
+            // Assert
+            assertArrayEquals(mapper.writeValueAsBytes(ApiResponse.error(message, clock)), out.toByteArray(),
+                    String.valueOf(message));
+        }
+    }
+
+    @Test
+    void shouldMatchMapperOutput_whenMessageWrittenToBuffer() throws IOException {
+        // Arrange
+        ErrorResponseCache cache = new ErrorResponseCache(clock, true, 16);
+        ByteBuffer dst = ByteBuffer.allocate(256);
+        dst.put((byte) 'x');
+
+        // Act
+        int written = cache.write("User not found", dst);
+
+        // Assert
+        byte[] expected = mapper.writeValueAsBytes(ApiResponse.error("User not found", clock));
+        assertEquals(expected.length, written);
+        assertEquals(1 + written, dst.position());
+        byte[] actual = new byte[written];
+        dst.flip().position(1);
+        dst.get(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    void shouldFollowLibraryClock_whenReplacedAfterConstruction() throws IOException {
+        // Arrange
+        ErrorResponseCache cache = new ErrorResponseCache();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try {
+            // Act
+            DateUtils.setClock(clock);
+            cache.write("User not found", out);
+
+            // Assert
+            assertArrayEquals(mapper.writeValueAsBytes(ApiResponse.error("User not found", clock)), out.toByteArray());
+        } finally {
+            DateUtils.setClock(null);
+        }
+    }
+
+    @Test
+    void shouldOmitTimestamp_whenTimestampsDisabled() throws IOException {
+        // Arrange
+        ErrorResponseCache cache = new ErrorResponseCache(clock, false, 16);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        cache.write(NotFoundException.shared(), out);
+
+        // Assert
+        assertEquals("{\"success\":false,\"message\":\"Resource not found\",\"data\":null}",
+                out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldCacheEachMessageOnce_whenWrittenRepeatedly() throws IOException {
+        // Arrange
+        ErrorResponseCache cache = new ErrorResponseCache(clock, true, 16);
+
+        // Act
+        for (int i = 0; i < 100; i++) {
+            cache.write(i % 2 == 0 ? "a" : "b", OutputStreamSink.INSTANCE);
+        }
+
+        // Assert
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void shouldStillWrite_whenCacheIsFull() throws IOException {
+        // Arrange
+        ErrorResponseCache cache = new ErrorResponseCache(clock, false, 1);
+        cache.write("first", OutputStreamSink.INSTANCE);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        cache.write("second", out);
+
+        // Assert
+        assertEquals(1, cache.size());
+        assertEquals("{\"success\":false,\"message\":\"second\",\"data\":null}", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldLeaveBufferUnchanged_whenBodyDoesNotFit() {
+        // Arrange
+        ErrorResponseCache cache = new ErrorResponseCache(clock, true, 16);
+        ByteBuffer dst = ByteBuffer.allocate(32);
+
+        // Act & Assert
+        assertThrows(BufferOverflowException.class, () -> cache.write("User not found", dst));
+        assertEquals(0, dst.position());
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenMaxEntriesNegative() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new ErrorResponseCache(clock, true, -1));
+    }
+
+    // Discards everything written to it
+    private static final class OutputStreamSink extends OutputStream {
+        static final OutputStreamSink INSTANCE = new OutputStreamSink();
+
+        @Override
+        public void write(int b) {
+        }
+    }
+}
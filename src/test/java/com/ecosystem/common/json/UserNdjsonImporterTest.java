@@ -0,0 +1,174 @@
+package com.ecosystem.common.json;
+
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.exception.ValidationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UserNdjsonImporter}.
+ */
+class UserNdjsonImporterTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:30:00Z");
+
+    private final ObjectMapper mapper = new ObjectMapper().registerModule(new EcosystemModule());
+
+    @TempDir
+    Path directory;
+
+    private static UserDto user(long id) {
+        return new UserDto(id, "user" + id, "user" + id + "@example.com", "User " + id, NOW, NOW);
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.writeString(directory.resolve("users.ndjson"), content, StandardCharsets.UTF_8);
+    }
+
+    private String lines(int count) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= count; i++) {
+            sb.append(mapper.writeValueAsString(user(i))).append('\n');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    void shouldDeliverAllRecordsInOrder_whenFileSpansManyChunks() throws IOException {
+        // Arrange
+        Path file = write(lines(500));
+        UserNdjsonImporter importer = UserNdjsonImporter.builder(mapper)
+                .chunkSize(300).parallelism(4).batchSize(64).build();
+        List<List<UserDto>> batches = new ArrayList<>();
+
+        // Act
+        UserNdjsonImporter.Summary summary = importer.importFile(file, batches::add, e -> fail(e));
+
+        // Assert
+        assertEquals(new UserNdjsonImporter.Summary(500, 0), summary);
+        List<UserDto> users = batches.stream().flatMap(List::stream).toList();
+        assertEquals(500, users.size());
+        for (int i = 0; i < users.size(); i++) {
+            assertEquals(user(i + 1), users.get(i));
+        }
+        assertEquals(8, batches.size());
+        assertTrue(batches.subList(0, 7).stream().allMatch(batch -> batch.size() == 64));
+        assertEquals(500 - 7 * 64, batches.get(7).size());
+    }
+
+    @Test
+    void shouldReportMalformedLinesWithOffsets_andContinue() throws IOException {
+        // Arrange
+        String first = mapper.writeValueAsString(user(1));
+        String broken = "{\"id\":2,\"username\":";
+        String content = first + "\n" + broken + "\n\n   \nnull\n" + first + " trailing\r\n"
+                + mapper.writeValueAsString(user(3)) + "\r\n";
+        Path file = write(content);
+        List<UserDto> users = new ArrayList<>();
+        List<ValidationException> errors = new ArrayList<>();
+
+        // Act
+        UserNdjsonImporter.Summary summary = UserNdjsonImporter.builder(mapper).chunkSize(16).build()
+                .importFile(file, users::addAll, errors::add);
+
+        // Assert
+        assertEquals(List.of(user(1), user(3)), users);
+        assertEquals(new UserNdjsonImporter.Summary(2, 3), summary);
+        assertEquals(3, errors.size());
+        int brokenOffset = first.length() + 1;
+        int nullOffset = content.indexOf("null");
+        int trailingOffset = content.indexOf(first + " trailing");
+        assertTrue(errors.get(0).getMessage().startsWith("Malformed UserDto at byte offset " + brokenOffset + ": "));
+        assertEquals("Malformed UserDto at byte offset " + nullOffset + ": expected a JSON object",
+                errors.get(1).getMessage());
+        assertTrue(errors.get(2).getMessage().startsWith("Malformed UserDto at byte offset " + trailingOffset));
+        assertEquals(422, errors.get(0).getHttpStatus());
+        assertNotNull(errors.get(0).getCause());
+    }
+
+    @Test
+    void shouldDecodeLineLongerThanChunkAndBlock_whenChunkSizeSmall() throws IOException {
+        // Arrange
+        UserDto longUser = new UserDto(7L, "long", "long@example.com", "x".repeat(200_000), NOW, NOW);
+        Path file = write(lines(3) + mapper.writeValueAsString(longUser));
+        List<UserDto> users = new ArrayList<>();
+
+        // Act
+        UserNdjsonImporter.builder(mapper).chunkSize(1).parallelism(2).build()
+                .importFile(file, users::addAll, e -> fail(e));
+
+        // Assert
+        assertEquals(List.of(user(1), user(2), user(3), longUser), users);
+    }
+
+    @Test
+    void shouldDeliverNothing_whenFileEmpty() throws IOException {
+        // Arrange
+        Path file = write("");
+        List<List<UserDto>> batches = new ArrayList<>();
+
+        // Act
+        UserNdjsonImporter.Summary summary = UserNdjsonImporter.builder(mapper).build()
+                .importFile(file, batches::add, e -> fail(e));
+
+        // Assert
+        assertEquals(new UserNdjsonImporter.Summary(0, 0), summary);
+        assertTrue(batches.isEmpty());
+    }
+
+    @Test
+    void shouldRethrowAndStop_whenBatchConsumerFails() throws IOException {
+        // Arrange
+        Path file = write(lines(100));
+        UserNdjsonImporter importer = UserNdjsonImporter.builder(mapper).chunkSize(100).batchSize(10).build();
+        List<List<UserDto>> batches = new ArrayList<>();
+
+        // Act
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> importer.importFile(file, batch -> {
+                    batches.add(batch);
+                    throw new IllegalStateException("store down");
+                }, e -> fail(e)));
+
+        // Assert
+        assertEquals("store down", thrown.getMessage());
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    void shouldThrowIOException_whenFileMissing() {
+        // Arrange
+        UserNdjsonImporter importer = UserNdjsonImporter.builder(mapper).build();
+
+        // Act & Assert
+        assertThrows(NoSuchFileException.class,
+                () -> importer.importFile(directory.resolve("missing.ndjson"), batch -> { }, e -> { }));
+    }
+
+    @Test
+    void shouldRejectInvalidArguments_whenBuildingOrImporting() {
+        // Arrange
+        UserNdjsonImporter importer = UserNdjsonImporter.builder(mapper).build();
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> UserNdjsonImporter.builder(null));
+        assertThrows(IllegalArgumentException.class, () -> UserNdjsonImporter.builder(mapper).batchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> UserNdjsonImporter.builder(mapper).chunkSize(0));
+        assertThrows(IllegalArgumentException.class, () -> UserNdjsonImporter.builder(mapper).parallelism(0));
+        assertThrows(NullPointerException.class, () -> importer.importFile(null, batch -> { }, e -> { }));
+        assertThrows(NullPointerException.class, () -> importer.importFile(directory, null, e -> { }));
+        assertThrows(NullPointerException.class, () -> importer.importFile(directory, batch -> { }, null));
+    }
+}
@@ -0,0 +1,244 @@
+package com.ecosystem.common.store;
+
+import com.ecosystem.common.dto.UserDto;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link OffHeapUserStore}.
+ */
+class OffHeapUserStoreTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-15T10:30:00.123456789Z");
+
+    @TempDir
+    Path directory;
+
+    private static UserDto user(long id) {
+        return new UserDto(id, "user" + id, "user" + id + "@example.com", "Üser Nümber " + id, NOW, NOW.plusSeconds(id));
+    }
+
+    @Test
+    void shouldReturnStoredUserAndFields_whenPut() {
+        // Arrange
+        OffHeapUserStore store = OffHeapUserStore.inMemory(OffHeapUserStore.MIN_SEGMENT_SIZE);
+
+        // Act
+        store.put(user(7));
+
+        // Assert
+        assertEquals(user(7), store.get(7));
+        assertEquals("user7", store.username(7));
+        assertEquals("user7@example.com", store.email(7));
+        assertEquals("Üser Nümber 7", store.fullName(7));
+        assertEquals(NOW, store.createdAt(7));
+        assertEquals(NOW.plusSeconds(7), store.updatedAt(7));
+        assertTrue(store.contains(7));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void shouldReturnNull_whenIdIsMissing() {
+        // Arrange
+        OffHeapUserStore store = OffHeapUserStore.inMemory(OffHeapUserStore.MIN_SEGMENT_SIZE);
+
+        // Act & Assert
+        assertNull(store.get(1));
+        assertNull(store.email(1));
+        assertFalse(store.contains(1));
+        assertFalse(store.remove(1));
+    }
+
+    @Test
+    void shouldKeepNullFields_whenUserHasThem() {
+        // Arrange
+        OffHeapUserStore store = OffHeapUserStore.inMemory(OffHeapUserStore.MIN_SEGMENT_SIZE);
+        UserDto user = new UserDto(3L, null, "", null, null, null);
+
+        // Act
+        store.put(user);
+
+        // Assert
+        assertEquals(user, store.get(3));
+        assertNull(store.username(3));
+        assertEquals("", store.email(3));
+        assertNull(store.fullName(3));
+        assertNull(store.createdAt(3));
+    }
+
+    @Test
+    void shouldReplaceUser_whenPutWithSameId() {
+        // Arrange
+        OffHeapUserStore store = OffHeapUserStore.inMemory(OffHeapUserStore.MIN_SEGMENT_SIZE);
+        store.put(user(1));
+        UserDto renamed = new UserDto(1L, "renamed", "renamed@example.com", null, NOW, NOW);
+
+        // Act
+        store.put(renamed);
+
+        // Assert
+        assertEquals(renamed, store.get(1));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void shouldForgetUser_whenRemoved() {
+        // Arrange
+        OffHeapUserStore store = OffHeapUserStore.inMemory(OffHeapUserStore.MIN_SEGMENT_SIZE);
+        store.put(user(1));
+        store.put(user(2));
+
+        // Act
+        boolean removed = store.remove(1);
+
+        // Assert
+        assertTrue(removed);
+        assertNull(store.get(1));
+        assertEquals(user(2), store.get(2));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    void shouldSpanSegments_whenRecordsExceedOneSegment() {
+        // Arrange
+        OffHeapUserStore store = OffHeapUserStore.inMemory(OffHeapUserStore.MIN_SEGMENT_SIZE);
+
+        // Act
+        for (long id = 1; id <= 1_000; id++) {
+            store.put(user(id));
+        }
+
+        // Assert
+        assertEquals(1_000, store.size());
+        for (long id = 1; id <= 1_000; id++) {
+            assertEquals(user(id), store.get(id));
+        }
+    }
+
+    @Test
+    void shouldRestoreUsers_whenFileIsReopened() throws IOException {
+        // Arrange
+        Path file = directory.resolve("users.store");
+        try (OffHeapUserStore store = OffHeapUserStore.open(file, OffHeapUserStore.MIN_SEGMENT_SIZE)) {
+            for (long id = 1; id <= 500; id++) {
+                store.put(user(id));
+            }
+            store.remove(10);
+            store.put(new UserDto(20L, "twenty", null, null, null, NOW));
+        }
+
+        // Act
+        try (OffHeapUserStore store = OffHeapUserStore.open(file)) {
+            store.put(user(501));
+
+            // Assert
+            assertEquals(500, store.size());
+            assertNull(store.get(10));
+            assertEquals("twenty", store.username(20));
+            assertEquals(user(499), store.get(499));
+            assertEquals(user(501), store.get(501));
+        }
+        try (OffHeapUserStore store = OffHeapUserStore.open(file)) {
+            assertEquals(user(501), store.get(501));
+            assertEquals(user(1), store.get(1));
+        }
+    }
+
+    @Test
+    void shouldThrowIOException_whenFileIsNotAStore() throws IOException {
+        // Arrange
+        Path file = Files.writeString(directory.resolve("other.txt"), "not a user store");
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> OffHeapUserStore.open(file));
+    }
+
+    @Test
+    void shouldThrowIOException_whenRecordIsCorrupt() throws IOException {
+        // Arrange
+        Path file = directory.resolve("users.store");
+        try (OffHeapUserStore store = OffHeapUserStore.open(file, OffHeapUserStore.MIN_SEGMENT_SIZE)) {
+            store.put(user(1));
+        }
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[16] = 5;
+        Files.write(file, bytes);
+
+        // Act & Assert
+        assertThrows(IOException.class, () -> OffHeapUserStore.open(file));
+    }
+
+    @Test
+    void shouldRejectInvalidArguments() {
+        // Arrange
+        OffHeapUserStore store = OffHeapUserStore.inMemory(OffHeapUserStore.MIN_SEGMENT_SIZE);
+        UserDto huge = new UserDto(1L, "x".repeat(OffHeapUserStore.MIN_SEGMENT_SIZE), null, null, null, null);
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> store.put(null));
+        assertThrows(IllegalArgumentException.class, () -> store.put(new UserDto(null, "a", "b", "c", NOW, NOW)));
+        assertThrows(IllegalArgumentException.class, () -> store.put(huge));
+        assertThrows(IllegalArgumentException.class, () -> OffHeapUserStore.inMemory(1024));
+    }
+
+    @Test
+    void shouldThrowIllegalStateException_whenClosed() throws IOException {
+        // Arrange
+        OffHeapUserStore store = OffHeapUserStore.open(directory.resolve("users.store"), OffHeapUserStore.MIN_SEGMENT_SIZE);
+        store.close();
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> store.get(1));
+        assertThrows(IllegalStateException.class, () -> store.put(user(1)));
+        assertDoesNotThrow(store::close);
+    }
+
+    @Test
+    void shouldReadConsistentUsers_whileWriterUpdates() throws InterruptedException {
+        // Arrange
+        OffHeapUserStore store = OffHeapUserStore.inMemory(OffHeapUserStore.MIN_SEGMENT_SIZE);
+        for (long id = 1; id <= 100; id++) {
+            store.put(user(id));
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < 4; r++) {
+            Thread reader = new Thread(() -> {
+                for (int i = 0; i < 20_000 && failure.get() == null; i++) {
+                    long id = 1 + i % 100;
+                    UserDto read = store.get(id);
+                    if (read == null || read.id() != id || !read.email().equals(read.username() + "@example.com")) {
+                        failure.set(new AssertionError("Inconsistent read of id " + id + ": " + read));
+                    }
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        // Act
+        for (int round = 0; round < 50; round++) {
+            for (long id = 1; id <= 100; id++) {
+                store.put(new UserDto(id, "u" + round + "-" + id, "u" + round + "-" + id + "@example.com",
+                        null, NOW, NOW));
+            }
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        // Assert
+        assertNull(failure.get());
+        assertEquals(100, store.size());
+    }
+}
@@ -2,8 +2,13 @@ package com.ecosystem.common.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -31,6 +36,110 @@ class DateUtilsTest {
         assertThrows(NullPointerException.class, () -> DateUtils.formatIso(null));
     }
 
+    @Test
+    void shouldMatchIsoInstant_whenFormattingRandomInstants() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            long seconds = random.nextLong(-62_167_219_200L, 253_402_300_800L);
+            int nanos = switch (i % 4) {
+                case 0 -> 0;
+                case 1 -> random.nextInt(1_000) * 1_000_000;
+                case 2 -> random.nextInt(1_000_000) * 1_000;
+                default -> random.nextInt(1_000_000_000);
+            };
+            Instant instant = Instant.ofEpochSecond(seconds, nanos);
+
+            // Act
+            String result = DateUtils.formatIso(instant);
+
+            // Assert
+            assertEquals(DateTimeFormatter.ISO_INSTANT.format(instant), result);
+        }
+    }
+
+    @Test
+    void shouldMatchIsoInstant_whenFormattingEdgeInstants() {
+        // Arrange
+        Instant[] instants = {
+            Instant.EPOCH, Instant.MIN, Instant.MAX,
+            Instant.parse("0000-01-01T00:00:00Z"), Instant.parse("9999-12-31T23:59:59.999999999Z"),
+            Instant.parse("+10000-01-01T00:00:00Z"), Instant.parse("-0001-12-31T23:59:59.5Z"),
+            Instant.parse("2024-02-29T23:59:59.000001Z"), Instant.parse("1969-12-31T23:59:59.1Z")
+        };
+
+        for (Instant instant : instants) {
+            // Act
+            String result = DateUtils.formatIso(instant);
+
+            // Assert
+            assertEquals(DateTimeFormatter.ISO_INSTANT.format(instant), result);
+        }
+    }
+
+    @Test
+    void shouldAppendIsoString_whenFormatIsoCalledWithStringBuilder() {
+        // Arrange
+        Instant instant = Instant.parse("2024-01-15T10:30:00.123Z");
+        StringBuilder out = new StringBuilder("at ");
+
+        // Act
+        StringBuilder result = DateUtils.formatIso(instant, out);
+
+        // Assert
+        assertSame(out, result);
+        assertEquals("at 2024-01-15T10:30:00.123Z", out.toString());
+    }
+
+    @Test
+    void shouldWriteChars_whenFormatIsoCalledWithCharArray() {
+        // Arrange
+        Instant instant = Instant.parse("2024-01-15T10:30:00.123456Z");
+        char[] dst = new char[40];
+
+        // Act
+        int written = DateUtils.formatIso(instant, dst, 5);
+
+        // Assert
+        assertEquals("2024-01-15T10:30:00.123456Z", new String(dst, 5, written));
+    }
+
+    @Test
+    void shouldWriteUtf8Bytes_whenFormatIsoUtf8Called() {
+        // Arrange
+        Instant instant = Instant.parse("2024-01-15T10:30:00.123456789Z");
+        byte[] dst = new byte[30];
+
+        // Act
+        int written = DateUtils.formatIsoUtf8(instant, dst, 0);
+
+        // Assert
+        assertEquals("2024-01-15T10:30:00.123456789Z", new String(dst, 0, written, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldWriteFallbackText_whenFormatIsoUtf8CalledWithFarFutureInstant() {
+        // Arrange
+        byte[] dst = new byte[64];
+
+        // Act
+        int written = DateUtils.formatIsoUtf8(Instant.MAX, dst, 0);
+
+        // Assert
+        assertEquals(Instant.MAX.toString(), new String(dst, 0, written, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shouldThrowIndexOutOfBounds_whenDestinationTooSmall() {
+        // Arrange
+        Instant instant = Instant.parse("2024-01-15T10:30:00Z");
+
+        // Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> DateUtils.formatIso(instant, new char[19], 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> DateUtils.formatIsoUtf8(instant, new byte[30], 11));
+    }
+
     // --- parseIso ---
 
     @Test
@@ -55,6 +164,97 @@ class DateUtilsTest {
         assertThrows(DateTimeParseException.class, () -> DateUtils.parseIso("not-a-date"));
     }
 
+    @Test
+    void shouldMatchInstantParse_whenParsingRandomCanonicalText() {
+        // Arrange
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 100_000; i++) {
+            Instant expected = Instant.ofEpochSecond(
+                    random.nextLong(-62_167_219_200L, 253_402_300_800L), random.nextInt(1_000_000_000));
+            String text = expected.toString();
+            if (i % 3 == 0) {
+                // Trim the fraction to a random number of digits, including none
+                int digits = random.nextInt(10);
+                text = text.substring(0, 19) + (digits == 0 ? "" : "." + String.format("%09d", expected.getNano())
+                        .substring(0, digits)) + "Z";
+            }
+            byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+
+            // Act
+            Instant result = DateUtils.parseIso(text);
+            Instant resultUtf8 = DateUtils.parseIsoUtf8(utf8, 0, utf8.length);
+
+            // Assert
+            assertEquals(Instant.parse(text), result);
+            assertEquals(result, resultUtf8);
+        }
+    }
+
+    @Test
+    void shouldFallBackToInstantParse_whenTextIsNotCanonical() {
+        // Arrange
+        String[] texts = {
+            "2024-01-15T10:30:00+01:00", "2024-01-15t10:30:00z", "2016-12-31T23:59:60Z",
+            "+10000-01-01T00:00:00Z", "-0001-06-01T00:00:00Z", "2024-01-15T24:00:00Z",
+            "2024-01-15T10:30:00.Z"
+        };
+
+        for (String text : texts) {
+            // Act
+            Instant result = DateUtils.parseIso(new StringBuilder(text));
+
+            // Assert
+            assertEquals(Instant.parse(text), result);
+        }
+    }
+
+    @Test
+    void shouldThrowDateTimeParseException_whenFieldsOutOfRange() {
+        // Arrange
+        String[] texts = {
+            "2023-02-29T00:00:00Z", "2024-13-01T00:00:00Z", "2024-04-31T00:00:00Z",
+            "2024-01-15T10:30:00.1234567890Z", "2024-01-15T10:60:00Z", "2024-01-15T10:30:00"
+        };
+
+        for (String text : texts) {
+            byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+
+            // Assert
+            assertThrows(DateTimeParseException.class, () -> DateUtils.parseIso(text), text);
+            assertThrows(DateTimeParseException.class, () -> DateUtils.parseIsoUtf8(utf8, 0, utf8.length), text);
+        }
+    }
+
+    @Test
+    void shouldReturnEpochMillis_whenParseIsoToEpochMillisCalled() {
+        // Arrange
+        String[] texts = {"2024-01-15T10:30:00.123456789Z", "1969-12-31T23:59:59.999Z", "0000-01-01T00:00:00.5Z"};
+
+        for (String text : texts) {
+            byte[] utf8 = ("[" + text + "]").getBytes(StandardCharsets.UTF_8);
+
+            // Act
+            long millis = DateUtils.parseIsoToEpochMillis(text);
+            long millisUtf8 = DateUtils.parseIsoUtf8ToEpochMillis(utf8, 1, utf8.length - 2);
+
+            // Assert
+            assertEquals(Instant.parse(text).toEpochMilli(), millis);
+            assertEquals(millis, millisUtf8);
+        }
+    }
+
+    @Test
+    void shouldThrowIndexOutOfBounds_whenUtf8RangeOutsideArray() {
+        assertThrows(IndexOutOfBoundsException.class, () -> DateUtils.parseIsoUtf8(new byte[10], 5, 20));
+    }
+
+    @Test
+    void shouldThrowNullPointer_whenParseIsoUtf8CalledWithNull() {
+        assertThrows(NullPointerException.class, () -> DateUtils.parseIsoUtf8(null, 0, 0));
+        assertThrows(NullPointerException.class, () -> DateUtils.parseIsoToEpochMillis(null));
+    }
+
     @Test
     void shouldBeSymmetric_whenFormatAndParseRoundTrip() {
         // Arrange
@@ -99,6 +299,50 @@ class DateUtilsTest {
         assertThrows(NullPointerException.class, () -> DateUtils.isExpired(null));
     }
 
+    @Test
+    void shouldCompareMillis_whenIsExpiredCalledWithEpochMillis() {
+        assertTrue(DateUtils.isExpired(999L, 1_000L));
+        assertFalse(DateUtils.isExpired(1_000L, 1_000L));
+        assertFalse(DateUtils.isExpired(1_001L, 1_000L));
+    }
+
+    @Test
+    void shouldCompareAgainstGivenClock_whenIsExpiredCalledWithClock() {
+        // Arrange
+        Instant deadline = Instant.parse("2024-01-15T10:30:00Z");
+        Clock before = Clock.fixed(deadline.minusMillis(1), ZoneOffset.UTC);
+        Clock at = Clock.fixed(deadline, ZoneOffset.UTC);
+        Clock after = Clock.fixed(deadline.plusNanos(1), ZoneOffset.UTC);
+
+        // Assert
+        assertFalse(DateUtils.isExpired(deadline, before));
+        assertFalse(DateUtils.isExpired(deadline, at));
+        assertTrue(DateUtils.isExpired(deadline, after));
+    }
+
+    @Test
+    void shouldThrowNullPointer_whenIsExpiredCalledWithNullClock() {
+        assertThrows(NullPointerException.class, () -> DateUtils.isExpired(Instant.now(), null));
+    }
+
+    @Test
+    void shouldUseReplacedClock_whenSetClockCalled() {
+        // Arrange
+        Instant fixed = Instant.parse("2030-01-01T00:00:00Z");
+        DateUtils.setClock(Clock.fixed(fixed, ZoneOffset.UTC));
+        try {
+            // Act
+            Instant now = DateUtils.clock().instant();
+
+            // Assert
+            assertEquals(fixed, now);
+            assertTrue(DateUtils.isExpired(fixed.minusSeconds(1)));
+        } finally {
+            DateUtils.setClock(null);
+        }
+        assertNotEquals(fixed, DateUtils.clock().instant());
+    }
+
     @Test
     void shouldThrowException_whenInstantiationAttempted() {
         // DateUtils constructor is private; verify via reflection
@@ -0,0 +1,212 @@
+package com.ecosystem.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ExpiryWheel}.
+ */
+class ExpiryWheelTest {
+
+    private static final long START = 1_700_000_000_000L;
+
+    @Test
+    void shouldReturnItem_onlyOnceDeadlineIsBeforeNow() {
+        // Arrange
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(Duration.ofMillis(1), START);
+        wheel.schedule("session", START + 10);
+
+        // Act
+        List<String> atDeadline = wheel.advance(START + 10);
+        List<String> afterDeadline = wheel.advance(START + 11);
+
+        // Assert
+        assertEquals(List.of(), atDeadline);
+        assertEquals(List.of("session"), afterDeadline);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldExpireImmediately_whenDeadlineAlreadyPassed() {
+        // Arrange
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(Duration.ofMillis(1), START);
+        wheel.advance(START + 100);
+        wheel.schedule("stale", START);
+
+        // Act
+        List<String> expired = wheel.advance(START + 100);
+
+        // Assert
+        assertEquals(List.of("stale"), expired);
+    }
+
+    @Test
+    void shouldNotReturnItem_whenCancelled() {
+        // Arrange
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(Duration.ofMillis(1), START);
+        ExpiryWheel.Handle<String> handle = wheel.schedule("token", START + 5);
+
+        // Act
+        boolean cancelled = handle.cancel();
+
+        // Assert
+        assertTrue(cancelled);
+        assertTrue(handle.isCancelled());
+        assertFalse(handle.cancel());
+        assertEquals(0, wheel.size());
+        assertEquals(List.of(), wheel.advance(START + 1_000));
+    }
+
+    @Test
+    void shouldNotCancel_whenAlreadyExpired() {
+        // Arrange
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(Duration.ofMillis(1), START);
+        ExpiryWheel.Handle<String> handle = wheel.schedule("token", START + 5);
+        wheel.advance(START + 6);
+
+        // Act & Assert
+        assertFalse(handle.cancel());
+        assertEquals("token", handle.item());
+        assertEquals(START + 5, handle.deadlineMillis());
+    }
+
+    @Test
+    void shouldCascadeFarDeadlines_whenTimeJumpsAcrossLevels() {
+        // Arrange
+        ExpiryWheel<Long> wheel = new ExpiryWheel<>(Duration.ofMillis(1), START);
+        long[] offsets = {63, 64, 4_095, 4_096, 300_000, 20_000_000, 90L * 24 * 3_600_000, 5L * 365 * 86_400_000};
+        for (long offset : offsets) {
+            wheel.schedule(offset, START + offset);
+        }
+
+        for (long offset : offsets) {
+            // Act
+            List<Long> early = wheel.advance(START + offset);
+            List<Long> due = wheel.advance(START + offset + 1);
+
+            // Assert
+            assertEquals(List.of(), early, "offset " + offset);
+            assertEquals(List.of(offset), due, "offset " + offset);
+        }
+    }
+
+    @Test
+    void shouldSkipEmptyWindows_whenFarDeadlineIsPending() {
+        // Arrange
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(Duration.ofMillis(1), START);
+        long far = START + 5L * 365 * 86_400_000;
+        wheel.schedule("far", far);
+        wheel.schedule("soon", START + 10);
+
+        List<String> expired = new ArrayList<>();
+
+        // Act
+        assertTimeoutPreemptively(Duration.ofSeconds(2), () -> {
+            for (long now = START; now <= far; now += 86_400_000) {
+                wheel.advance(now, expired::add);
+            }
+            wheel.advance(far + 1, expired::add);
+        });
+
+        // Assert
+        assertEquals(List.of("soon", "far"), expired);
+    }
+
+    @Test
+    void shouldMatchBruteForceSweep_whenRandomlyScheduledCancelledAndAdvanced() {
+        // Arrange
+        Random random = new Random(3);
+        ExpiryWheel<Integer> wheel = new ExpiryWheel<>(Duration.ofMillis(7), START);
+        Map<Integer, Long> deadlines = new HashMap<>();
+        Map<Integer, ExpiryWheel.Handle<Integer>> handles = new HashMap<>();
+        long now = START;
+
+        for (int round = 0; round < 2_000; round++) {
+            for (int i = 0; i < 5; i++) {
+                int id = round * 5 + i;
+                long deadline = now - 50 + (long) (random.nextDouble() * random.nextDouble() * 2_000_000);
+                handles.put(id, wheel.schedule(id, deadline));
+                deadlines.put(id, deadline);
+            }
+            if (random.nextInt(4) == 0 && !handles.isEmpty()) {
+                Integer victim = handles.keySet().iterator().next();
+                assertTrue(handles.remove(victim).cancel());
+                deadlines.remove(victim);
+            }
+            now += random.nextInt(3) == 0 ? random.nextInt(20_000) : random.nextInt(20);
+
+            // Act
+            Set<Integer> expired = new HashSet<>(wheel.advance(now));
+
+            // Assert
+            Set<Integer> expected = new HashSet<>();
+            for (Map.Entry<Integer, Long> entry : deadlines.entrySet()) {
+                if (DateUtils.isExpired(entry.getValue(), now)) {
+                    expected.add(entry.getKey());
+                }
+            }
+            assertEquals(expected, expired, "round " + round);
+            expected.forEach(id -> {
+                deadlines.remove(id);
+                handles.remove(id);
+            });
+            assertEquals(deadlines.size(), wheel.size());
+        }
+    }
+
+    @Test
+    void shouldExpireEveryItem_whenScheduledConcurrently() throws InterruptedException {
+        // Arrange
+        ExpiryWheel<Integer> wheel = new ExpiryWheel<>(Duration.ofMillis(1), START);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Integer> expired = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 4; t++) {
+            int base = t * 10_000;
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    wheel.schedule(base + i, START + i);
+                }
+            });
+        }
+        for (long now = START; !executor.isTerminated(); now += 100) {
+            executor.shutdown();
+            wheel.advance(Math.min(now, START + 5_000), expired::add);
+            executor.awaitTermination(1, TimeUnit.MILLISECONDS);
+        }
+        wheel.advance(START + 20_000, expired::add);
+
+        // Assert
+        assertEquals(40_000, expired.size());
+        assertEquals(40_000, new HashSet<>(expired).size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void shouldThrowIllegalArgument_whenTickShorterThanOneMillisecond() {
+        assertThrows(IllegalArgumentException.class, () -> new ExpiryWheel<>(Duration.ofNanos(10), START));
+    }
+
+    @Test
+    void shouldThrowNullPointer_whenItemIsNull() {
+        // Arrange
+        ExpiryWheel<String> wheel = new ExpiryWheel<>(Duration.ofMillis(1), START);
+
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> wheel.schedule(null, START));
+    }
+}
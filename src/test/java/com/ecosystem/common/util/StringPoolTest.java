@@ -0,0 +1,133 @@
+package com.ecosystem.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link StringPool}.
+ */
+class StringPoolTest {
+
+    @Test
+    void shouldReturnPooledInstance_whenEqualStringInterned() {
+        // Arrange
+        StringPool pool = new StringPool();
+        String first = new String("jdoe@example.com");
+        String second = new String("jdoe@example.com");
+
+        // Act
+        String pooledFirst = pool.intern(first);
+        String pooledSecond = pool.intern(second);
+
+        // Assert
+        assertSame(first, pooledFirst);
+        assertSame(first, pooledSecond);
+        assertEquals(1, pool.hitCount());
+        assertEquals(1, pool.missCount());
+        assertEquals(0.5, pool.hitRate());
+    }
+
+    @Test
+    void shouldReturnNull_whenInterningNull() {
+        // Act & Assert
+        assertNull(new StringPool().intern(null));
+    }
+
+    @Test
+    void shouldShareInstanceWithStringOverload_whenInterningCharRange() {
+        // Arrange
+        StringPool pool = new StringPool();
+        String pooled = pool.intern(new String("Success"));
+        char[] buffer = "xxSuccessyy".toCharArray();
+
+        // Act
+        String result = pool.intern(buffer, 2, 7);
+
+        // Assert
+        assertSame(pooled, result);
+        assertEquals(1, pool.hitCount());
+    }
+
+    @Test
+    void shouldCreateString_whenCharRangeMisses() {
+        // Arrange
+        StringPool pool = new StringPool();
+
+        // Act
+        String result = pool.intern("abc".toCharArray(), 0, 3);
+
+        // Assert
+        assertEquals("abc", result);
+        assertSame(result, pool.intern("abc"));
+        assertEquals("", pool.intern(new char[0], 0, 0));
+    }
+
+    @Test
+    void shouldThrowIndexOutOfBounds_whenCharRangeInvalid() {
+        // Act & Assert
+        assertThrows(IndexOutOfBoundsException.class, () -> new StringPool().intern(new char[2], 1, 2));
+    }
+
+    @Test
+    void shouldRoundCapacityToPowerOfTwo_whenCreated() {
+        // Assert
+        assertEquals(8, new StringPool(5).capacity());
+        assertEquals(8, new StringPool(8).capacity());
+        assertEquals(StringPool.DEFAULT_CAPACITY, new StringPool().capacity());
+    }
+
+    @Test
+    void shouldThrowIllegalArgument_whenCapacityNotPositive() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new StringPool(0));
+    }
+
+    @Test
+    void shouldStayBoundedAndCorrect_whenMoreDistinctValuesThanSlots() {
+        // Arrange
+        StringPool pool = new StringPool(4);
+
+        // Act & Assert
+        for (int i = 0; i < 1_000; i++) {
+            String value = "user" + i;
+            assertEquals(value, pool.intern(value));
+        }
+        assertEquals(1_000, pool.missCount());
+        assertEquals(0, pool.hitRate());
+    }
+
+    @Test
+    void shouldReturnEqualStrings_whenInternedConcurrently() throws Exception {
+        // Arrange
+        StringPool pool = new StringPool(16);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // Act
+        for (int t = 0; t < 4; t++) {
+            results.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    String value = "value" + (i % 64);
+                    if (!value.equals(pool.intern(value))) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        executor.shutdown();
+
+        // Assert
+        for (Future<Boolean> result : results) {
+            assertTrue(result.get());
+        }
+        assertEquals(40_000, pool.hitCount() + pool.missCount());
+    }
+}
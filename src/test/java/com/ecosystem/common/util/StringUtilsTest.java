@@ -2,6 +2,15 @@ package com.ecosystem.common.util;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Pattern;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -36,6 +45,178 @@ class StringUtilsTest {
         assertFalse(StringUtils.isBlank("  a  "));
     }
 
+    // --- bulk and UTF-8 isBlank ---
+
+    @Test
+    void shouldReturnIndexOfFirstBlank_whenArrayContainsBlanks() {
+        assertEquals(1, StringUtils.indexOfBlank("a", " ", null));
+        assertEquals(-1, StringUtils.indexOfBlank("a", "b"));
+        assertTrue(StringUtils.isAnyBlank("a", null));
+        assertFalse(StringUtils.isAnyBlank());
+    }
+
+    @Test
+    void shouldReturnIndexOfFirstBlank_whenListContainsBlanks() {
+        assertEquals(2, StringUtils.indexOfBlank(Arrays.asList("a", "b", "\t")));
+        assertEquals(1, StringUtils.indexOfBlank(new LinkedList<>(Arrays.asList("a", null))));
+        assertFalse(StringUtils.isAnyBlank(List.of("a", "b")));
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenBulkValuesNull() {
+        assertThrows(NullPointerException.class, () -> StringUtils.isAnyBlank((String[]) null));
+        assertThrows(NullPointerException.class, () -> StringUtils.isAnyBlank((List<String>) null));
+    }
+
+    @Test
+    void shouldCheckOnlyRange_whenIsBlankUtf8CalledWithOffset() {
+        // Arrange
+        byte[] bytes = "x         \t\n  y".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertTrue(StringUtils.isBlankUtf8(bytes, 1, bytes.length - 2));
+        assertFalse(StringUtils.isBlankUtf8(bytes, 0, bytes.length - 1));
+        assertTrue(StringUtils.isBlankUtf8(bytes, 3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.isBlankUtf8(bytes, 2, bytes.length));
+    }
+
+    @Test
+    void shouldMatchDecodedIsBlank_whenBytesAreRandomWhitespaceMixes() {
+        // Arrange
+        String[] pieces = {" ", "\t", "\n", "\u001F", "\u3000", "\u2007", "\u00A0", "a", "é", "        "};
+        Random random = new Random(42);
+
+        for (int run = 0; run < 2_000; run++) {
+            StringBuilder sb = new StringBuilder();
+            int count = random.nextInt(12);
+            for (int i = 0; i < count; i++) {
+                sb.append(pieces[random.nextInt(random.nextBoolean() ? 4 : pieces.length)]);
+            }
+            String text = sb.toString();
+            byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length + 1).put((byte) 'x').put(bytes).position(1);
+
+            // Act & Assert
+            assertEquals(text.isBlank(), StringUtils.isBlankUtf8(bytes, 0, bytes.length), text);
+            assertEquals(text.isBlank(), StringUtils.isBlankUtf8(ByteBuffer.wrap(bytes)), text);
+            assertEquals(text.isBlank(), StringUtils.isBlankUtf8(direct), text);
+            assertEquals(1, direct.position());
+        }
+    }
+
+    @Test
+    void shouldReturnFalse_whenUtf8BytesMalformed() {
+        assertFalse(StringUtils.isBlankUtf8(new byte[] {' ', (byte) 0xC3}, 0, 2));
+    }
+
+    // --- isValidEmail / isValidUsername ---
+
+    private static final String ATEXT = "[A-Za-z0-9!#$%&'*+/=?^_`{|}~-]";
+    private static final String LABEL = "[A-Za-z0-9](?:[A-Za-z0-9-]{0,61}[A-Za-z0-9])?";
+    private static final Pattern EMAIL_REFERENCE = Pattern.compile("(?=.{1,254}\\z)(?=[^@]{1,64}@)"
+            + ATEXT + "+(?:\\." + ATEXT + "+)*@" + LABEL + "(?:\\." + LABEL + ")+", Pattern.DOTALL);
+    private static final Pattern USERNAME_REFERENCE = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{2,31}");
+
+    @Test
+    void shouldAcceptEmail_whenWellFormed() {
+        assertTrue(StringUtils.isValidEmail("john.doe@example.com"));
+        assertTrue(StringUtils.isValidEmail("o'brien+tag@mail.example-host.co.uk"));
+        assertTrue(StringUtils.isValidEmail("a@b.c"));
+        assertTrue(StringUtils.isValidEmail(new StringBuilder("x_y@1.io")));
+        assertTrue(StringUtils.isValidEmail("a".repeat(64) + "@" + "b".repeat(63) + ".io"));
+    }
+
+    @Test
+    void shouldRejectEmail_whenMalformed() {
+        for (String email : Arrays.asList(null, "", "john", "@example.com", "john@", "john@example",
+                "john@example.", "john@.example.com", "john@exa..mple.com", ".john@example.com",
+                "john.@example.com", "jo..hn@example.com", "jo hn@example.com", "john@-example.com",
+                "john@example-.com", "john@exa_mple.com", "john@@example.com", "jöhn@example.com",
+                "a".repeat(65) + "@example.com", "john@" + "b".repeat(64) + ".io",
+                "a@" + "b.".repeat(126) + "io")) {
+            assertFalse(StringUtils.isValidEmail(email), email);
+        }
+    }
+
+    @Test
+    void shouldAcceptUsername_whenWellFormed() {
+        assertTrue(StringUtils.isValidUsername("john.doe"));
+        assertTrue(StringUtils.isValidUsername("0_a-b"));
+        assertTrue(StringUtils.isValidUsername("abc"));
+        assertTrue(StringUtils.isValidUsername("a".repeat(32)));
+    }
+
+    @Test
+    void shouldRejectUsername_whenMalformed() {
+        for (String username : Arrays.asList(null, "", "ab", "a".repeat(33), ".john", "_john", "-john",
+                "jo hn", "jöhn", "john@doe")) {
+            assertFalse(StringUtils.isValidUsername(username), username);
+        }
+    }
+
+    @Test
+    void shouldCheckOnlyRange_whenFormatValidatedOverBytes() {
+        // Arrange
+        byte[] bytes = "<<john@example.com>>".getBytes(StandardCharsets.UTF_8);
+
+        // Act & Assert
+        assertTrue(StringUtils.isValidEmail(bytes, 2, 16));
+        assertFalse(StringUtils.isValidEmail(bytes, 1, 17));
+        assertTrue(StringUtils.isValidUsername(bytes, 2, 4));
+        assertFalse(StringUtils.isValidUsername(bytes, 2, 5));
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.isValidEmail(bytes, 10, bytes.length));
+        assertThrows(IndexOutOfBoundsException.class, () -> StringUtils.isValidUsername(bytes, -1, 3));
+    }
+
+    @Test
+    void shouldMatchReferenceRegex_whenRandomInputsValidated() {
+        // Arrange
+        String[] pieces = {"a", "Z", "7", "-", "_", ".", "@", "+", "'", " ", "é", "\u00FF", "\uD83D\uDE00",
+                "\n", "example", ".com", "a".repeat(62), "b".repeat(63)};
+        Random random = new Random(2024);
+
+        for (int run = 0; run < 20_000; run++) {
+            StringBuilder sb = new StringBuilder();
+            int count = random.nextInt(16);
+            for (int i = 0; i < count; i++) {
+                sb.append(pieces[random.nextInt(random.nextBoolean() ? 10 : pieces.length)]);
+            }
+            String text = sb.toString();
+            byte[] bytes = ("#" + text).getBytes(StandardCharsets.UTF_8);
+            boolean email = EMAIL_REFERENCE.matcher(text).matches();
+            boolean username = USERNAME_REFERENCE.matcher(text).matches();
+
+            // Act & Assert
+            assertEquals(email, StringUtils.isValidEmail(text), text);
+            assertEquals(email, StringUtils.isValidEmail(bytes, 1, bytes.length - 1), text);
+            assertEquals(username, StringUtils.isValidUsername(text), text);
+            assertEquals(username, StringUtils.isValidUsername(bytes, 1, bytes.length - 1), text);
+        }
+    }
+
+    @Test
+    void shouldMatchReferenceRegex_whenValidEmailsMutated() {
+        // Arrange
+        String alphabet = "aZ9-_.@+!é ";
+        Random random = new Random(99);
+
+        for (int run = 0; run < 20_000; run++) {
+            StringBuilder sb = new StringBuilder("first.last+tag@mail.example-host.org");
+            for (int edits = random.nextInt(4); edits > 0; edits--) {
+                int at = random.nextInt(sb.length());
+                switch (random.nextInt(3)) {
+                    case 0 -> sb.deleteCharAt(at);
+                    case 1 -> sb.insert(at, alphabet.charAt(random.nextInt(alphabet.length())));
+                    default -> sb.setCharAt(at, alphabet.charAt(random.nextInt(alphabet.length())));
+                }
+            }
+            String text = sb.toString();
+
+            // Act & Assert
+            assertEquals(EMAIL_REFERENCE.matcher(text).matches(), StringUtils.isValidEmail(sb), text);
+        }
+    }
+
     // --- truncate ---
 
     @Test
@@ -68,6 +249,109 @@ class StringUtilsTest {
         assertThrows(IllegalArgumentException.class, () -> StringUtils.truncate("hello", -1));
     }
 
+    @Test
+    void shouldAppendPrefix_whenTruncateCalledWithBuilder() {
+        // Arrange
+        StringBuilder out = new StringBuilder("> ");
+
+        // Act
+        StringBuilder result = StringUtils.truncate("hello", 3, out);
+        StringUtils.truncate(null, 3, out);
+        StringUtils.truncate("!", 3, out);
+
+        // Assert
+        assertSame(out, result);
+        assertEquals("> hel!", out.toString());
+    }
+
+    @Test
+    void shouldReturnSameInstance_whenTruncateNotNeeded() {
+        // Arrange
+        String value = new String("hello");
+
+        // Act & Assert
+        assertSame(value, StringUtils.truncate(value, 5));
+    }
+
+    // --- code point and UTF-8 byte truncation ---
+
+    @Test
+    void shouldDropWholeSurrogatePair_whenCutWouldSplitIt() {
+        // Arrange
+        String value = "ab\uD83D\uDE00c";
+
+        // Act & Assert
+        assertEquals("ab", StringUtils.truncateAtCodePoint(value, 3));
+        assertEquals("ab\uD83D\uDE00", StringUtils.truncateAtCodePoint(value, 4));
+        assertEquals("", StringUtils.truncateAtCodePoint(value, 0));
+        assertSame(value, StringUtils.truncateAtCodePoint(value, 5));
+        assertNull(StringUtils.truncateAtCodePoint(null, 1));
+    }
+
+    @Test
+    void shouldKeepLongestFittingPrefix_whenTruncatingToUtf8Bytes() {
+        // Arrange
+        String value = "aé€\uD83D\uDE00";
+
+        // Act & Assert
+        assertEquals("a", StringUtils.truncateToUtf8Bytes(value, 2));
+        assertEquals("aé", StringUtils.truncateToUtf8Bytes(value, 5));
+        assertEquals("aé€", StringUtils.truncateToUtf8Bytes(value, 9));
+        assertSame(value, StringUtils.truncateToUtf8Bytes(value, 10));
+        assertEquals("", StringUtils.truncateToUtf8Bytes(value, 0));
+    }
+
+    @Test
+    void shouldMatchEncodedPrefix_whenRandomStringsTruncatedToUtf8Bytes() {
+        // Arrange
+        String alphabet = "az é€\uD83D\uDE00\uDFFF";
+        Random random = new Random(11);
+
+        for (int run = 0; run < 2_000; run++) {
+            StringBuilder sb = new StringBuilder();
+            int length = random.nextInt(10);
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String value = sb.toString();
+            int maxBytes = random.nextInt(24);
+            ByteBuffer buffer = ByteBuffer.allocate(32);
+
+            // Act
+            String result = StringUtils.truncateToUtf8Bytes(value, maxBytes);
+            int written = StringUtils.truncateToUtf8Bytes(value, maxBytes, buffer);
+
+            // Assert
+            byte[] encoded = result.getBytes(StandardCharsets.UTF_8);
+            assertTrue(value.startsWith(result), value);
+            assertTrue(encoded.length <= maxBytes, value);
+            assertFalse(result.length() < value.length() && result.length() > 0
+                    && Character.isHighSurrogate(result.charAt(result.length() - 1))
+                    && Character.isLowSurrogate(value.charAt(result.length())), value);
+            if (result.length() < value.length()) {
+                int next = result.length() + Character.charCount(value.codePointAt(result.length()));
+                assertTrue(value.substring(0, next).getBytes(StandardCharsets.UTF_8).length > maxBytes, value);
+            }
+            assertArrayEquals(encoded, Arrays.copyOf(buffer.array(), written), value);
+            assertEquals(written, buffer.position());
+        }
+    }
+
+    @Test
+    void shouldStopAtBufferLimit_whenWritingTruncatedUtf8() {
+        // Arrange
+        ByteBuffer buffer = ByteBuffer.allocateDirect(4);
+
+        // Act
+        int written = StringUtils.truncateToUtf8Bytes("éééé", 100, buffer);
+
+        // Assert
+        assertEquals(4, written);
+        assertEquals(0, StringUtils.truncateToUtf8Bytes(null, 4, buffer));
+        assertThrows(IllegalArgumentException.class, () -> StringUtils.truncateToUtf8Bytes("a", -1, buffer));
+        assertThrows(NullPointerException.class, () -> StringUtils.truncateToUtf8Bytes("a", 1, null));
+    }
+
     // --- capitalize ---
 
     @Test
@@ -95,6 +379,79 @@ class StringUtilsTest {
         assertEquals("A", StringUtils.capitalize("a"));
     }
 
+    @Test
+    void shouldReturnSameInstance_whenAlreadyCapitalized() {
+        // Arrange
+        String ascii = new String("Hello world 42");
+        String nonAscii = new String("Ärger über");
+
+        // Act & Assert
+        assertSame(ascii, StringUtils.capitalize(ascii));
+        assertSame(nonAscii, StringUtils.capitalize(nonAscii));
+    }
+
+    @Test
+    void shouldMapNonAsciiCase_whenNonAsciiStringProvided() {
+        assertEquals("Ärger über", StringUtils.capitalize("äRGER ÜBER"));
+        assertEquals("Σοφία", StringUtils.capitalize("σΟΦΊΑ"));
+    }
+
+    @Test
+    void shouldMatchLegacyCapitalize_whenRandomStringsProvided() {
+        // Arrange
+        String alphabet = "aZ 9_-ßÄéİIıΣς\uD83D\uDE00";
+        Random random = new Random(7);
+
+        for (int run = 0; run < 2_000; run++) {
+            StringBuilder sb = new StringBuilder();
+            int length = 1 + random.nextInt(8);
+            for (int i = 0; i < length; i++) {
+                sb.append(alphabet.charAt(random.nextInt(random.nextBoolean() ? 4 : alphabet.length())));
+            }
+            String value = sb.toString();
+            String expected = Character.toUpperCase(value.charAt(0)) + value.substring(1).toLowerCase();
+
+            // Act & Assert
+            assertEquals(expected, StringUtils.capitalize(value), value);
+            assertEquals(expected, StringUtils.capitalize(value, new StringBuilder()).toString(), value);
+        }
+    }
+
+    @Test
+    void shouldUseLocaleRules_whenDefaultLocaleIsTurkish() {
+        // Arrange
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            // Act & Assert
+            assertEquals("Kı", StringUtils.capitalize("KI"));
+            assertEquals("Kı", StringUtils.capitalize("KI", new StringBuilder()).toString());
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void shouldAppendCapitalized_whenCapitalizeCalledWithBuilder() {
+        // Arrange
+        StringBuilder out = new StringBuilder();
+
+        // Act
+        StringUtils.capitalize("jOHN", out).append(' ');
+        StringUtils.capitalize(null, out);
+        StringUtils.capitalize("", out);
+        StringUtils.capitalize("dOE", out);
+
+        // Assert
+        assertEquals("John Doe", out.toString());
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenBuilderIsNull() {
+        assertThrows(NullPointerException.class, () -> StringUtils.capitalize("a", null));
+        assertThrows(NullPointerException.class, () -> StringUtils.truncate("a", 1, null));
+    }
+
     @Test
     void shouldThrowException_whenInstantiationAttempted() {
         // StringUtils constructor is private; verify via reflection
@@ -0,0 +1,119 @@
+package com.ecosystem.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TickingClock}.
+ */
+class TickingClockTest {
+
+    @Test
+    void shouldReturnTimeCloseToNow_whenStarted() {
+        // Arrange
+        Instant before = Instant.now().minusSeconds(1);
+
+        try (TickingClock clock = TickingClock.start(Duration.ofMillis(1))) {
+            // Act
+            Instant instant = clock.instant();
+
+            // Assert
+            assertTrue(instant.isAfter(before));
+            assertTrue(instant.isBefore(Instant.now().plusSeconds(1)));
+            assertEquals(instant.toEpochMilli(), clock.millis(), 1_000);
+        }
+    }
+
+    @Test
+    void shouldAdvance_whenGranularityElapses() throws InterruptedException {
+        try (TickingClock clock = TickingClock.start(Duration.ofMillis(1))) {
+            // Arrange
+            long first = clock.millis();
+
+            // Act
+            long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+            while (clock.millis() == first && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            // Assert
+            assertTrue(clock.millis() > first);
+        }
+    }
+
+    @Test
+    void shouldKeepMillisAndInstantInStep_whileTicking() {
+        try (TickingClock clock = TickingClock.start(Duration.ofMillis(1))) {
+            // Act
+            long deadline = System.nanoTime() + Duration.ofMillis(200).toNanos();
+            while (System.nanoTime() < deadline) {
+                Instant instant = clock.instant();
+                long millis = clock.millis();
+
+                // Assert
+                assertTrue(millis >= instant.toEpochMilli(), "millis() behind instant()");
+            }
+        }
+    }
+
+    @Test
+    void shouldReturnSameInstance_whenReadWithinOneTick() {
+        try (TickingClock clock = TickingClock.start(Duration.ofHours(1))) {
+            // Assert
+            assertSame(clock.instant(), clock.instant());
+        }
+    }
+
+    @Test
+    void shouldStopAdvancing_whenClosed() throws InterruptedException {
+        // Arrange
+        TickingClock clock = TickingClock.start(Duration.ofMillis(1));
+
+        // Act
+        clock.close();
+        Thread.sleep(20);
+        Instant frozen = clock.instant();
+        Thread.sleep(20);
+
+        // Assert
+        assertEquals(frozen, clock.instant());
+    }
+
+    @Test
+    void shouldShareTime_whenZoneChanged() {
+        try (TickingClock clock = TickingClock.start(Duration.ofHours(1))) {
+            // Act
+            Clock zoned = clock.withZone(ZoneId.of("Europe/Paris"));
+
+            // Assert
+            assertEquals(ZoneOffset.UTC, clock.getZone());
+            assertEquals(ZoneId.of("Europe/Paris"), zoned.getZone());
+            assertEquals(clock.instant(), zoned.instant());
+            assertSame(clock, clock.withZone(ZoneOffset.UTC));
+        }
+    }
+
+    @Test
+    void shouldReportGranularity_whenStarted() {
+        try (TickingClock clock = TickingClock.start(Duration.ofMillis(5))) {
+            assertEquals(Duration.ofMillis(5), clock.granularity());
+        }
+    }
+
+    @Test
+    void shouldThrowIllegalArgument_whenGranularityBelowOneMillisecond() {
+        assertThrows(IllegalArgumentException.class, () -> TickingClock.start(Duration.ofNanos(10)));
+    }
+
+    @Test
+    void shouldThrowNullPointer_whenGranularityIsNull() {
+        assertThrows(NullPointerException.class, () -> TickingClock.start(null));
+    }
+}
@@ -0,0 +1,178 @@
+package com.ecosystem.common.validation;
+
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.exception.FieldError;
+import com.ecosystem.common.exception.ValidationException;
+import com.ecosystem.common.util.StringUtils;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link UserDtoValidator}.
+ */
+class UserDtoValidatorTest {
+
+    private static final Instant CREATED = Instant.parse("2024-01-15T10:30:00Z");
+    private static final Instant UPDATED = Instant.parse("2024-02-01T08:00:00Z");
+
+    private static UserDto user(Long id, String username, String email, String fullName) {
+        return new UserDto(id, username, email, fullName, CREATED, UPDATED);
+    }
+
+    private static UserDto valid() {
+        return user(1L, "john.doe", "john.doe@example.com", "John Doe");
+    }
+
+    private static List<FieldError> errorsOf(Runnable validation) {
+        return assertThrows(ValidationException.class, validation::run).getFieldErrors();
+    }
+
+    @Test
+    void shouldAccept_whenAllConstraintsHold() {
+        // Arrange
+        UserDto dto = new UserDto(null, "a_b-c.9", "x@mail.example.org", "X", null, null);
+
+        // Act & Assert
+        assertTrue(UserDtoValidator.isValid(valid()));
+        assertTrue(UserDtoValidator.isValid(dto));
+        assertDoesNotThrow(() -> UserDtoValidator.validate(valid()));
+    }
+
+    @Test
+    void shouldReportRequired_whenFieldsNull() {
+        // Act
+        List<FieldError> errors = errorsOf(() -> UserDtoValidator.validate(user(null, null, null, null)));
+
+        // Assert
+        assertEquals(List.of(
+                new FieldError("username", "REQUIRED", "must not be null"),
+                new FieldError("email", "REQUIRED", "must not be null"),
+                new FieldError("fullName", "REQUIRED", "must not be null")), errors);
+    }
+
+    @Test
+    void shouldReportSize_whenUsernameTooShortOrTooLong() {
+        // Act
+        List<FieldError> shortErrors = errorsOf(() -> UserDtoValidator.validate(
+                user(1L, "ab", "a@b.io", "A")));
+        List<FieldError> longErrors = errorsOf(() -> UserDtoValidator.validate(
+                user(1L, "a".repeat(StringUtils.USERNAME_MAX_LENGTH + 1), "a@b.io", "A")));
+
+        // Assert
+        assertEquals("SIZE", shortErrors.get(0).code());
+        assertEquals("username", shortErrors.get(0).field());
+        assertEquals("SIZE", longErrors.get(0).code());
+    }
+
+    @Test
+    void shouldReportPattern_whenUsernameHasInvalidCharacters() {
+        // Act & Assert
+        for (String username : List.of("john doe", ".john", "-john", "jöhn", "john@doe")) {
+            List<FieldError> errors = errorsOf(() -> UserDtoValidator.validate(
+                    user(1L, username, "a@b.io", "A")));
+            assertEquals(List.of(new FieldError("username", "PATTERN", errors.get(0).message())), errors,
+                    username);
+        }
+    }
+
+    @Test
+    void shouldReportPattern_whenEmailMalformed() {
+        // Act & Assert
+        for (String email : List.of("", "john", "@example.com", "john@", "john@example",
+                "john@example.", "john@.example.com", "john@exa..mple.com", "jo hn@example.com",
+                "john@exa_mple.com", "john@@example.com")) {
+            List<FieldError> errors = errorsOf(() -> UserDtoValidator.validate(
+                    user(1L, "john", email, "John")));
+            assertEquals("email", errors.get(0).field(), email);
+            assertEquals("PATTERN", errors.get(0).code(), email);
+        }
+    }
+
+    @Test
+    void shouldReportSize_whenEmailTooLong() {
+        // Arrange
+        String email = "a".repeat(StringUtils.EMAIL_MAX_LENGTH) + "@b.io";
+
+        // Act
+        List<FieldError> errors = errorsOf(() -> UserDtoValidator.validate(user(1L, "john", email, "John")));
+
+        // Assert
+        assertEquals("SIZE", errors.get(0).code());
+    }
+
+    @Test
+    void shouldReportFullNameAndId_whenBlankNameAndNonPositiveId() {
+        // Act
+        List<FieldError> errors = errorsOf(() -> UserDtoValidator.validate(
+                user(0L, "john", "john@example.com", "  ")));
+
+        // Assert
+        assertEquals(List.of(
+                new FieldError("id", "POSITIVE", "must be positive"),
+                new FieldError("fullName", "REQUIRED", "must not be blank")), errors);
+    }
+
+    @Test
+    void shouldReportSize_whenFullNameTooLong() {
+        // Arrange
+        String fullName = "x".repeat(UserDtoValidator.FULL_NAME_MAX_LENGTH + 1);
+
+        // Act
+        List<FieldError> errors = errorsOf(() -> UserDtoValidator.validate(
+                user(1L, "john", "john@example.com", fullName)));
+
+        // Assert
+        assertEquals("SIZE", errors.get(0).code());
+        assertEquals("fullName", errors.get(0).field());
+    }
+
+    @Test
+    void shouldReportOrder_whenUpdatedBeforeCreated() {
+        // Arrange
+        UserDto dto = new UserDto(1L, "john", "john@example.com", "John", UPDATED, CREATED);
+
+        // Act
+        ValidationException ex = assertThrows(ValidationException.class, () -> UserDtoValidator.validate(dto));
+
+        // Assert
+        assertEquals(List.of(new FieldError("updatedAt", "ORDER", "must not be before createdAt")),
+                ex.getFieldErrors());
+        assertEquals("Validation failed: updatedAt: must not be before createdAt", ex.getMessage());
+        assertEquals(422, ex.getHttpStatus());
+    }
+
+    @Test
+    void shouldAcceptBatch_whenAllElementsValid() {
+        // Act & Assert
+        assertDoesNotThrow(() -> UserDtoValidator.validateAll(List.of(valid(), valid(), valid())));
+        assertDoesNotThrow(() -> UserDtoValidator.validateAll(List.of()));
+    }
+
+    @Test
+    void shouldAggregateIndexedErrors_whenBatchHasInvalidElements() {
+        // Arrange
+        List<UserDto> dtos = Arrays.asList(valid(), user(1L, "john", "bad", "John"), null,
+                user(-1L, "jo", "john@example.com", "John"));
+
+        // Act
+        ValidationException ex = assertThrows(ValidationException.class, () -> UserDtoValidator.validateAll(dtos));
+
+        // Assert
+        List<String> fields = ex.getFieldErrors().stream().map(FieldError::field).toList();
+        assertEquals(List.of("[1].email", "[2]", "[3].id", "[3].username"), fields);
+        assertEquals("Validation failed with 4 errors", ex.getMessage());
+    }
+
+    @Test
+    void shouldThrowNullPointerException_whenArgumentNull() {
+        // Act & Assert
+        assertThrows(NullPointerException.class, () -> UserDtoValidator.validate(null));
+        assertThrows(NullPointerException.class, () -> UserDtoValidator.isValid(null));
+        assertThrows(NullPointerException.class, () -> UserDtoValidator.validateAll(null));
+    }
+}